@@ -0,0 +1,89 @@
+#!/usr/bin/env bash
+#
+# Compara a vazão e a latência de GET /stocks (página avulsa, sempre consultada no product-service)
+# com as requisições atendidas por platform threads (pool do Tomcat, 200 threads) e por virtual threads,
+# com a mesma latência no product-service.
+#
+# Uso: bench/load-comparison.sh [latência do product-service em ms] [conexões simultâneas] [duração]
+#      (padrão: 200 500 30s)
+# Requisitos: docker, curl. O product-service é substituído por um stub WireMock e a carga é gerada com hey.
+
+set -euo pipefail
+
+UPSTREAM_DELAY_MS="${1:-200}"
+CONCURRENCY="${2:-500}"
+DURATION="${3:-30s}"
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+NETWORK="stock-load"
+STUB="stock-load-product-service"
+APP="stock-load-app"
+STUB_PORT=18080
+URL="http://$APP:8082/stocks?page=0&size=20"
+
+cleanup() {
+  docker rm -f "$APP" "$STUB" >/dev/null 2>&1 || true
+  docker network rm "$NETWORK" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+echo "==> Construindo imagem"
+docker build -q -t stock-query-service:default -f "$ROOT_DIR/Dockerfile" "$ROOT_DIR" >/dev/null
+
+echo "==> Subindo stub do product-service (latência: ${UPSTREAM_DELAY_MS}ms)"
+docker network create "$NETWORK" >/dev/null
+# Respostas assíncronas: o atraso do stub não ocupa threads do próprio WireMock
+docker run -d --name "$STUB" --network "$NETWORK" -p "$STUB_PORT:8080" \
+  -v "$ROOT_DIR/bench/wiremock:/home/wiremock:ro" \
+  wiremock/wiremock:3.9.1 \
+  --async-response-enabled=true --async-response-threads=100 --container-threads=500 --no-request-journal >/dev/null
+until curl -fs -o /dev/null "http://localhost:$STUB_PORT/__admin/health"; do sleep 0.2; done
+curl -fs -o /dev/null -X POST -H "Content-Type: application/json" \
+  -d "{\"fixedDelay\": $UPSTREAM_DELAY_MS}" "http://localhost:$STUB_PORT/__admin/settings"
+
+# Mesmos limites nos dois modos: limitador adaptativo desligado e bulkhead de páginas folgado,
+# para que a diferença medida seja apenas o modelo de threads
+run_load() {
+  local virtual="$1"
+  docker rm -f "$APP" >/dev/null 2>&1 || true
+  docker run -d --name "$APP" --network "$NETWORK" \
+    -e PRODUCT_SERVICE_URL="http://$STUB:8080" \
+    -e SPRING_THREADS_VIRTUAL_ENABLED="$virtual" \
+    -e STOCK_UPSTREAM_LIMITER_ENABLED=false \
+    -e STOCK_BULKHEAD_PAGE_MAX_CONCURRENT=100000 \
+    -e STOCK_BULKHEAD_PAGE_MAX_QUEUE=0 \
+    -e STOCK_DEADLINE_DEFAULT_MS=60000 \
+    -e STOCK_WARMUP_ENABLED=false \
+    -e STOCK_SNAPSHOT_ENABLED=false \
+    -e STOCK_CATALOG_REFRESH_ENABLED=false \
+    -e LOGGING_LEVEL_COM_TECHSOLUTION_STOCKQUERY=WARN \
+    -e LOGGING_LEVEL_COM_TECHSOLUTION_STOCKQUERY_INFRASTRUCTURE_CLIENT=WARN \
+    -e LOGGING_LEVEL_FEIGN=WARN \
+    stock-query-service:default >/dev/null
+  until docker run --rm --network "$NETWORK" curlimages/curl:8.10.1 -fs -o /dev/null "$URL" 2>/dev/null; do sleep 0.5; done
+
+  # Aquecimento do JIT e das conexões antes da medição
+  docker run --rm --network "$NETWORK" williamyeh/hey -z 5s -c "$CONCURRENCY" "$URL" >/dev/null
+  docker run --rm --network "$NETWORK" williamyeh/hey -z "$DURATION" -c "$CONCURRENCY" "$URL"
+  docker rm -f "$APP" >/dev/null
+}
+
+summarize() {
+  local name="$1"
+  awk -v name="$name" '
+    /Requests\/sec:/ { rps = $2 }
+    /50% in/ { p50 = $3 * 1000 }
+    /99% in/ { p99 = $3 * 1000 }
+    /\[200\]/ { ok = $2 }
+    /\[[0-9]+\]/ && !/\[200\]/ { errors += $2 }
+    END { printf "%-10s %10.0f %10.0f %10.0f %10d %10d\n", name, rps, p50, p99, ok, errors }'
+}
+
+echo "==> Medindo com platform threads"
+platform="$(run_load false)"
+echo "==> Medindo com virtual threads"
+virtual="$(run_load true)"
+
+printf "\nlatência do product-service: %sms, conexões: %s, duração: %s\n" "$UPSTREAM_DELAY_MS" "$CONCURRENCY" "$DURATION"
+printf "%-10s %10s %10s %10s %10s %10s\n" "modo" "req/s" "p50(ms)" "p99(ms)" "200" "erros"
+echo "$platform" | summarize platform
+echo "$virtual" | summarize virtual
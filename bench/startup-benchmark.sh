@@ -0,0 +1,66 @@
+#!/usr/bin/env bash
+#
+# Compara o tempo até a primeira resposta bem-sucedida de GET /stocks/{id} entre a imagem
+# padrão (java -jar app.jar) e a imagem fast-startup (AOT + CDS).
+#
+# Uso: bench/startup-benchmark.sh [execuções por imagem]   (padrão: 5)
+# Requisitos: docker, curl. O product-service é substituído por um stub WireMock.
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+NETWORK="stock-bench"
+STUB="stock-bench-product-service"
+APP="stock-bench-app"
+PORT=18082
+PRODUCT_ID="11111111-1111-1111-1111-111111111111"
+
+cleanup() {
+  docker rm -f "$APP" "$STUB" >/dev/null 2>&1 || true
+  docker network rm "$NETWORK" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+now_ms() {
+  date +%s%3N
+}
+
+echo "==> Construindo imagens"
+docker build -q -t stock-query-service:default -f "$ROOT_DIR/Dockerfile" "$ROOT_DIR" >/dev/null
+docker build -q -t stock-query-service:fast-startup -f "$ROOT_DIR/Dockerfile.fast-startup" "$ROOT_DIR" >/dev/null
+
+echo "==> Subindo stub do product-service"
+docker network create "$NETWORK" >/dev/null
+docker run -d --name "$STUB" --network "$NETWORK" \
+  -v "$ROOT_DIR/bench/wiremock:/home/wiremock:ro" \
+  wiremock/wiremock:3.9.1 >/dev/null
+until docker exec "$STUB" wget -qO- "http://localhost:8080/__admin/health" >/dev/null 2>&1; do sleep 0.2; done
+
+# Mede do "docker run" até o primeiro 200 em /stocks/{id}, em ms
+measure() {
+  local image="$1"
+  docker rm -f "$APP" >/dev/null 2>&1 || true
+  local start
+  start="$(now_ms)"
+  docker run -d --name "$APP" --network "$NETWORK" -p "$PORT:8082" \
+    -e PRODUCT_SERVICE_URL="http://$STUB:8080" \
+    -e STOCK_WARMUP_ENABLED=false \
+    -e STOCK_SNAPSHOT_ENABLED=false \
+    -e STOCK_CATALOG_REFRESH_ENABLED=false \
+    "$image" >/dev/null
+  until curl -fs -o /dev/null "http://localhost:$PORT/stocks/$PRODUCT_ID"; do sleep 0.05; done
+  echo $(( $(now_ms) - start ))
+  docker rm -f "$APP" >/dev/null
+}
+
+printf "\n%-16s %8s %8s %8s\n" "imagem" "mín(ms)" "méd(ms)" "máx(ms)"
+for image in default fast-startup; do
+  results=()
+  for ((i = 1; i <= RUNS; i++)); do
+    results+=("$(measure "stock-query-service:$image")")
+  done
+  printf "%s\n" "${results[@]}" | awk -v name="$image" '
+    { sum += $1; if (min == "" || $1 < min) min = $1; if ($1 > max) max = $1 }
+    END { printf "%-16s %8d %8d %8d\n", name, min, sum / NR, max }'
+done
@@ -0,0 +1,51 @@
+package com.techsolution.stockquery.application.dto;
+
+import java.util.List;
+
+/**
+ * Lote de invalidações trocado entre réplicas
+ */
+public class CacheInvalidationBatchDTO {
+    private String origin;
+    private boolean invalidateAll;
+    private List<CacheInvalidationDTO> invalidations;
+
+    public CacheInvalidationBatchDTO() {
+    }
+
+    public CacheInvalidationBatchDTO(String origin, boolean invalidateAll, List<CacheInvalidationDTO> invalidations) {
+        this.origin = origin;
+        this.invalidateAll = invalidateAll;
+        this.invalidations = invalidations;
+    }
+
+    /**
+     * URL da réplica que enviou o lote
+     */
+    public String getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+
+    /**
+     * Indica que a réplica de origem descartou invalidações (fila cheia) e o cache inteiro deve ser limpo
+     */
+    public boolean isInvalidateAll() {
+        return invalidateAll;
+    }
+
+    public void setInvalidateAll(boolean invalidateAll) {
+        this.invalidateAll = invalidateAll;
+    }
+
+    public List<CacheInvalidationDTO> getInvalidations() {
+        return invalidations;
+    }
+
+    public void setInvalidations(List<CacheInvalidationDTO> invalidations) {
+        this.invalidations = invalidations;
+    }
+}
@@ -0,0 +1,38 @@
+package com.techsolution.stockquery.application.dto;
+
+import java.util.UUID;
+
+/**
+ * Invalidação de um produto no cache das réplicas
+ */
+public class CacheInvalidationDTO {
+    private UUID productId;
+    private Long version;
+
+    public CacheInvalidationDTO() {
+    }
+
+    public CacheInvalidationDTO(UUID productId, Long version) {
+        this.productId = productId;
+        this.version = version;
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public void setProductId(UUID productId) {
+        this.productId = productId;
+    }
+
+    /**
+     * Versão do evento que originou a invalidação
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
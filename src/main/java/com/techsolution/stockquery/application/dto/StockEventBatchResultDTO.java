@@ -0,0 +1,86 @@
+package com.techsolution.stockquery.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado do processamento de um lote de eventos de estoque
+ */
+public class StockEventBatchResultDTO {
+    private int received;
+    private int applied;
+    private int duplicates;
+    private int stale;
+    private int invalid;
+    private List<UUID> unknownProductIds;
+
+    public StockEventBatchResultDTO() {
+    }
+
+    public StockEventBatchResultDTO(int received, int applied, int duplicates, int stale, int invalid,
+                                    List<UUID> unknownProductIds) {
+        this.received = received;
+        this.applied = applied;
+        this.duplicates = duplicates;
+        this.stale = stale;
+        this.invalid = invalid;
+        this.unknownProductIds = unknownProductIds;
+    }
+
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getApplied() {
+        return applied;
+    }
+
+    public void setApplied(int applied) {
+        this.applied = applied;
+    }
+
+    /**
+     * Eventos com a mesma versão já aplicada (reenvios, ignorados)
+     */
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(int duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    /**
+     * Eventos com versão anterior à já aplicada (fora de ordem, ignorados)
+     */
+    public int getStale() {
+        return stale;
+    }
+
+    public void setStale(int stale) {
+        this.stale = stale;
+    }
+
+    public int getInvalid() {
+        return invalid;
+    }
+
+    public void setInvalid(int invalid) {
+        this.invalid = invalid;
+    }
+
+    /**
+     * Produtos ainda desconhecidos localmente; serão obtidos na próxima carga completa
+     */
+    public List<UUID> getUnknownProductIds() {
+        return unknownProductIds;
+    }
+
+    public void setUnknownProductIds(List<UUID> unknownProductIds) {
+        this.unknownProductIds = unknownProductIds;
+    }
+}
@@ -0,0 +1,59 @@
+package com.techsolution.stockquery.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento de alteração de estoque enviado pelo product-service (ou publicador local)
+ */
+public class StockEventDTO {
+    private UUID productId;
+    private Integer stockQuantity;
+    private Long version;
+    private LocalDateTime timestamp;
+
+    public StockEventDTO() {
+    }
+
+    public StockEventDTO(UUID productId, Integer stockQuantity, Long version, LocalDateTime timestamp) {
+        this.productId = productId;
+        this.stockQuantity = stockQuantity;
+        this.version = version;
+        this.timestamp = timestamp;
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public void setProductId(UUID productId) {
+        this.productId = productId;
+    }
+
+    public Integer getStockQuantity() {
+        return stockQuantity;
+    }
+
+    public void setStockQuantity(Integer stockQuantity) {
+        this.stockQuantity = stockQuantity;
+    }
+
+    /**
+     * Versão monotônica do estoque do produto na origem
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+}
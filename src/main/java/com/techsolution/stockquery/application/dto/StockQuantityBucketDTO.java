@@ -0,0 +1,46 @@
+package com.techsolution.stockquery.application.dto;
+
+/**
+ * Faixa do histograma de quantidades: produtos com quantidade entre {@code from} e {@code to} (inclusive)
+ */
+public class StockQuantityBucketDTO {
+    private Integer from;
+    private Integer to;
+    private Long count;
+
+    public StockQuantityBucketDTO() {
+    }
+
+    public StockQuantityBucketDTO(Integer from, Integer to, Long count) {
+        this.from = from;
+        this.to = to;
+        this.count = count;
+    }
+
+    public Integer getFrom() {
+        return from;
+    }
+
+    public void setFrom(Integer from) {
+        this.from = from;
+    }
+
+    /**
+     * Limite superior da faixa ({@code null} na última faixa, sem limite)
+     */
+    public Integer getTo() {
+        return to;
+    }
+
+    public void setTo(Integer to) {
+        this.to = to;
+    }
+
+    public Long getCount() {
+        return count;
+    }
+
+    public void setCount(Long count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,116 @@
+package com.techsolution.stockquery.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Totais do estoque calculados sobre o catálogo local
+ */
+public class StockSummaryDTO {
+    private Long productCount;
+    private Long totalUnits;
+    private Long belowMinimumCount;
+    private Integer minimumStockLimit;
+    private Long productsWithoutQuantity;
+    private Long productsWithoutPrice;
+    private BigDecimal inventoryValue;
+    private List<StockQuantityBucketDTO> quantityHistogram;
+    private Boolean catalogLoaded;
+    private LocalDateTime generatedAt;
+
+    public StockSummaryDTO() {
+    }
+
+    public Long getProductCount() {
+        return productCount;
+    }
+
+    public void setProductCount(Long productCount) {
+        this.productCount = productCount;
+    }
+
+    /**
+     * Soma das quantidades disponíveis de todos os produtos
+     */
+    public Long getTotalUnits() {
+        return totalUnits;
+    }
+
+    public void setTotalUnits(Long totalUnits) {
+        this.totalUnits = totalUnits;
+    }
+
+    public Long getBelowMinimumCount() {
+        return belowMinimumCount;
+    }
+
+    public void setBelowMinimumCount(Long belowMinimumCount) {
+        this.belowMinimumCount = belowMinimumCount;
+    }
+
+    public Integer getMinimumStockLimit() {
+        return minimumStockLimit;
+    }
+
+    public void setMinimumStockLimit(Integer minimumStockLimit) {
+        this.minimumStockLimit = minimumStockLimit;
+    }
+
+    public Long getProductsWithoutQuantity() {
+        return productsWithoutQuantity;
+    }
+
+    public void setProductsWithoutQuantity(Long productsWithoutQuantity) {
+        this.productsWithoutQuantity = productsWithoutQuantity;
+    }
+
+    /**
+     * Produtos sem preço informado, que não entram no valor do inventário
+     */
+    public Long getProductsWithoutPrice() {
+        return productsWithoutPrice;
+    }
+
+    public void setProductsWithoutPrice(Long productsWithoutPrice) {
+        this.productsWithoutPrice = productsWithoutPrice;
+    }
+
+    /**
+     * Soma de preço × quantidade de todos os produtos, com duas casas decimais
+     */
+    public BigDecimal getInventoryValue() {
+        return inventoryValue;
+    }
+
+    public void setInventoryValue(BigDecimal inventoryValue) {
+        this.inventoryValue = inventoryValue;
+    }
+
+    public List<StockQuantityBucketDTO> getQuantityHistogram() {
+        return quantityHistogram;
+    }
+
+    public void setQuantityHistogram(List<StockQuantityBucketDTO> quantityHistogram) {
+        this.quantityHistogram = quantityHistogram;
+    }
+
+    /**
+     * Indica se o catálogo já recebeu uma carga completa; antes disso os totais são parciais
+     */
+    public Boolean getCatalogLoaded() {
+        return catalogLoaded;
+    }
+
+    public void setCatalogLoaded(Boolean catalogLoaded) {
+        this.catalogLoaded = catalogLoaded;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+}
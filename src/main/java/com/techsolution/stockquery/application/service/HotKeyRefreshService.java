@@ -0,0 +1,109 @@
+package com.techsolution.stockquery.application.service;
+
+import com.techsolution.stockquery.infrastructure.cache.StockCache;
+import com.techsolution.stockquery.infrastructure.client.StockPeers;
+import com.techsolution.stockquery.infrastructure.hotkeys.HotKey;
+import com.techsolution.stockquery.infrastructure.hotkeys.HotKeyTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Recarrega do product-service, antes da expiração no cache, os produtos mais consultados
+ * ({@link HotKeyTracker}), evitando que a expiração de um produto muito procurado gere um pico de
+ * latência e uma rajada de consultas ao product-service.
+ *
+ * A cada {@code stock.hotkeys.refresh-interval-ms}, os produtos do top-K que esta réplica atende
+ * (as demais réplicas buscam na dona) e que expiram em menos de {@code stock.hotkeys.refresh-ahead-ms}
+ * são recarregados em paralelo, sujeitos ao bulkhead de consultas pontuais e ao limitador de
+ * concorrência. Produtos fora do cache não são carregados.
+ */
+@Service
+public class HotKeyRefreshService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HotKeyRefreshService.class);
+
+    private final HotKeyTracker hotKeys;
+    private final StockCache stockCache;
+    private final StockPeers stockPeers;
+    private final StockQueryService stockQueryService;
+    private final boolean enabled;
+    private final long refreshAheadMs;
+    private final Counter refreshed;
+    private final Counter failed;
+
+    public HotKeyRefreshService(HotKeyTracker hotKeys, StockCache stockCache, StockPeers stockPeers,
+                                StockQueryService stockQueryService, MeterRegistry meterRegistry,
+                                @Value("${stock.hotkeys.refresh.enabled:true}") boolean enabled,
+                                @Value("${stock.hotkeys.refresh-ahead-ms:10000}") long refreshAheadMs) {
+        this.hotKeys = hotKeys;
+        this.stockCache = stockCache;
+        this.stockPeers = stockPeers;
+        this.stockQueryService = stockQueryService;
+        this.enabled = enabled;
+        this.refreshAheadMs = refreshAheadMs;
+        this.refreshed = Counter.builder("stock.hotkeys.refreshes")
+                .description("Produtos mais consultados recarregados antes de expirar no cache")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failed = Counter.builder("stock.hotkeys.refreshes")
+                .description("Produtos mais consultados recarregados antes de expirar no cache")
+                .tag("result", "failure")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Recarrega os produtos do top-K próximos da expiração
+     *
+     * @return quantidade de produtos recarregados com sucesso
+     */
+    @Scheduled(fixedDelayString = "${stock.hotkeys.refresh-interval-ms:5000}")
+    public int refreshExpiring() {
+        if (!enabled) {
+            return 0;
+        }
+        List<UUID> expiring = hotKeys.topK().stream()
+                .map(HotKey::getProductId)
+                .filter(productId -> stockPeers.remoteOwnerOf(productId).isEmpty())
+                .filter(this::expiresSoon)
+                .toList();
+        if (expiring.isEmpty()) {
+            return 0;
+        }
+        long startTime = System.currentTimeMillis();
+        AtomicInteger successes = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (UUID productId : expiring) {
+                executor.execute(() -> {
+                    try {
+                        stockQueryService.refreshOwned(productId);
+                        refreshed.increment();
+                        successes.incrementAndGet();
+                    } catch (Exception e) {
+                        failed.increment();
+                        logger.warn("Falha ao recarregar produto mais consultado {}: {}", productId, e.getMessage());
+                    }
+                });
+            }
+        }
+        logger.info("Produtos mais consultados recarregados antes de expirar: {} de {} - Tempo: {}ms",
+                successes.get(), expiring.size(), System.currentTimeMillis() - startTime);
+        return successes.get();
+    }
+
+    private boolean expiresSoon(UUID productId) {
+        OptionalLong remainingMs = stockCache.remainingTtlMillis(productId);
+        return remainingMs.isPresent() && remainingMs.getAsLong() < refreshAheadMs;
+    }
+}
@@ -0,0 +1,218 @@
+package com.techsolution.stockquery.application.service;
+
+import com.techsolution.stockquery.application.dto.CacheInvalidationBatchDTO;
+import com.techsolution.stockquery.application.dto.CacheInvalidationDTO;
+import com.techsolution.stockquery.application.dto.StockEventDTO;
+import com.techsolution.stockquery.infrastructure.cache.StockCache;
+import com.techsolution.stockquery.infrastructure.client.PeerClient;
+import com.techsolution.stockquery.infrastructure.client.StockPeers;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Propaga invalidações do cache de consultas pontuais entre as réplicas do serviço.
+ *
+ * Cada evento recebido via push (ver {@link StockEventIngestionService}) chega a apenas uma
+ * réplica; as demais continuariam servindo o valor em cache até o TTL expirar. As invalidações
+ * são acumuladas numa fila limitada (uma por produto, mantendo a maior versão) e enviadas em
+ * lotes para a lista estática de réplicas ({@link StockPeers}). O envio é best-effort: falhas são
+ * registradas e contadas, sem retentativa - o TTL do cache limita o tempo de inconsistência.
+ * Quando a fila enche, as invalidações excedentes são descartadas e o próximo lote pede às
+ * réplicas que limpem o cache inteiro.
+ */
+@Service
+public class PeerInvalidationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PeerInvalidationService.class);
+
+    private final PeerClient peerClient;
+    private final StockCache stockCache;
+    private final StockEventIngestionService stockEventIngestionService;
+    private final List<URI> peers;
+    private final String selfUrl;
+    private final int queueCapacity;
+    private final int maxBatchSize;
+
+    private final ConcurrentHashMap<UUID, Long> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+
+    private final Counter sentCounter;
+    private final Counter receivedCounter;
+    private final Counter droppedCounter;
+    private final Counter failureCounter;
+
+    public PeerInvalidationService(PeerClient peerClient,
+                                   StockCache stockCache,
+                                   StockEventIngestionService stockEventIngestionService,
+                                   StockPeers stockPeers,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${stock.peers.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${stock.peers.max-batch-size:500}") int maxBatchSize) {
+        this.peerClient = peerClient;
+        this.stockCache = stockCache;
+        this.stockEventIngestionService = stockEventIngestionService;
+        this.selfUrl = stockPeers.getSelf() != null ? stockPeers.getSelf().toString() : "";
+        this.peers = stockPeers.getOthers();
+        this.queueCapacity = queueCapacity;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+
+        this.sentCounter = Counter.builder("stock.peers.invalidations.sent")
+                .description("Invalidações enviadas às demais réplicas (por réplica)")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("stock.peers.invalidations.received")
+                .description("Invalidações recebidas de outras réplicas")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("stock.peers.invalidations.dropped")
+                .description("Invalidações descartadas por fila cheia")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("stock.peers.invalidations.failures")
+                .description("Lotes de invalidação que falharam ao ser enviados")
+                .register(meterRegistry);
+        Gauge.builder("stock.peers.invalidations.pending", pending, Map::size)
+                .description("Invalidações aguardando envio")
+                .register(meterRegistry);
+
+        if (!peers.isEmpty()) {
+            stockEventIngestionService.subscribe(this::enqueue);
+        }
+        logger.info("Invalidação entre réplicas - esta réplica: {}, réplicas: {}",
+                this.selfUrl.isEmpty() ? "(não configurada)" : this.selfUrl, peers);
+    }
+
+    /**
+     * Agenda a invalidação do produto nas demais réplicas. Eventos do mesmo produto ainda não
+     * enviados são combinados, mantendo a maior versão.
+     */
+    void enqueue(StockEventDTO event) {
+        UUID productId = event.getProductId();
+        if (pending.size() >= queueCapacity && !pending.containsKey(productId)) {
+            droppedCounter.increment();
+            if (overflowed.compareAndSet(false, true)) {
+                logger.warn("Fila de invalidações cheia ({}) - réplicas limparão o cache inteiro", queueCapacity);
+            }
+            return;
+        }
+        pending.merge(productId, event.getVersion(), Math::max);
+    }
+
+    /**
+     * Envia as invalidações pendentes para todas as réplicas, em paralelo
+     */
+    @Scheduled(fixedDelayString = "${stock.peers.flush-interval-ms:100}")
+    public void flush() {
+        if (peers.isEmpty() || (pending.isEmpty() && !overflowed.get())) {
+            return;
+        }
+        boolean invalidateAll = overflowed.getAndSet(false);
+        List<CacheInvalidationDTO> drained = drain();
+
+        List<CacheInvalidationBatchDTO> batches = new ArrayList<>();
+        if (invalidateAll) {
+            // Produtos descartados são desconhecidos: o lote pede a limpeza completa
+            batches.add(new CacheInvalidationBatchDTO(selfUrl, true, List.of()));
+        } else {
+            for (int from = 0; from < drained.size(); from += maxBatchSize) {
+                List<CacheInvalidationDTO> items = drained.subList(from, Math.min(drained.size(), from + maxBatchSize));
+                batches.add(new CacheInvalidationBatchDTO(selfUrl, false, items));
+            }
+        }
+
+        long startTime = System.currentTimeMillis();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (URI peer : peers) {
+                executor.execute(() -> send(peer, batches));
+            }
+        }
+        logger.debug("Invalidações enviadas - itens: {}, limpeza completa: {}, réplicas: {}, Tempo: {}ms",
+                drained.size(), invalidateAll, peers.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Aplica um lote recebido de outra réplica. Produtos cuja versão local já é igual ou mais nova
+     * (o evento também chegou aqui) são mantidos. O lote nunca é repassado adiante.
+     */
+    public void receive(CacheInvalidationBatchDTO batch) {
+        if (batch.getOrigin() != null && !selfUrl.isEmpty() && isSelf(batch.getOrigin())) {
+            return;
+        }
+        if (batch.isInvalidateAll()) {
+            logger.warn("Réplica {} solicitou limpeza completa do cache", batch.getOrigin());
+            stockCache.invalidateAll();
+            receivedCounter.increment();
+            return;
+        }
+        if (batch.getInvalidations() == null) {
+            return;
+        }
+        int invalidated = 0;
+        for (CacheInvalidationDTO item : batch.getInvalidations()) {
+            if (item == null || item.getProductId() == null) {
+                continue;
+            }
+            Long appliedVersion = stockEventIngestionService.getAppliedVersion(item.getProductId());
+            if (appliedVersion != null && item.getVersion() != null && appliedVersion >= item.getVersion()) {
+                continue;
+            }
+            stockCache.invalidate(item.getProductId());
+            invalidated++;
+        }
+        receivedCounter.increment(batch.getInvalidations().size());
+        logger.debug("Invalidações recebidas de {} - itens: {}, invalidados: {}",
+                batch.getOrigin(), batch.getInvalidations().size(), invalidated);
+    }
+
+    public List<URI> getPeers() {
+        return peers;
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private List<CacheInvalidationDTO> drain() {
+        List<CacheInvalidationDTO> drained = new ArrayList<>(pending.size());
+        Iterator<Map.Entry<UUID, Long>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Long> entry = iterator.next();
+            // remove(key, value) preserva uma versão mais nova enfileirada durante a drenagem
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                drained.add(new CacheInvalidationDTO(entry.getKey(), entry.getValue()));
+            }
+        }
+        return drained;
+    }
+
+    private void send(URI peer, List<CacheInvalidationBatchDTO> batches) {
+        for (CacheInvalidationBatchDTO batch : batches) {
+            try {
+                peerClient.sendInvalidations(peer, batch);
+                sentCounter.increment(batch.isInvalidateAll() ? 1 : batch.getInvalidations().size());
+            } catch (Exception e) {
+                failureCounter.increment();
+                logger.warn("Falha ao enviar invalidações para {}: {}", peer, e.getMessage());
+            }
+        }
+    }
+
+    private boolean isSelf(String origin) {
+        String trimmed = origin.trim();
+        return (trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed).equals(selfUrl);
+    }
+}
@@ -0,0 +1,157 @@
+package com.techsolution.stockquery.application.service;
+
+import com.techsolution.stockquery.domain.model.StockFilter;
+import com.techsolution.stockquery.domain.model.StockView;
+import com.techsolution.stockquery.infrastructure.catalog.CatalogEntry;
+import com.techsolution.stockquery.infrastructure.catalog.StockCatalog;
+import com.techsolution.stockquery.infrastructure.client.PageResponse;
+import com.techsolution.stockquery.infrastructure.search.ProductNameSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Mantém o catálogo local de estoques sincronizado com o product-service e
+ * responde consultas filtradas/ordenadas a partir dele.
+ */
+@Service
+public class StockCatalogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockCatalogService.class);
+    private static final int CRAWL_PAGE_SIZE = 100;
+
+    private final StockQueryService stockQueryService;
+    private final StockCatalog stockCatalog;
+    private final ProductNameSearchIndex productNameSearchIndex;
+    private final boolean refreshEnabled;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile long scheduledRefreshNotBefore;
+
+    public StockCatalogService(StockQueryService stockQueryService,
+                               StockCatalog stockCatalog,
+                               ProductNameSearchIndex productNameSearchIndex,
+                               @Value("${stock.catalog.refresh.enabled:true}") boolean refreshEnabled) {
+        this.stockQueryService = stockQueryService;
+        this.stockCatalog = stockCatalog;
+        this.productNameSearchIndex = productNameSearchIndex;
+        this.refreshEnabled = refreshEnabled;
+    }
+
+    /**
+     * Atualização periódica do catálogo local
+     */
+    @Scheduled(initialDelayString = "${stock.catalog.refresh.initial-delay-ms:0}",
+            fixedDelayString = "${stock.catalog.refresh.interval-ms:60000}")
+    public void scheduledRefresh() {
+        if (!refreshEnabled || System.currentTimeMillis() < scheduledRefreshNotBefore) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            logger.error("Falha na atualização periódica do catálogo local: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Adia a atualização periódica (ex: catálogo restaurado de snapshot e reconciliado à parte)
+     */
+    public void deferScheduledRefresh(long delayMs) {
+        scheduledRefreshNotBefore = System.currentTimeMillis() + delayMs;
+    }
+
+    public boolean isRefreshEnabled() {
+        return refreshEnabled;
+    }
+
+    /**
+     * Recarrega o catálogo completo a partir do product-service.
+     * Chamadas concorrentes aguardam a carga em andamento em vez de iniciar outra.
+     */
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            long startTime = System.currentTimeMillis();
+            logger.info("--- Atualizando catálogo local de estoques ---");
+
+            List<StockView> allStocks = stockQueryService.findAllStocks(0, CRAWL_PAGE_SIZE);
+            stockCatalog.replaceAll(allStocks.stream().map(CatalogEntry::from).toList());
+
+            logger.info("--- Catálogo local atualizado - {} produtos, Tempo: {}ms ---",
+                    stockCatalog.size(), System.currentTimeMillis() - startTime);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Substitui o catálogo por estoques já obtidos do product-service (ex: carga paralela do warm-up)
+     */
+    public void load(List<StockView> stocks) {
+        refreshLock.lock();
+        try {
+            stockCatalog.replaceAll(stocks.stream().map(CatalogEntry::from).toList());
+            logger.info("--- Catálogo local carregado - {} produtos ---", stockCatalog.size());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Busca estoques no catálogo local aplicando filtros e ordenação.
+     * Se o catálogo ainda não foi carregado, faz a carga antes de responder.
+     */
+    public PageResponse<StockView> findStocks(StockFilter filter, int page, int size) {
+        long startTime = System.currentTimeMillis();
+        logger.info("--- Consulta filtrada no catálogo local ---");
+        logger.info("Filtro: {}, page: {}, size: {}", filter, page, size);
+
+        ensureLoaded();
+        PageResponse<StockView> result = stockCatalog.find(filter, page, size);
+
+        logger.info("Consulta filtrada concluída - {} de {} estoques, Tempo: {}ms",
+                result.getContent().size(), result.getTotalElements(), System.currentTimeMillis() - startTime);
+        return result;
+    }
+
+    /**
+     * Busca produtos pelo nome no índice de trigramas (ignora maiúsculas e acentos)
+     *
+     * @param query Texto buscado (mínimo de 2 caracteres)
+     * @param limit Número máximo de resultados
+     * @return Estoques cujo nome contém o texto, ordenados por nome
+     */
+    public List<StockView> searchByName(String query, int limit) {
+        long startNanos = System.nanoTime();
+        ensureLoaded();
+
+        List<StockView> result = productNameSearchIndex.search(query, limit).stream()
+                .map(CatalogEntry::toStockView)
+                .toList();
+
+        logger.info("Busca por nome '{}' - {} resultados, Tempo: {}µs",
+                query, result.size(), (System.nanoTime() - startNanos) / 1000);
+        return result;
+    }
+
+    private void ensureLoaded() {
+        if (stockCatalog.isLoaded()) {
+            return;
+        }
+        logger.info("Catálogo local ainda não carregado. Carregando do product-service...");
+        refreshLock.lock();
+        try {
+            if (!stockCatalog.isLoaded()) {
+                refresh();
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.techsolution.stockquery.application.service;
+
+import com.techsolution.stockquery.application.dto.StockEventBatchResultDTO;
+import com.techsolution.stockquery.application.dto.StockEventDTO;
+import com.techsolution.stockquery.infrastructure.cache.StockCache;
+import com.techsolution.stockquery.infrastructure.catalog.StockCatalog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Aplica eventos de alteração de estoque recebidos via push ao estado local
+ * (catálogo e cache de consultas pontuais), sem esperar a próxima carga completa.
+ *
+ * A ordem é garantida por produto pela versão do evento: a verificação e a aplicação
+ * acontecem dentro do {@code compute} do mapa de versões, que bloqueia apenas o bin do
+ * produto, de forma que lotes concorrentes de produtos diferentes não se bloqueiam.
+ * Eventos com versão igual à aplicada são reenvios (idempotentes) e com versão menor
+ * chegaram fora de ordem; ambos são ignorados.
+ *
+ * A versão de um produto só é mantida enquanto ele está no catálogo ou no cache: a limpeza
+ * periódica descarta as de produtos removidos ou descartados, mantendo o mapa do tamanho
+ * do estado local.
+ */
+@Service
+public class StockEventIngestionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockEventIngestionService.class);
+
+    private enum Outcome { APPLIED, DUPLICATE, STALE, UNKNOWN }
+
+    private final StockCatalog stockCatalog;
+    private final StockCache stockCache;
+    private final int maxBatchSize;
+    private final ConcurrentHashMap<UUID, Long> appliedVersions = new ConcurrentHashMap<>();
+    private final List<Consumer<StockEventDTO>> listeners = new CopyOnWriteArrayList<>();
+
+    public StockEventIngestionService(StockCatalog stockCatalog,
+                                      StockCache stockCache,
+                                      @Value("${stock.events.max-batch-size:5000}") int maxBatchSize) {
+        this.stockCatalog = stockCatalog;
+        this.stockCache = stockCache;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Registra um assinante notificado a cada evento novo - aplicado localmente ou de produto
+     * desconhecido aqui, mas possivelmente presente em outras réplicas
+     */
+    public void subscribe(Consumer<StockEventDTO> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Processa um lote de eventos. Dentro do lote, apenas a maior versão de cada produto é aplicada.
+     *
+     * @param events Eventos recebidos
+     * @return Contagem de eventos aplicados, duplicados, fora de ordem, inválidos e produtos desconhecidos
+     * @throws IllegalArgumentException quando o lote excede o tamanho máximo
+     */
+    public StockEventBatchResultDTO ingest(List<StockEventDTO> events) {
+        long startNanos = System.nanoTime();
+        if (events.size() > maxBatchSize) {
+            throw new IllegalArgumentException(
+                    "Lote com " + events.size() + " eventos excede o máximo de " + maxBatchSize);
+        }
+
+        int invalid = 0;
+        int duplicates = 0;
+        int stale = 0;
+        Map<UUID, StockEventDTO> latest = new HashMap<>(events.size() * 2);
+        for (StockEventDTO event : events) {
+            if (!isValid(event)) {
+                invalid++;
+                continue;
+            }
+            StockEventDTO other = latest.get(event.getProductId());
+            if (other == null || other.getVersion() < event.getVersion()) {
+                latest.put(event.getProductId(), event);
+                if (other != null) {
+                    stale++;
+                }
+            } else if (other.getVersion().equals(event.getVersion())) {
+                duplicates++;
+            } else {
+                stale++;
+            }
+        }
+
+        int applied = 0;
+        List<UUID> unknown = new ArrayList<>();
+        LocalDateTime receivedAt = LocalDateTime.now();
+        for (StockEventDTO event : latest.values()) {
+            switch (apply(event, receivedAt)) {
+                case APPLIED -> {
+                    applied++;
+                    notifyListeners(event);
+                }
+                case DUPLICATE -> duplicates++;
+                case STALE -> stale++;
+                case UNKNOWN -> {
+                    unknown.add(event.getProductId());
+                    notifyListeners(event);
+                }
+            }
+        }
+
+        logger.info("Lote de eventos de estoque processado - recebidos: {}, aplicados: {}, duplicados: {}, "
+                        + "fora de ordem: {}, inválidos: {}, desconhecidos: {}, Tempo: {}µs",
+                events.size(), applied, duplicates, stale, invalid, unknown.size(),
+                (System.nanoTime() - startNanos) / 1000);
+        return new StockEventBatchResultDTO(events.size(), applied, duplicates, stale, invalid, unknown);
+    }
+
+    /**
+     * Versão mais recente aplicada para o produto, ou {@code null} se nenhum evento foi aplicado
+     */
+    public Long getAppliedVersion(UUID productId) {
+        return appliedVersions.get(productId);
+    }
+
+    /**
+     * Descarta as versões de produtos que não estão mais no catálogo nem no cache. A decisão é
+     * tomada dentro do {@code compute} do produto, sem concorrer com a aplicação de um evento.
+     *
+     * @return quantidade de versões descartadas
+     */
+    @Scheduled(fixedDelayString = "${stock.events.version-prune-interval-ms:60000}")
+    public int pruneAppliedVersions() {
+        int pruned = 0;
+        for (UUID productId : appliedVersions.keySet()) {
+            if (appliedVersions.computeIfPresent(productId, (id, version) -> isKnown(id) ? version : null) == null) {
+                pruned++;
+            }
+        }
+        if (pruned > 0) {
+            logger.debug("Versões de eventos descartadas: {} - mantidas: {}", pruned, appliedVersions.size());
+        }
+        return pruned;
+    }
+
+    private boolean isKnown(UUID productId) {
+        return stockCatalog.get(productId).isPresent() || stockCache.remainingTtlMillis(productId).isPresent();
+    }
+
+    private Outcome apply(StockEventDTO event, LocalDateTime receivedAt) {
+        Outcome[] outcome = new Outcome[1];
+        appliedVersions.compute(event.getProductId(), (productId, appliedVersion) -> {
+            long version = event.getVersion();
+            if (appliedVersion != null && version <= appliedVersion) {
+                outcome[0] = version == appliedVersion ? Outcome.DUPLICATE : Outcome.STALE;
+                return appliedVersion;
+            }
+            // lastUpdated usa o relógio local (mesma base das cargas completas), não o timestamp da origem
+            boolean inCatalog = stockCatalog.updateQuantity(productId, event.getStockQuantity(), receivedAt);
+            boolean inCache = stockCache.updateQuantity(productId, event.getStockQuantity(), receivedAt);
+            if (!inCatalog && !inCache) {
+                outcome[0] = Outcome.UNKNOWN;
+                return appliedVersion;
+            }
+            outcome[0] = Outcome.APPLIED;
+            return version;
+        });
+        logger.debug("Evento de estoque - ProductId: {}, versão: {}, quantidade: {}, origem: {} - {}",
+                event.getProductId(), event.getVersion(), event.getStockQuantity(), event.getTimestamp(), outcome[0]);
+        return outcome[0];
+    }
+
+    private void notifyListeners(StockEventDTO event) {
+        for (Consumer<StockEventDTO> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                logger.error("Erro no assinante de eventos de estoque: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private static boolean isValid(StockEventDTO event) {
+        return event != null
+                && event.getProductId() != null
+                && event.getVersion() != null
+                && event.getStockQuantity() != null
+                && event.getStockQuantity() >= 0;
+    }
+}
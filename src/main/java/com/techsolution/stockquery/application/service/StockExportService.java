@@ -0,0 +1,182 @@
+package com.techsolution.stockquery.application.service;
+
+import com.techsolution.stockquery.domain.model.StockView;
+import com.techsolution.stockquery.infrastructure.bulkhead.StockBulkheads;
+import com.techsolution.stockquery.infrastructure.client.PageResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exportação CSV do catálogo completo, escrita página a página diretamente na resposta.
+ *
+ * Cada página é buscada no product-service somente depois que a anterior foi escrita e enviada;
+ * como a escrita no stream da resposta bloqueia enquanto o cliente não consome os dados, um
+ * download lento desacelera a busca das páginas em vez de acumular o catálogo em memória
+ * (no máximo uma página e o buffer de escrita por exportação). Se o cliente desconecta, a escrita
+ * falha e as páginas restantes não são buscadas.
+ *
+ * As páginas são lidas em momentos diferentes: produtos criados ou removidos durante a exportação
+ * podem aparecer duplicados ou ausentes, como em GET /stock.
+ */
+@Service
+public class StockExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockExportService.class);
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int WRITE_BUFFER_SIZE = 16 * 1024;
+    private static final String HEADER = "productId,productName,quantityAvailable,price,belowMinimum,lastUpdated";
+
+    /**
+     * Destino da exportação, aberto somente após a primeira página: falhas iniciais ainda podem
+     * virar uma resposta de erro comum
+     */
+    @FunctionalInterface
+    public interface CsvOutput {
+        OutputStream open(long totalElements) throws IOException;
+    }
+
+    private final StockQueryService stockQueryService;
+    private final StockBulkheads bulkheads;
+    private final int pageSize;
+    private final Counter rowsCounter;
+    private final Counter abortedCounter;
+
+    public StockExportService(StockQueryService stockQueryService,
+                              StockBulkheads bulkheads,
+                              MeterRegistry meterRegistry,
+                              @Value("${stock.export.page-size:100}") int pageSize) {
+        this.stockQueryService = stockQueryService;
+        this.bulkheads = bulkheads;
+        this.pageSize = Math.max(1, Math.min(MAX_PAGE_SIZE, pageSize));
+        this.rowsCounter = Counter.builder("stock.export.rows")
+                .description("Linhas escritas nas exportações CSV")
+                .register(meterRegistry);
+        this.abortedCounter = Counter.builder("stock.export.aborted")
+                .description("Exportações CSV interrompidas (cliente desconectado ou falha no product-service)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Exporta o catálogo completo em CSV (UTF-8 com BOM, separador vírgula, RFC 4180)
+     *
+     * @param output Destino, aberto após a primeira página com o total de produtos informado pelo product-service
+     * @param gzip Comprime a saída com gzip
+     * @return Número de linhas de dados escritas
+     * @throws IOException quando a escrita falha (normalmente cliente desconectado)
+     * @throws com.techsolution.stockquery.infrastructure.bulkhead.BulkheadFullException quando o limite de exportações simultâneas foi atingido
+     */
+    public long exportCsv(CsvOutput output, boolean gzip) throws IOException {
+        try {
+            return bulkheads.export().execute(() -> {
+                try {
+                    return writeAllPages(output, gzip);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long writeAllPages(CsvOutput output, boolean gzip) throws IOException {
+        long startTime = System.currentTimeMillis();
+        logger.info("--- Iniciando exportação CSV do catálogo (página: {}, gzip: {}) ---", pageSize, gzip);
+
+        PageResponse<StockView> page = stockQueryService.findStocksPaginated(0, pageSize);
+        long totalElements = page.getTotalElements() != null ? page.getTotalElements() : -1;
+        int minimumLimit = stockQueryService.getMinimumStockLimit();
+
+        long rows = 0;
+        int currentPage = 0;
+        OutputStream raw = output.open(totalElements);
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(raw, WRITE_BUFFER_SIZE, true) : null;
+        // Sem try-with-resources: em caso de falha a resposta não pode parecer completa
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(gzip ? gzipStream : raw, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        try {
+            writer.write('\uFEFF');
+            writer.write(HEADER);
+            writer.write("\r\n");
+            while (true) {
+                if (page.getContent() != null) {
+                    for (StockView stock : page.getContent()) {
+                        writeRow(writer, stock, minimumLimit);
+                        rows++;
+                    }
+                    rowsCounter.increment(page.getContent().size());
+                }
+                // Envia a página antes de buscar a próxima: a escrita bloqueia enquanto o cliente não consome
+                writer.flush();
+                if (page.getLast() == null || page.getLast() || page.getContent() == null || page.getContent().isEmpty()) {
+                    break;
+                }
+                currentPage++;
+                page = stockQueryService.findStocksPaginated(currentPage, pageSize);
+            }
+            if (gzipStream != null) {
+                writer.flush();
+                gzipStream.finish();
+            }
+            writer.close();
+        } catch (IOException | RuntimeException e) {
+            abortedCounter.increment();
+            logger.warn("Exportação CSV interrompida na página {} após {} linhas ({}ms): {}",
+                    currentPage, rows, System.currentTimeMillis() - startTime, e.getMessage());
+            throw e;
+        }
+
+        logger.info("--- Exportação CSV concluída --- Linhas: {} de {}, Páginas: {}, Tempo: {}ms",
+                rows, totalElements, currentPage + 1, System.currentTimeMillis() - startTime);
+        return rows;
+    }
+
+    private static void writeRow(Writer writer, StockView stock, int minimumLimit) throws IOException {
+        writer.write(stock.getProductId() != null ? stock.getProductId().toString() : "");
+        writer.write(',');
+        writer.write(escape(stock.getProductName()));
+        writer.write(',');
+        writer.write(stock.getQuantityAvailable() != null ? stock.getQuantityAvailable().toString() : "");
+        writer.write(',');
+        writer.write(stock.getPrice() != null ? stock.getPrice().toPlainString() : "");
+        writer.write(',');
+        if (stock.getQuantityAvailable() != null) {
+            writer.write(Boolean.toString(stock.isStockBelowMinimum(minimumLimit)));
+        }
+        writer.write(',');
+        writer.write(stock.getLastUpdated() != null ? stock.getLastUpdated().toString() : "");
+        writer.write("\r\n");
+    }
+
+    /**
+     * Aplica aspas quando necessário (RFC 4180) e neutraliza textos que planilhas interpretariam
+     * como fórmula (iniciados por =, +, -, @), prefixando-os com apóstrofo
+     */
+    static String escape(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String text = value;
+        char first = text.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
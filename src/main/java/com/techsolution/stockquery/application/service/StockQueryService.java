@@ -1,41 +1,229 @@
 package com.techsolution.stockquery.application.service;
 
 import com.techsolution.stockquery.domain.model.StockView;
+import com.techsolution.stockquery.infrastructure.bulkhead.BulkheadFullException;
+import com.techsolution.stockquery.infrastructure.bulkhead.StockBulkheads;
+import com.techsolution.stockquery.infrastructure.cache.SingleFlight;
+import com.techsolution.stockquery.infrastructure.cache.StockCache;
+import com.techsolution.stockquery.infrastructure.catalog.ProductExistenceFilter;
+import com.techsolution.stockquery.infrastructure.client.AdaptiveCrawlController;
+import com.techsolution.stockquery.infrastructure.client.ConcurrencyLimitExceededException;
 import com.techsolution.stockquery.infrastructure.client.PageResponse;
+import com.techsolution.stockquery.infrastructure.client.PeerClient;
+import com.techsolution.stockquery.infrastructure.client.ProductBatchLoader;
 import com.techsolution.stockquery.infrastructure.client.ProductDTO;
 import com.techsolution.stockquery.infrastructure.client.ProductServiceClient;
+import com.techsolution.stockquery.infrastructure.client.StockPeers;
+import com.techsolution.stockquery.infrastructure.deadline.DeadlineExceededException;
+import com.techsolution.stockquery.infrastructure.deadline.RequestDeadline;
+import com.techsolution.stockquery.infrastructure.hotkeys.HotKeyTracker;
+import com.techsolution.stockquery.infrastructure.jfr.CatalogCrawlEvent;
+import com.techsolution.stockquery.infrastructure.tracing.Span;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.net.URI;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 @Service
 public class StockQueryService {
 
     private static final Logger logger = LoggerFactory.getLogger(StockQueryService.class);
-    private static final int MINIMUM_STOCK_LIMIT = 10;
+    private static final int MINIMUM_STOCK_LIMIT = StockView.MINIMUM_STOCK_LIMIT;
 
     private final ProductServiceClient productServiceClient;
+    private final StockCache stockCache;
+    private final StockPeers stockPeers;
+    private final PeerClient peerClient;
+    private final StockBulkheads bulkheads;
+    private final ProductExistenceFilter existenceFilter;
+    private final long crawlReuseWindowNanos;
+    private final AdaptiveCrawlController crawlController;
+    private final ProductBatchLoader batchLoader;
+    private final HotKeyTracker hotKeys;
+    private final SingleFlight<UUID, Optional<StockView>> productLoads = new SingleFlight<>();
+    private final SingleFlight<CrawlKey, List<StockView>> crawls = new SingleFlight<>();
+    private final ConcurrentHashMap<CrawlKey, CompletedCrawl> recentCrawls = new ConcurrentHashMap<>();
 
-    public StockQueryService(ProductServiceClient productServiceClient) {
+    @Autowired
+    public StockQueryService(ProductServiceClient productServiceClient, StockCache stockCache,
+                             StockPeers stockPeers, PeerClient peerClient, StockBulkheads bulkheads,
+                             ProductExistenceFilter existenceFilter,
+                             @Value("${stock.crawl.reuse-window-ms:2000}") long crawlReuseWindowMs,
+                             AdaptiveCrawlController crawlController, ProductBatchLoader batchLoader,
+                             HotKeyTracker hotKeys) {
         this.productServiceClient = productServiceClient;
+        this.stockCache = stockCache;
+        this.stockPeers = stockPeers;
+        this.peerClient = peerClient;
+        this.bulkheads = bulkheads;
+        this.existenceFilter = existenceFilter;
+        this.crawlReuseWindowNanos = TimeUnit.MILLISECONDS.toNanos(crawlReuseWindowMs);
+        this.crawlController = crawlController;
+        this.batchLoader = batchLoader;
+        this.hotKeys = hotKeys;
     }
 
+    /**
+     * Instância sem réplicas: todas as consultas vão direto ao product-service
+     */
+    public StockQueryService(ProductServiceClient productServiceClient, StockCache stockCache) {
+        this(productServiceClient, stockCache, new StockPeers(List.of(), "", 1, 0), null,
+                StockBulkheads.unbounded(), ProductExistenceFilter.disabled(), 0,
+                AdaptiveCrawlController.fixed(1), ProductBatchLoader.disabled(),
+                HotKeyTracker.disabled());
+    }
+
+    /**
+     * Busca o estoque do produto: cache local, depois a réplica dona do produto (que combina e
+     * guarda em cache as consultas ao product-service) e, se a dona for esta réplica ou estiver
+     * indisponível, o próprio product-service. Produtos respondidos como inexistentes há pouco
+     * (cache negativo) ou fora do catálogo carregado (filtro de existência, opcional) retornam vazio
+     * sem consulta remota.
+     */
     public Optional<StockView> findByProductId(UUID productId) {
+        hotKeys.record(productId);
+        Optional<StockView> cached = stockCache.get(productId);
+        if (cached.isPresent()) {
+            logger.info("Estoque do produto {} encontrado no cache local", productId);
+            return cached;
+        }
+        if (isKnownMissing(productId)) {
+            return Optional.empty();
+        }
+
+        Optional<URI> owner = stockPeers.remoteOwnerOf(productId);
+        if (owner.isPresent()) {
+            try {
+                return findOnPeer(owner.get(), productId);
+            } catch (DeadlineExceededException e) {
+                throw e;
+            } catch (Exception e) {
+                stockPeers.markDown(owner.get());
+                logger.warn("Réplica {} indisponível ao buscar produto {} - consultando product-service: {}",
+                        owner.get(), productId, e.getMessage());
+            }
+        }
+        // Cache e cache negativo já consultados acima: uma única leitura por requisição (e um único
+        // registro de acesso na admissão do cache)
+        return loadShared(productId);
+    }
+
+    /**
+     * Busca o estoque sem encaminhar para outras réplicas: cache local ou product-service, com
+     * consultas concorrentes ao mesmo produto combinadas em uma única chamada.
+     * Usado pela réplica dona ao atender outras réplicas.
+     */
+    public Optional<StockView> findOwnedByProductId(UUID productId) {
+        hotKeys.record(productId);
+        return findOwned(productId);
+    }
+
+    /**
+     * Recarrega do product-service um produto em cache antes que ele expire (produtos mais
+     * consultados), combinando com consultas simultâneas ao mesmo produto. Produto que deixou de
+     * existir sai do cache.
+     */
+    public void refreshOwned(UUID productId) {
+        Optional<StockView> refreshed = loadShared(productId);
+        if (refreshed.isEmpty()) {
+            stockCache.invalidate(productId);
+        }
+    }
+
+    private Optional<StockView> findOwned(UUID productId) {
+        Optional<StockView> cached = stockCache.get(productId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        if (isKnownMissing(productId)) {
+            return Optional.empty();
+        }
+        return loadShared(productId);
+    }
+
+    /**
+     * Consulta o product-service combinando chamadas concorrentes ao mesmo produto. Se a consulta
+     * compartilhada falhar pelo prazo ou pelo bulkhead da requisição que a iniciou, as que apenas
+     * aguardavam tentam uma vez por conta própria, enquanto o próprio prazo não acabou.
+     */
+    private Optional<StockView> loadShared(UUID productId) {
+        AtomicBoolean leader = new AtomicBoolean();
+        Supplier<Optional<StockView>> loader = () -> {
+            leader.set(true);
+            return bulkheads.point().execute(() -> loadFromProductService(productId));
+        };
+        try {
+            return productLoads.execute(productId, loader);
+        } catch (DeadlineExceededException | BulkheadFullException e) {
+            if (leader.get() || RequestDeadline.current().map(RequestDeadline::isExpired).orElse(false)) {
+                throw e;
+            }
+            logger.warn("Consulta compartilhada ao produto {} interrompida na requisição que a iniciou ({}) - nova tentativa",
+                    productId, e.getMessage());
+            return productLoads.execute(productId, loader);
+        }
+    }
+
+    private boolean isKnownMissing(UUID productId) {
+        if (stockCache.isMissing(productId)) {
+            logger.info("Produto {} não encontrado (cache negativo) - sem consulta ao product-service", productId);
+            return true;
+        }
+        if (!existenceFilter.mightExist(productId)) {
+            logger.info("Produto {} fora do catálogo local (filtro de existência) - sem consulta ao product-service", productId);
+            return true;
+        }
+        return false;
+    }
+
+    private Optional<StockView> findOnPeer(URI peer, UUID productId) {
+        long startTime = System.currentTimeMillis();
+        try {
+            ResponseEntity<StockView> response = peerClient.getStock(peer, productId);
+            StockView stockView = response.getBody();
+            logger.info("Estoque do produto {} obtido da réplica {} - Tempo: {}ms",
+                    productId, peer, System.currentTimeMillis() - startTime);
+            if (stockView == null) {
+                return Optional.empty();
+            }
+            stockCache.put(stockView);
+            return Optional.of(stockView);
+        } catch (feign.FeignException.NotFound e) {
+            logger.warn("Produto {} não encontrado (consultado pela réplica {})", productId, peer);
+            stockCache.putMissing(productId);
+            return Optional.empty();
+        }
+    }
+
+    private Optional<StockView> loadFromProductService(UUID productId) {
         long startTime = System.currentTimeMillis();
         logger.info("--- Iniciando consulta ao product-service ---");
         logger.info("ProductId: {}", productId);
         
         try {
-            logger.debug("Fazendo chamada HTTP GET /products/{}", productId);
-            ResponseEntity<ProductDTO> response = productServiceClient.getProductById(productId);
+            ResponseEntity<ProductDTO> response = fetchProduct(productId);
             long duration = System.currentTimeMillis() - startTime;
             
             logger.info("Resposta recebida do product-service - Status: {}, Tempo: {}ms", 
@@ -58,6 +246,7 @@ public class StockQueryService {
                         product.getId(),
                         product.getName(),
                         product.getQuantityInStock(),
+                        product.getPrice(),
                         LocalDateTime.now()
                 );
                 
@@ -65,13 +254,26 @@ public class StockQueryService {
                 logger.info("Análise de estoque - Quantidade: {}, Limite mínimo: {}, Abaixo do mínimo: {}", 
                         product.getQuantityInStock(), MINIMUM_STOCK_LIMIT, isBelowMinimum);
                 
+                stockCache.put(stockView);
                 logger.info("--- Consulta ao product-service concluída com sucesso ---");
                 return Optional.of(stockView);
             } else {
                 logger.warn("--- Produto não encontrado no product-service ---");
                 logger.warn("ProductId: {}, Status Code: {}", productId, response.getStatusCode());
+                if (response.getStatusCode() == HttpStatus.NOT_FOUND) {
+                    stockCache.putMissing(productId);
+                }
                 return Optional.empty();
             }
+        } catch (ConcurrencyLimitExceededException | DeadlineExceededException e) {
+            logger.warn("Consulta ao product-service interrompida: {}", e.getMessage());
+            throw e;
+        } catch (feign.FeignException.NotFound e) {
+            // Produto inexistente é um resultado normal da consulta, não uma falha
+            logger.info("--- Produto não encontrado no product-service (404) --- ProductId: {}, Tempo: {}ms",
+                    productId, System.currentTimeMillis() - startTime);
+            stockCache.putMissing(productId);
+            return Optional.empty();
         } catch (feign.FeignException e) {
             long duration = System.currentTimeMillis() - startTime;
             logger.error("--- ERRO Feign ao consultar product-service ---");
@@ -95,42 +297,167 @@ public class StockQueryService {
         }
     }
 
+    /**
+     * Consulta o produto: no próximo lote, com o agrupamento habilitado, ou individualmente
+     */
+    private ResponseEntity<ProductDTO> fetchProduct(UUID productId) throws InterruptedException {
+        if (batchLoader.isEnabled()) {
+            logger.debug("Aguardando lote para o produto {}", productId);
+            return batchLoader.load(productId);
+        }
+        logger.debug("Fazendo chamada HTTP GET /products/{}", productId);
+        return productServiceClient.getProductById(productId);
+    }
+
     public int getMinimumStockLimit() {
         return MINIMUM_STOCK_LIMIT;
     }
 
     /**
      * Busca todos os estoques paginados do product-service
-     * Itera sobre todas as páginas para retornar todos os produtos
-     * 
+     * Itera sobre todas as páginas para retornar todos os produtos.
+     *
+     * Chamadas concorrentes com a mesma página inicial e tamanho aguardam a varredura em andamento e recebem
+     * o mesmo resultado; chamadas que chegam até {@code stock.crawl.reuse-window-ms} após o fim da
+     * varredura reutilizam o resultado sem consultar o product-service. A lista retornada é imutável.
+     *
+     * Até {@code stock.crawl.parallelism} páginas são buscadas simultaneamente, à frente da página
+     * em processamento; uma nova página só é solicitada quando a mais antiga da janela é consumida.
+     * A varredura ocupa uma vaga do bulkhead de varreduras e cada página adicional da janela ocupa
+     * outra; sem vaga livre a janela não cresce.
+     *
      * @param page Número da página (começa em 0)
      * @param size Tamanho da página (máximo: 100)
      * @return Lista de StockView de todos os produtos
+     * @throws com.techsolution.stockquery.infrastructure.bulkhead.BulkheadFullException quando o limite de varreduras simultâneas foi atingido
      */
     public List<StockView> findAllStocks(Integer page, Integer size) {
+        int startPage = page != null ? page : 0;
+        CrawlKey key = new CrawlKey(startPage, size);
+        CompletedCrawl recent = recentCrawls.get(key);
+        if (recent != null) {
+            if (!isExpired(recent, System.nanoTime())) {
+                logger.info("Reutilizando varredura concluída há {}ms - {} estoques",
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - recent.completedAtNanos), recent.stocks.size());
+                return recent.stocks;
+            }
+            recentCrawls.remove(key, recent);
+        }
+
+        try {
+            return crawls.execute(key, () -> crawlShared(key, startPage, size));
+        } catch (DeadlineExceededException e) {
+            if (RequestDeadline.current().map(RequestDeadline::isExpired).orElse(false)) {
+                throw e;
+            }
+            // A varredura compartilhada foi interrompida pelo prazo de outra requisição: tenta uma vez por conta própria
+            logger.warn("Varredura compartilhada interrompida pelo prazo de outra requisição - iniciando nova varredura");
+            return crawls.execute(key, () -> crawlShared(key, startPage, size));
+        }
+    }
+
+    private List<StockView> crawlShared(CrawlKey key, int startPage, Integer size) {
+        List<StockView> stocks;
+        Span span = Span.start("crawl").tag("crawl.start_page", startPage).tag("crawl.page_size", size);
+        try {
+            stocks = Collections.unmodifiableList(bulkheads.crawl().execute(() -> crawlAllStocks(startPage, size)));
+            span.tag("crawl.items", stocks.size());
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+        if (crawlReuseWindowNanos > 0) {
+            long now = System.nanoTime();
+            // Descarta as varreduras de outras chaves que já saíram da janela: o mapa guarda só as recentes
+            recentCrawls.values().removeIf(completed -> isExpired(completed, now));
+            recentCrawls.put(key, new CompletedCrawl(stocks, now));
+        }
+        return stocks;
+    }
+
+    private boolean isExpired(CompletedCrawl crawl, long now) {
+        return now - crawl.completedAtNanos > crawlReuseWindowNanos;
+    }
+
+    /**
+     * Quantidade de varreduras concluídas guardadas para reutilização
+     */
+    int recentCrawlCount() {
+        return recentCrawls.size();
+    }
+
+    private List<StockView> crawlAllStocks(Integer page, Integer size) {
         long startTime = System.currentTimeMillis();
         logger.info("--- Iniciando busca de todos os estoques (paginado) ---");
         logger.info("Parâmetros - page: {}, size: {}", page, size);
         
         List<StockView> allStocks = new ArrayList<>();
         int currentPage = page != null ? page : 0;
-        int pageSize = size != null ? size : 20;
+        int requestedSize = size != null ? size : 20;
         
         // Limitar size ao máximo permitido (100)
-        if (pageSize > 100) {
-            logger.warn("Size {} excede o máximo permitido (100). Usando 100.", pageSize);
-            pageSize = 100;
+        if (requestedSize > 100) {
+            logger.warn("Size {} excede o máximo permitido (100). Usando 100.", requestedSize);
+            requestedSize = 100;
+        }
+        
+        // Tamanho fixo durante a varredura: a numeração das páginas depende dele
+        int pageSize = crawlController.pageSizeForCrawl(requestedSize);
+        if (pageSize != requestedSize) {
+            // A varredura deve começar no mesmo produto: a página inicial é convertida para o novo
+            // tamanho e, se o deslocamento não for múltiplo dele, o tamanho solicitado é mantido
+            long offset = (long) currentPage * requestedSize;
+            if (offset % pageSize == 0) {
+                currentPage = (int) (offset / pageSize);
+                logger.info("Tamanho de página ajustado pelo controle adaptativo: {} (solicitado: {}), página inicial {}",
+                        pageSize, requestedSize, currentPage);
+            } else {
+                pageSize = requestedSize;
+            }
         }
         
         boolean hasMore = true;
         int totalPagesProcessed = 0;
         
+        // Janela de páginas solicitadas e ainda não processadas, em ordem
+        Deque<Future<FetchedPage>> window = new ArrayDeque<>();
+        ExecutorService executor = crawlController.maxConcurrency() > 1 ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        int nextPage = currentPage;
+        int knownTotalPages = 0;
+        // Vagas do bulkhead de varreduras ocupadas pelas páginas da janela além da primeira
+        int extraPermits = 0;
+        CatalogCrawlEvent crawlEvent = CatalogCrawlEvent.begin(currentPage, pageSize);
+        boolean completed = false;
+        
         try {
             while (hasMore) {
-                logger.info("Buscando página {} com tamanho {}", currentPage, pageSize);
+                // Sem total conhecido (ou além dele) busca uma página por vez, seguindo o indicador "last"
+                // Concorrência relida a cada página: o controle adaptativo pode reduzi-la no meio da varredura
+                while (window.size() < crawlController.concurrency()
+                        && (window.isEmpty() || nextPage < knownTotalPages)) {
+                    if (!window.isEmpty()) {
+                        if (!bulkheads.crawl().tryAcquire()) {
+                            break;
+                        }
+                        extraPermits++;
+                    }
+                    if (nextPage > currentPage) {
+                        pace();
+                    }
+                    // Cliente já desistiu: não busca as páginas restantes
+                    RequestDeadline.check("busca da página " + nextPage);
+                    logger.info("Buscando página {} com tamanho {}", nextPage, pageSize);
+                    window.add(requestPage(executor, nextPage++, pageSize));
+                }
                 
-                ResponseEntity<PageResponse<ProductDTO>> response = 
-                        productServiceClient.getProducts(currentPage, pageSize);
+                FetchedPage fetched = awaitPage(window.poll());
+                while (extraPermits > Math.max(0, window.size() - 1)) {
+                    bulkheads.crawl().release();
+                    extraPermits--;
+                }
+                ResponseEntity<PageResponse<ProductDTO>> response = fetched.response;
                 
                 if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                     PageResponse<ProductDTO> pageResponse = response.getBody();
@@ -144,7 +471,7 @@ public class StockQueryService {
                                 pageResponse.getContent().size(), currentPage);
                         
                         for (ProductDTO product : pageResponse.getContent()) {
-                            StockView stockView = createStockViewFromProduct(product);
+                            StockView stockView = createStockViewFromProduct(product, fetched.requestedAt);
                             allStocks.add(stockView);
                         }
                         
@@ -154,6 +481,10 @@ public class StockQueryService {
                         logger.warn("Página {} retornou sem conteúdo", currentPage);
                     }
                     
+                    if (pageResponse.getTotalPages() != null) {
+                        knownTotalPages = Math.max(knownTotalPages, pageResponse.getTotalPages());
+                    }
+                    
                     // Verificar se há mais páginas
                     hasMore = !pageResponse.getLast();
                     if (hasMore) {
@@ -173,7 +504,11 @@ public class StockQueryService {
             logger.info("Total de estoques retornados: {}", allStocks.size());
             logger.info("Tempo total: {}ms", duration);
             
+            completed = true;
             return allStocks;
+        } catch (ConcurrencyLimitExceededException | DeadlineExceededException e) {
+            logger.warn("Consulta ao product-service interrompida: {}", e.getMessage());
+            throw e;
         } catch (feign.FeignException e) {
             long duration = System.currentTimeMillis() - startTime;
             logger.error("--- ERRO Feign ao buscar produtos paginados ---");
@@ -192,6 +527,69 @@ public class StockQueryService {
             logger.error("Tempo até erro: {}ms", duration);
             logger.error("Stack trace completo:", e);
             throw new RuntimeException("Erro ao buscar produtos paginados", e);
+        } finally {
+            window.forEach(pending -> pending.cancel(true));
+            for (; extraPermits > 0; extraPermits--) {
+                bulkheads.crawl().release();
+            }
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+            CatalogCrawlEvent.commit(crawlEvent, totalPagesProcessed, allStocks.size(), completed);
+        }
+    }
+
+    /**
+     * Solicita a página: em paralelo (herdando o prazo e o trace da requisição) ou, sem executor, na própria thread
+     */
+    private Future<FetchedPage> requestPage(ExecutorService executor, int page, int size) {
+        if (executor == null) {
+            return CompletableFuture.completedFuture(fetchCrawlPage(page, size));
+        }
+        return executor.submit(RequestDeadline.propagate(
+                Span.propagate(() -> fetchCrawlPage(page, size))));
+    }
+
+    /**
+     * Busca uma página da varredura informando a latência e o resultado ao controle adaptativo.
+     * O instante registrado é o de antes da chamada: um evento recebido via push enquanto a página
+     * estava em trânsito é mais recente que ela e prevalece no catálogo.
+     */
+    private FetchedPage fetchCrawlPage(int page, int size) {
+        LocalDateTime requestedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        try {
+            ResponseEntity<PageResponse<ProductDTO>> response = productServiceClient.getProducts(page, size);
+            crawlController.onPageSuccess(System.nanoTime() - startNanos);
+            return new FetchedPage(response, requestedAt);
+        } catch (RuntimeException e) {
+            crawlController.onPageFailure(System.nanoTime() - startNanos, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Aguarda o intervalo entre páginas definido pelo controle adaptativo, sem ultrapassar o prazo da requisição
+     */
+    private void pace() throws InterruptedException {
+        long pacingNanos = crawlController.pacingNanos();
+        if (pacingNanos <= 0) {
+            return;
+        }
+        long remainingNanos = RequestDeadline.current()
+                .map(deadline -> TimeUnit.MILLISECONDS.toNanos(deadline.remainingMillis()))
+                .orElse(Long.MAX_VALUE);
+        TimeUnit.NANOSECONDS.sleep(Math.min(pacingNanos, remainingNanos));
+    }
+
+    private static <T> T awaitPage(Future<T> page) throws InterruptedException {
+        try {
+            return page.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
         }
     }
 
@@ -201,8 +599,13 @@ public class StockQueryService {
      * @param page Número da página (começa em 0)
      * @param size Tamanho da página (máximo: 100)
      * @return PageResponse com StockView da página solicitada
+     * @throws com.techsolution.stockquery.infrastructure.bulkhead.BulkheadFullException quando o limite de páginas simultâneas foi atingido
      */
     public PageResponse<StockView> findStocksPaginated(Integer page, Integer size) {
+        return bulkheads.page().execute(() -> fetchStocksPage(page, size));
+    }
+
+    private PageResponse<StockView> fetchStocksPage(Integer page, Integer size) {
         long startTime = System.currentTimeMillis();
         logger.info("--- Iniciando busca paginada de estoques ---");
         logger.info("Parâmetros - page: {}, size: {}", page, size);
@@ -219,6 +622,7 @@ public class StockQueryService {
         try {
             logger.info("Buscando página {} com tamanho {}", currentPage, pageSize);
             
+            LocalDateTime requestedAt = LocalDateTime.now();
             ResponseEntity<PageResponse<ProductDTO>> response = 
                     productServiceClient.getProducts(currentPage, pageSize);
             
@@ -233,7 +637,7 @@ public class StockQueryService {
                 
                 if (productPageResponse.getContent() != null) {
                     for (ProductDTO product : productPageResponse.getContent()) {
-                        StockView stockView = createStockViewFromProduct(product);
+                        StockView stockView = createStockViewFromProduct(product, requestedAt);
                         stockViews.add(stockView);
                     }
                 }
@@ -260,6 +664,9 @@ public class StockQueryService {
                         response.getStatusCode());
                 throw new RuntimeException("Resposta inválida do product-service");
             }
+        } catch (ConcurrencyLimitExceededException | DeadlineExceededException e) {
+            logger.warn("Consulta ao product-service interrompida: {}", e.getMessage());
+            throw e;
         } catch (feign.FeignException e) {
             long duration = System.currentTimeMillis() - startTime;
             logger.error("--- ERRO Feign ao buscar produtos paginados ---");
@@ -282,9 +689,9 @@ public class StockQueryService {
     }
 
     /**
-     * Cria um StockView a partir de um ProductDTO
+     * Cria um StockView a partir de um ProductDTO, datado com o instante em que a página foi solicitada
      */
-    private StockView createStockViewFromProduct(ProductDTO product) {
+    private StockView createStockViewFromProduct(ProductDTO product, LocalDateTime requestedAt) {
         if (product.getQuantityInStock() == null) {
             logger.warn("ATENÇÃO: quantityInStock é NULL para produto {} - {}", 
                     product.getId(), product.getName());
@@ -294,7 +701,8 @@ public class StockQueryService {
                 product.getId(),
                 product.getName(),
                 product.getQuantityInStock(),
-                LocalDateTime.now()
+                product.getPrice(),
+                requestedAt
         );
         
         boolean isBelowMinimum = stockView.isStockBelowMinimum(MINIMUM_STOCK_LIMIT);
@@ -303,5 +711,60 @@ public class StockQueryService {
         
         return stockView;
     }
-}
 
+    /**
+     * Identifica uma varredura pela página inicial e pelo tamanho de página solicitado (já limitado
+     * a 100), que juntos definem o primeiro produto retornado
+     */
+    private static final class CrawlKey {
+        private final int startPage;
+        private final int size;
+
+        private CrawlKey(int startPage, Integer size) {
+            this.startPage = startPage;
+            this.size = size != null ? Math.min(size, 100) : 20;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof CrawlKey key)) {
+                return false;
+            }
+            return startPage == key.startPage && size == key.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * startPage + size;
+        }
+    }
+
+    /**
+     * Resultado de uma varredura completa e o instante em que terminou
+     */
+    private static final class CompletedCrawl {
+        private final List<StockView> stocks;
+        private final long completedAtNanos;
+
+        private CompletedCrawl(List<StockView> stocks, long completedAtNanos) {
+            this.stocks = stocks;
+            this.completedAtNanos = completedAtNanos;
+        }
+    }
+
+    /**
+     * Página da varredura e o instante em que foi solicitada ao product-service
+     */
+    private static final class FetchedPage {
+        private final ResponseEntity<PageResponse<ProductDTO>> response;
+        private final LocalDateTime requestedAt;
+
+        private FetchedPage(ResponseEntity<PageResponse<ProductDTO>> response, LocalDateTime requestedAt) {
+            this.response = response;
+            this.requestedAt = requestedAt;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.techsolution.stockquery.application.service;
+
+import com.techsolution.stockquery.infrastructure.catalog.StockCatalog;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeDetector;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeEvent;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeListener;
+import com.techsolution.stockquery.infrastructure.snapshot.StockSnapshot;
+import com.techsolution.stockquery.infrastructure.snapshot.StockSnapshotStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Restaura o catálogo local a partir do snapshot em disco na inicialização e o mantém gravado.
+ *
+ * Com o snapshot restaurado o serviço responde imediatamente; a reconciliação com o
+ * product-service acontece em segundo plano após um atraso aleatório, para que réplicas
+ * reiniciadas juntas (deploy) não façam a carga completa ao mesmo tempo. O snapshot é
+ * regravado periodicamente quando o catálogo mudou e também no desligamento.
+ */
+@Service
+public class StockSnapshotService implements StockChangeListener, SmartInitializingSingleton, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockSnapshotService.class);
+
+    private final StockCatalog stockCatalog;
+    private final StockCatalogService stockCatalogService;
+    private final StockSnapshotStore snapshotStore;
+    private final boolean enabled;
+    private final long reconcileMaxJitterMs;
+
+    private volatile boolean dirty;
+
+    public StockSnapshotService(StockCatalog stockCatalog,
+                                StockCatalogService stockCatalogService,
+                                StockSnapshotStore snapshotStore,
+                                StockChangeDetector changeDetector,
+                                @Value("${stock.snapshot.enabled:true}") boolean enabled,
+                                @Value("${stock.snapshot.reconcile-max-jitter-ms:10000}") long reconcileMaxJitterMs) {
+        this.stockCatalog = stockCatalog;
+        this.stockCatalogService = stockCatalogService;
+        this.snapshotStore = snapshotStore;
+        this.enabled = enabled;
+        this.reconcileMaxJitterMs = reconcileMaxJitterMs;
+        changeDetector.subscribe(this);
+    }
+
+    /**
+     * Executado após a criação dos beans e antes de o servidor web aceitar requisições
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (enabled) {
+            restore();
+        }
+    }
+
+    /**
+     * Carrega o snapshot no catálogo local e agenda a reconciliação em segundo plano
+     *
+     * @return {@code true} se o snapshot foi restaurado; {@code false} indica partida a frio
+     */
+    public boolean restore() {
+        long startTime = System.currentTimeMillis();
+        Optional<StockSnapshot> snapshot = snapshotStore.read();
+        if (snapshot.isEmpty()) {
+            logger.info("--- Partida a frio: catálogo será carregado do product-service ---");
+            return false;
+        }
+
+        stockCatalog.replaceAll(snapshot.get().getEntries());
+        dirty = false;
+        logger.info("--- Catálogo restaurado do snapshot - {} produtos, idade: {}s, Tempo: {}ms ---",
+                stockCatalog.size(),
+                Duration.between(snapshot.get().getCreatedAt(), Instant.now()).toSeconds(),
+                System.currentTimeMillis() - startTime);
+
+        if (stockCatalogService.isRefreshEnabled()) {
+            long delayMs = ThreadLocalRandom.current().nextLong(reconcileMaxJitterMs + 1);
+            stockCatalogService.deferScheduledRefresh(delayMs);
+            Thread.ofVirtual().name("catalog-reconcile").start(() -> reconcile(delayMs));
+        }
+        return true;
+    }
+
+    /**
+     * Grava o snapshot se o catálogo mudou desde a última gravação
+     */
+    @Scheduled(fixedDelayString = "${stock.snapshot.interval-ms:30000}")
+    public void persist() {
+        if (!enabled || !dirty || !stockCatalog.isLoaded()) {
+            return;
+        }
+        dirty = false;
+        long startTime = System.currentTimeMillis();
+        try {
+            long bytes = snapshotStore.write(stockCatalog.snapshot());
+            logger.info("Snapshot do catálogo gravado - {} produtos, {} bytes, Tempo: {}ms",
+                    stockCatalog.size(), bytes, System.currentTimeMillis() - startTime);
+        } catch (IOException e) {
+            dirty = true;
+            logger.error("Falha ao gravar snapshot do catálogo em {}: {}",
+                    snapshotStore.getPath().toAbsolutePath(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onStockChange(StockChangeEvent event) {
+        dirty = true;
+    }
+
+    @Override
+    public void destroy() {
+        persist();
+    }
+
+    private void reconcile(long delayMs) {
+        try {
+            Thread.sleep(delayMs);
+            logger.info("Reconciliando catálogo restaurado com o product-service (após {}ms)", delayMs);
+            stockCatalogService.refresh();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.error("Falha na reconciliação do catálogo restaurado: {}", e.getMessage());
+        }
+    }
+}
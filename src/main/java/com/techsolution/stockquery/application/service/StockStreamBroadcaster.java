@@ -0,0 +1,339 @@
+package com.techsolution.stockquery.application.service;
+
+import com.techsolution.stockquery.application.dto.StockViewDTO;
+import com.techsolution.stockquery.infrastructure.catalog.CatalogEntry;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeDetector;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeEvent;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeListener;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Distribui os eventos do {@link StockChangeDetector} para assinantes Server-Sent Events.
+ *
+ * Os eventos ficam em um único buffer circular compartilhado e cada assinante guarda apenas
+ * a posição (cursor) do último evento enviado, o que mantém assinantes ociosos baratos.
+ * Ao enviar, os eventos pendentes de um assinante são coalescidos por produto (vale o mais
+ * recente); se o assinante ficar mais atrasado que o tamanho do buffer, recebe um evento
+ * {@code resync} indicando que deve recarregar o estado completo.
+ */
+@Service
+public class StockStreamBroadcaster implements StockChangeListener, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockStreamBroadcaster.class);
+
+    public static final String EVENT_STOCK = "stock";
+    public static final String EVENT_BELOW_MINIMUM = "below-minimum";
+    public static final String EVENT_ABOVE_MINIMUM = "above-minimum";
+    public static final String EVENT_REMOVED = "removed";
+    public static final String EVENT_RESYNC = "resync";
+
+    private final StockChangeDetector changeDetector;
+    private final long timeoutMs;
+    private final StreamEvent[] buffer;
+    // Prefixo dos ids de evento: ids de outra instância/reinício forçam resync em vez de replay incorreto
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean();
+
+    private long lastSequence;
+
+    public StockStreamBroadcaster(StockChangeDetector changeDetector,
+                                  @Value("${stock.stream.buffer-size:4096}") int bufferSize,
+                                  @Value("${stock.stream.timeout-ms:1800000}") long timeoutMs) {
+        this.changeDetector = changeDetector;
+        this.timeoutMs = timeoutMs;
+        this.buffer = new StreamEvent[bufferSize];
+        changeDetector.subscribe(this);
+    }
+
+    /**
+     * Registra um novo assinante
+     *
+     * @param lastEventId Valor do header Last-Event-ID (opcional) para retomar a partir dele
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(new SseEmitter(timeoutMs), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String lastEventId) {
+        long head = lastSequence();
+        long cursor = resumeCursor(lastEventId, head);
+        Subscriber subscriber = new Subscriber(emitter, cursor < 0 ? head : cursor);
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        try {
+            emitter.send(SseEmitter.event().comment("conectado"));
+            if (cursor < 0) {
+                logger.info("Last-Event-ID '{}' não pode ser retomado - enviando resync", lastEventId);
+                emitter.send(SseEmitter.event().id(eventId(head)).name(EVENT_RESYNC).data("{}"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            close(subscriber);
+            return emitter;
+        }
+
+        logger.info("Novo assinante do stream de estoques - Last-Event-ID: {}, assinantes: {}",
+                lastEventId, subscribers.size());
+        if (subscriber.cursor < lastSequence()) {
+            senders.execute(() -> drain(subscriber));
+        }
+        return emitter;
+    }
+
+    @Override
+    public void onStockChange(StockChangeEvent event) {
+        UUID productId = event.getProductId();
+        if (event.is(StockChangeType.REMOVED)) {
+            publish(EVENT_REMOVED, productId.toString(), Map.of("productId", productId));
+            return;
+        }
+
+        StockViewDTO dto = toDTO(event.getCurrent());
+        publish(EVENT_STOCK, productId.toString(), dto);
+
+        if (event.is(StockChangeType.BELOW_MINIMUM)) {
+            publish(EVENT_BELOW_MINIMUM, "min:" + productId, dto);
+        } else if (event.is(StockChangeType.RECOVERED)) {
+            publish(EVENT_ABOVE_MINIMUM, "min:" + productId, dto);
+        }
+    }
+
+    /**
+     * Heartbeat periódico: mantém conexões ociosas abertas em proxies e detecta clientes desconectados
+     */
+    @Scheduled(fixedDelayString = "${stock.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            senders.execute(() -> {
+                try {
+                    subscriber.sendLock.lock();
+                    try {
+                        subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } finally {
+                        subscriber.sendLock.unlock();
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    close(subscriber);
+                }
+            });
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void destroy() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        senders.shutdownNow();
+    }
+
+    private void publish(String name, String coalesceKey, Object data) {
+        synchronized (buffer) {
+            long sequence = ++lastSequence;
+            buffer[(int) (sequence % buffer.length)] = new StreamEvent(sequence, name, coalesceKey, data);
+        }
+        if (!subscribers.isEmpty() && dispatchScheduled.compareAndSet(false, true)) {
+            senders.execute(this::dispatch);
+        }
+    }
+
+    /**
+     * Agenda o envio para todos os assinantes que não estão com envio em andamento
+     */
+    private void dispatch() {
+        dispatchScheduled.set(false);
+        long head = lastSequence();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.cursor < head && !subscriber.sending.get()) {
+                senders.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        if (!subscriber.sending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            while (!subscriber.closed) {
+                Batch batch = readAfter(subscriber.cursor);
+                if (batch.overflow) {
+                    logger.warn("Assinante lento perdeu eventos (buffer de {}) - enviando resync", buffer.length);
+                    send(subscriber, batch.lastSequence, EVENT_RESYNC, "{}");
+                } else if (batch.events.isEmpty()) {
+                    break;
+                } else {
+                    for (StreamEvent event : coalesce(batch.events)) {
+                        send(subscriber, event.sequence, event.name, event.data);
+                    }
+                }
+                subscriber.cursor = batch.lastSequence;
+            }
+        } catch (IOException | IllegalStateException e) {
+            close(subscriber);
+        } finally {
+            subscriber.sending.set(false);
+        }
+        // Evento publicado entre a última leitura e a liberação do flag
+        if (!subscriber.closed && subscriber.cursor < lastSequence()) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void send(Subscriber subscriber, long sequence, String name, Object data) throws IOException {
+        subscriber.sendLock.lock();
+        try {
+            subscriber.emitter.send(SseEmitter.event().id(eventId(sequence)).name(name).data(data));
+        } finally {
+            subscriber.sendLock.unlock();
+        }
+    }
+
+    private Batch readAfter(long cursor) {
+        synchronized (buffer) {
+            long oldestAvailable = Math.max(1, lastSequence - buffer.length + 1);
+            if (cursor + 1 < oldestAvailable) {
+                return new Batch(List.of(), lastSequence, true);
+            }
+            List<StreamEvent> events = new ArrayList<>((int) (lastSequence - cursor));
+            for (long sequence = cursor + 1; sequence <= lastSequence; sequence++) {
+                events.add(buffer[(int) (sequence % buffer.length)]);
+            }
+            return new Batch(events, lastSequence, false);
+        }
+    }
+
+    /**
+     * Mantém apenas o evento mais recente de cada chave, preservando a ordem de sequência
+     */
+    private static List<StreamEvent> coalesce(List<StreamEvent> events) {
+        Map<String, StreamEvent> latest = new LinkedHashMap<>();
+        for (StreamEvent event : events) {
+            latest.remove(event.coalesceKey);
+            latest.put(event.coalesceKey, event);
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    /**
+     * Converte o Last-Event-ID recebido em cursor; retorna -1 quando não é possível retomar
+     */
+    private long resumeCursor(String lastEventId, long head) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return head;
+        }
+        int separator = lastEventId.indexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            long sequence = Long.parseLong(lastEventId.substring(separator + 1));
+            long oldestAvailable = Math.max(1, head - buffer.length + 1);
+            if (sequence > head || sequence + 1 < oldestAvailable) {
+                return -1;
+            }
+            return sequence;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private long lastSequence() {
+        synchronized (buffer) {
+            return lastSequence;
+        }
+    }
+
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    private void close(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.remove(subscriber);
+        try {
+            subscriber.emitter.complete();
+        } catch (IllegalStateException ignored) {
+            // Emitter já finalizado
+        }
+    }
+
+    private StockViewDTO toDTO(CatalogEntry entry) {
+        return new StockViewDTO(
+                entry.getProductId(),
+                entry.getProductName(),
+                entry.getQuantityAvailable(),
+                entry.getLastUpdated(),
+                changeDetector.isBelowMinimum(entry)
+        );
+    }
+
+    private static final class StreamEvent {
+        private final long sequence;
+        private final String name;
+        private final String coalesceKey;
+        private final Object data;
+
+        private StreamEvent(long sequence, String name, String coalesceKey, Object data) {
+            this.sequence = sequence;
+            this.name = name;
+            this.coalesceKey = coalesceKey;
+            this.data = data;
+        }
+    }
+
+    private static final class Batch {
+        private final List<StreamEvent> events;
+        private final long lastSequence;
+        private final boolean overflow;
+
+        private Batch(List<StreamEvent> events, long lastSequence, boolean overflow) {
+            this.events = events;
+            this.lastSequence = lastSequence;
+            this.overflow = overflow;
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        // Lock em vez de synchronized: a escrita bloqueante não prende a carrier thread da virtual thread
+        private final ReentrantLock sendLock = new ReentrantLock();
+        private volatile long cursor;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
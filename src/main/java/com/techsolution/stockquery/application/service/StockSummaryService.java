@@ -0,0 +1,121 @@
+package com.techsolution.stockquery.application.service;
+
+import com.techsolution.stockquery.application.dto.StockQuantityBucketDTO;
+import com.techsolution.stockquery.application.dto.StockSummaryDTO;
+import com.techsolution.stockquery.infrastructure.catalog.CatalogEntry;
+import com.techsolution.stockquery.infrastructure.catalog.StockCatalog;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeDetector;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeEvent;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Totais do estoque (produtos, unidades, abaixo do mínimo, histograma de quantidades e valor do
+ * inventário) mantidos de forma incremental a partir dos eventos de alteração do catálogo.
+ *
+ * Cada evento subtrai a contribuição do estado anterior do produto e soma a do atual, então a
+ * consulta dos totais é O(1), sem percorrer o catálogo. O valor do inventário é acumulado em
+ * centavos (long, ponto fixo) com soma exata: nenhum arredondamento se acumula entre eventos.
+ */
+@Service
+public class StockSummaryService implements StockChangeListener {
+
+    private final StockCatalog stockCatalog;
+    private final StockChangeDetector changeDetector;
+    private final int[] bucketUpperBounds;
+
+    private long productCount;
+    private long totalUnits;
+    private long belowMinimumCount;
+    private long productsWithoutQuantity;
+    private long productsWithoutPrice;
+    private long inventoryValueCents;
+    private final long[] histogram;
+
+    public StockSummaryService(StockCatalog stockCatalog,
+                               StockChangeDetector changeDetector,
+                               @Value("${stock.summary.histogram-bounds:0,9,49,99,499,999}") int[] bucketUpperBounds) {
+        this.stockCatalog = stockCatalog;
+        this.changeDetector = changeDetector;
+        this.bucketUpperBounds = Arrays.stream(bucketUpperBounds).sorted().distinct().toArray();
+        this.histogram = new long[this.bucketUpperBounds.length + 1];
+        changeDetector.subscribe(this);
+    }
+
+    @Override
+    public synchronized void onStockChange(StockChangeEvent event) {
+        if (event.getPrevious() != null) {
+            apply(event.getPrevious(), -1);
+        }
+        if (event.getCurrent() != null) {
+            apply(event.getCurrent(), 1);
+        }
+    }
+
+    /**
+     * Totais atuais, consistentes entre si (lidos sob o mesmo lock da atualização)
+     */
+    public StockSummaryDTO getSummary() {
+        StockSummaryDTO summary = new StockSummaryDTO();
+        long[] buckets;
+        synchronized (this) {
+            summary.setProductCount(productCount);
+            summary.setTotalUnits(totalUnits);
+            summary.setBelowMinimumCount(belowMinimumCount);
+            summary.setProductsWithoutQuantity(productsWithoutQuantity);
+            summary.setProductsWithoutPrice(productsWithoutPrice);
+            summary.setInventoryValue(BigDecimal.valueOf(inventoryValueCents, 2));
+            buckets = histogram.clone();
+        }
+        summary.setMinimumStockLimit(changeDetector.getMinimumStockLimit());
+        summary.setQuantityHistogram(toBuckets(buckets));
+        summary.setCatalogLoaded(stockCatalog.isLoaded());
+        summary.setGeneratedAt(LocalDateTime.now());
+        return summary;
+    }
+
+    private void apply(CatalogEntry entry, int sign) {
+        productCount += sign;
+        Integer quantity = entry.getQuantityAvailable();
+        if (quantity == null) {
+            productsWithoutQuantity += sign;
+        } else {
+            totalUnits += (long) sign * quantity;
+            histogram[bucketOf(quantity)] += sign;
+            if (changeDetector.isBelowMinimum(entry)) {
+                belowMinimumCount += sign;
+            }
+        }
+        Long priceCents = entry.getPriceCents();
+        if (priceCents == null) {
+            productsWithoutPrice += sign;
+        } else if (quantity != null) {
+            inventoryValueCents = Math.addExact(inventoryValueCents, sign * Math.multiplyExact(priceCents, (long) quantity));
+        }
+    }
+
+    private int bucketOf(int quantity) {
+        int index = Arrays.binarySearch(bucketUpperBounds, quantity);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private List<StockQuantityBucketDTO> toBuckets(long[] counts) {
+        List<StockQuantityBucketDTO> buckets = new ArrayList<>(counts.length);
+        int from = 0;
+        for (int i = 0; i < counts.length; i++) {
+            Integer to = i < bucketUpperBounds.length ? bucketUpperBounds[i] : null;
+            buckets.add(new StockQuantityBucketDTO(from, to, counts[i]));
+            if (to != null) {
+                from = to + 1;
+            }
+        }
+        return buckets;
+    }
+}
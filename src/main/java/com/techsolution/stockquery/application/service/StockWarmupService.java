@@ -0,0 +1,242 @@
+package com.techsolution.stockquery.application.service;
+
+import com.techsolution.stockquery.domain.model.StockView;
+import com.techsolution.stockquery.infrastructure.catalog.StockCatalog;
+import com.techsolution.stockquery.infrastructure.client.PageResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fase de aquecimento executada na inicialização, antes de o pod ser considerado pronto.
+ *
+ * Carrega o catálogo local (páginas buscadas em paralelo, com paralelismo limitado) e/ou os
+ * produtos mais acessados configurados, preenchendo o cache de consultas pontuais. Enquanto
+ * o aquecimento não termina (ou não atinge o tempo limite), o health indicator de readiness
+ * reporta DOWN. O progresso é exposto como métricas.
+ */
+@Service
+public class StockWarmupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockWarmupService.class);
+    private static final int CRAWL_PAGE_SIZE = 100;
+
+    public enum State { PENDING, RUNNING, COMPLETED, TIMED_OUT, FAILED, DISABLED }
+
+    private final StockQueryService stockQueryService;
+    private final StockCatalogService stockCatalogService;
+    private final StockCatalog stockCatalog;
+    private final boolean enabled;
+    private final boolean loadCatalog;
+    private final List<UUID> hotProductIds;
+    private final int parallelism;
+    private final long timeoutMs;
+
+    private final AtomicInteger totalItems = new AtomicInteger();
+    private final AtomicInteger loadedItems = new AtomicInteger();
+    private final AtomicInteger failedItems = new AtomicInteger();
+    private volatile State state;
+    private volatile long durationMs;
+
+    public StockWarmupService(StockQueryService stockQueryService,
+                              StockCatalogService stockCatalogService,
+                              StockCatalog stockCatalog,
+                              MeterRegistry meterRegistry,
+                              @Value("${stock.warmup.enabled:true}") boolean enabled,
+                              @Value("${stock.warmup.catalog:true}") boolean loadCatalog,
+                              @Value("${stock.warmup.hot-product-ids:}") List<UUID> hotProductIds,
+                              @Value("${stock.warmup.top-n:100}") int topN,
+                              @Value("${stock.warmup.parallelism:4}") int parallelism,
+                              @Value("${stock.warmup.timeout-ms:30000}") long timeoutMs) {
+        this.stockQueryService = stockQueryService;
+        this.stockCatalogService = stockCatalogService;
+        this.stockCatalog = stockCatalog;
+        this.enabled = enabled;
+        this.loadCatalog = loadCatalog;
+        this.hotProductIds = hotProductIds.subList(0, Math.min(topN, hotProductIds.size()));
+        this.parallelism = Math.max(1, parallelism);
+        this.timeoutMs = timeoutMs;
+        this.state = enabled ? State.PENDING : State.DISABLED;
+
+        Gauge.builder("stock.warmup.items.total", totalItems, AtomicInteger::get)
+                .description("Itens (páginas do catálogo + produtos) previstos no aquecimento")
+                .register(meterRegistry);
+        Gauge.builder("stock.warmup.items.loaded", loadedItems, AtomicInteger::get)
+                .description("Itens já carregados no aquecimento")
+                .register(meterRegistry);
+        Gauge.builder("stock.warmup.items.failed", failedItems, AtomicInteger::get)
+                .description("Itens que falharam no aquecimento")
+                .register(meterRegistry);
+        Gauge.builder("stock.warmup.progress", this, StockWarmupService::getProgress)
+                .description("Progresso do aquecimento (0 a 1)")
+                .register(meterRegistry);
+        Gauge.builder("stock.warmup.completed", this, service -> service.isFinished() ? 1 : 0)
+                .description("1 quando o aquecimento terminou (ou atingiu o tempo limite)")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            Thread.ofVirtual().name("stock-warmup").start(this::warmUp);
+        }
+    }
+
+    /**
+     * Executa o aquecimento respeitando o tempo limite configurado
+     */
+    public void warmUp() {
+        long startTime = System.currentTimeMillis();
+        long deadline = startTime + timeoutMs;
+        state = State.RUNNING;
+        logger.info("=== INÍCIO WARM-UP === catálogo: {}, produtos quentes: {}, paralelismo: {}, limite: {}ms",
+                loadCatalog, hotProductIds.size(), parallelism, timeoutMs);
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        Semaphore permits = new Semaphore(parallelism);
+        try {
+            totalItems.addAndGet(hotProductIds.size());
+            for (UUID productId : hotProductIds) {
+                submit(executor, permits, () -> stockQueryService.findByProductId(productId));
+            }
+
+            // Catálogo restaurado do snapshot já responde; a reconciliação ocorre em segundo plano
+            if (loadCatalog && !stockCatalog.isLoaded()) {
+                stockCatalogService.deferScheduledRefresh(timeoutMs);
+                crawlCatalog(executor, permits, deadline);
+            }
+
+            executor.shutdown();
+            boolean finished = executor.awaitTermination(
+                    Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            state = finished ? State.COMPLETED : State.TIMED_OUT;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            state = State.TIMED_OUT;
+        } catch (Exception e) {
+            logger.error("Falha no warm-up: {} - liberando readiness mesmo assim", e.getMessage());
+            state = State.FAILED;
+        } finally {
+            executor.shutdownNow();
+            durationMs = System.currentTimeMillis() - startTime;
+        }
+
+        logger.info("=== FIM WARM-UP === estado: {}, carregados: {}/{}, falhas: {}, Tempo: {}ms",
+                state, loadedItems.get(), totalItems.get(), failedItems.get(), durationMs);
+    }
+
+    /**
+     * Busca a primeira página para conhecer o total e as demais em paralelo
+     */
+    private void crawlCatalog(ExecutorService executor, Semaphore permits, long deadline) throws InterruptedException {
+        totalItems.incrementAndGet();
+        PageResponse<StockView> firstPage = stockQueryService.findStocksPaginated(0, CRAWL_PAGE_SIZE);
+        loadedItems.incrementAndGet();
+
+        int totalPages = firstPage.getTotalPages() != null ? firstPage.getTotalPages() : 1;
+        Queue<List<StockView>> pages = new ConcurrentLinkedQueue<>();
+        pages.add(firstPage.getContent());
+        AtomicInteger failedPages = new AtomicInteger();
+        totalItems.addAndGet(totalPages - 1);
+
+        ExecutorService pageExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            for (int page = 1; page < totalPages; page++) {
+                int currentPage = page;
+                submit(pageExecutor, permits, () -> {
+                    try {
+                        pages.add(stockQueryService.findStocksPaginated(currentPage, CRAWL_PAGE_SIZE).getContent());
+                    } catch (RuntimeException e) {
+                        failedPages.incrementAndGet();
+                        throw e;
+                    }
+                });
+            }
+            pageExecutor.shutdown();
+            if (!pageExecutor.awaitTermination(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS)) {
+                logger.warn("Warm-up: carga do catálogo não terminou no tempo limite - aguardando carga periódica");
+                return;
+            }
+        } finally {
+            pageExecutor.shutdownNow();
+        }
+
+        if (failedPages.get() > 0) {
+            // Catálogo parcial removeria produtos existentes: fica para a carga periódica
+            logger.warn("Warm-up: {} páginas falharam - catálogo não carregado", failedPages.get());
+            stockCatalogService.deferScheduledRefresh(0);
+            return;
+        }
+        List<StockView> stocks = new ArrayList<>();
+        pages.forEach(stocks::addAll);
+        stockCatalogService.load(stocks);
+    }
+
+    private void submit(ExecutorService executor, Semaphore permits, Runnable task) {
+        executor.execute(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                task.run();
+                loadedItems.incrementAndGet();
+            } catch (Exception e) {
+                failedItems.incrementAndGet();
+                logger.warn("Warm-up: falha ao carregar item: {}", e.getMessage());
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Indica se o aquecimento terminou, falhou ou atingiu o tempo limite (ou está desabilitado)
+     */
+    public boolean isFinished() {
+        State current = state;
+        return current != State.PENDING && current != State.RUNNING;
+    }
+
+    public double getProgress() {
+        int total = totalItems.get();
+        if (isFinished()) {
+            return 1.0;
+        }
+        return total == 0 ? 0.0 : Math.min(1.0, (double) (loadedItems.get() + failedItems.get()) / total);
+    }
+
+    public int getLoadedItems() {
+        return loadedItems.get();
+    }
+
+    public int getTotalItems() {
+        return totalItems.get();
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+}
@@ -0,0 +1,108 @@
+package com.techsolution.stockquery.domain.model;
+
+/**
+ * Critérios de filtro e ordenação para consultas sobre o catálogo local de estoques.
+ * Todos os campos são opcionais; campos nulos não restringem o resultado.
+ */
+public class StockFilter {
+    private final Integer minQuantity;
+    private final Integer maxQuantity;
+    private final String namePrefix;
+    private final StockSort sort;
+    private final boolean descending;
+
+    public StockFilter(Integer minQuantity, Integer maxQuantity, String namePrefix,
+                       StockSort sort, boolean descending) {
+        this.minQuantity = minQuantity;
+        this.maxQuantity = maxQuantity;
+        this.namePrefix = namePrefix != null && !namePrefix.isBlank() ? namePrefix : null;
+        this.sort = sort;
+        this.descending = descending;
+    }
+
+    /**
+     * Cria o filtro a partir dos parâmetros da API, convertendo {@code belowMinimum}
+     * em uma faixa de quantidade com base no limite mínimo de estoque.
+     *
+     * @param sort Campo de ordenação no formato "campo" ou "campo,asc|desc"
+     * @throws IllegalArgumentException quando a faixa ou a ordenação são inválidas
+     */
+    public static StockFilter of(Integer minQty, Integer maxQty, Boolean belowMinimum, String namePrefix,
+                                 String sort, int minimumStockLimit) {
+        Integer min = minQty;
+        Integer max = maxQty;
+
+        if (Boolean.TRUE.equals(belowMinimum)) {
+            max = max != null ? Math.min(max, minimumStockLimit - 1) : minimumStockLimit - 1;
+        } else if (Boolean.FALSE.equals(belowMinimum)) {
+            min = min != null ? Math.max(min, minimumStockLimit) : minimumStockLimit;
+        }
+
+        if (minQty != null && maxQty != null && minQty > maxQty) {
+            throw new IllegalArgumentException(
+                    "Parâmetro 'minQty' (" + minQty + ") não pode ser maior que 'maxQty' (" + maxQty + ")");
+        }
+
+        StockSort sortField = null;
+        boolean descending = false;
+        if (sort != null && !sort.isBlank()) {
+            String[] parts = sort.split(",");
+            sortField = StockSort.fromFieldName(parts[0]);
+            if (parts.length > 1) {
+                String direction = parts[1].trim();
+                if (direction.equalsIgnoreCase("desc")) {
+                    descending = true;
+                } else if (!direction.equalsIgnoreCase("asc")) {
+                    throw new IllegalArgumentException(
+                            "Direção de ordenação inválida: '" + direction + "'. Valores aceitos: asc, desc");
+                }
+            }
+        }
+
+        return new StockFilter(min, max, namePrefix, sortField, descending);
+    }
+
+    public Integer getMinQuantity() {
+        return minQuantity;
+    }
+
+    public Integer getMaxQuantity() {
+        return maxQuantity;
+    }
+
+    public String getNamePrefix() {
+        return namePrefix;
+    }
+
+    public StockSort getSort() {
+        return sort;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    /**
+     * Indica se a faixa de quantidade é vazia (ex: belowMinimum=true com minQty acima do limite)
+     */
+    public boolean isEmptyRange() {
+        return minQuantity != null && maxQuantity != null && minQuantity > maxQuantity;
+    }
+
+    public boolean matchesQuantity(Integer quantity) {
+        if (minQuantity == null && maxQuantity == null) {
+            return true;
+        }
+        if (quantity == null) {
+            return false;
+        }
+        return (minQuantity == null || quantity >= minQuantity)
+                && (maxQuantity == null || quantity <= maxQuantity);
+    }
+
+    @Override
+    public String toString() {
+        return "StockFilter{minQuantity=" + minQuantity + ", maxQuantity=" + maxQuantity
+                + ", namePrefix='" + namePrefix + "', sort=" + sort + ", descending=" + descending + "}";
+    }
+}
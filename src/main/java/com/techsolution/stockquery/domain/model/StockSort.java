@@ -0,0 +1,36 @@
+package com.techsolution.stockquery.domain.model;
+
+import java.util.Locale;
+
+/**
+ * Campos suportados para ordenação de consultas de estoque
+ */
+public enum StockSort {
+    QUANTITY_AVAILABLE("quantityAvailable"),
+    PRODUCT_NAME("productName");
+
+    private final String fieldName;
+
+    StockSort(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Converte o nome do campo recebido na API (ex: "quantityAvailable") para o enum
+     *
+     * @throws IllegalArgumentException quando o campo não é suportado
+     */
+    public static StockSort fromFieldName(String fieldName) {
+        for (StockSort sort : values()) {
+            if (sort.fieldName.equalsIgnoreCase(fieldName.trim())) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException(String.format(Locale.ROOT,
+                "Campo de ordenação inválido: '%s'. Valores aceitos: quantityAvailable, productName", fieldName));
+    }
+}
@@ -1,13 +1,21 @@
 package com.techsolution.stockquery.domain.model;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 public class StockView {
+
+    /**
+     * Quantidade abaixo da qual o estoque é considerado abaixo do mínimo
+     */
+    public static final int MINIMUM_STOCK_LIMIT = 10;
+
     private UUID productId;
     private String productName;
     private Integer quantityAvailable;
     private LocalDateTime lastUpdated;
+    private BigDecimal price;
 
     public StockView() {
     }
@@ -19,6 +27,12 @@ public class StockView {
         this.lastUpdated = lastUpdated;
     }
 
+    public StockView(UUID productId, String productName, Integer quantityAvailable, BigDecimal price,
+                     LocalDateTime lastUpdated) {
+        this(productId, productName, quantityAvailable, lastUpdated);
+        this.price = price;
+    }
+
     public UUID getProductId() {
         return productId;
     }
@@ -51,6 +65,17 @@ public class StockView {
         this.lastUpdated = lastUpdated;
     }
 
+    /**
+     * Preço unitário do produto, usado no valor do inventário
+     */
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
     public boolean isStockBelowMinimum(int minimumLimit) {
         return quantityAvailable < minimumLimit;
     }
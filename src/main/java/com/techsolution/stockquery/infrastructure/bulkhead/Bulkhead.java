@@ -0,0 +1,133 @@
+package com.techsolution.stockquery.infrastructure.bulkhead;
+
+import com.techsolution.stockquery.infrastructure.deadline.RequestDeadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Compartimento com número limitado de execuções simultâneas, fila de espera limitada e tempo
+ * máximo de espera. Uma classe de trabalho que satura o próprio bulkhead não ocupa as vagas
+ * (threads de requisição e conexões com o product-service) das demais.
+ *
+ * Política de rejeição: com a fila cheia a chamada é rejeitada na hora; na fila, aguarda até
+ * o tempo máximo (ou o prazo da requisição, o que acabar antes) e então é rejeitada.
+ */
+public class Bulkhead {
+
+    private static final Logger logger = LoggerFactory.getLogger(Bulkhead.class);
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long maxWaitMs;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Counter rejectionCounter;
+
+    public Bulkhead(String name, int maxConcurrent, int maxQueue, long maxWaitMs, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxQueue = Math.max(0, maxQueue);
+        this.maxWaitMs = Math.max(0, maxWaitMs);
+        this.permits = new Semaphore(this.maxConcurrent, true);
+
+        Gauge.builder("stock.bulkhead.active", this, Bulkhead::getActive)
+                .description("Execuções em andamento no bulkhead")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("stock.bulkhead.queued", waiting, AtomicInteger::get)
+                .description("Chamadas aguardando vaga no bulkhead")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("stock.bulkhead.saturation", this, bulkhead -> (double) bulkhead.getActive() / bulkhead.maxConcurrent)
+                .description("Fração das vagas do bulkhead em uso (0 a 1)")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        this.rejectionCounter = Counter.builder("stock.bulkhead.rejections")
+                .description("Chamadas rejeitadas por bulkhead cheio")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Executa a tarefa ocupando uma vaga do bulkhead
+     *
+     * @throws BulkheadFullException quando não há vaga dentro da política de espera
+     */
+    public <T> T execute(Supplier<T> task) {
+        acquire();
+        try {
+            return task.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Ocupa uma vaga adicional sem esperar nem entrar na fila (ex: página extra buscada em paralelo
+     * por uma varredura que já ocupa uma vaga). A vaga deve ser devolvida com {@link #release()}.
+     *
+     * @return {@code false} quando não há vaga livre no momento
+     */
+    public boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+
+    /**
+     * Devolve uma vaga obtida com {@link #tryAcquire()}
+     */
+    public void release() {
+        permits.release();
+    }
+
+    private void acquire() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (waiting.incrementAndGet() > maxQueue) {
+            waiting.decrementAndGet();
+            throw reject("fila cheia");
+        }
+        try {
+            long waitMs = RequestDeadline.current()
+                    .map(deadline -> Math.min(maxWaitMs, deadline.remainingMillis()))
+                    .orElse(maxWaitMs);
+            if (!permits.tryAcquire(waitMs, TimeUnit.MILLISECONDS)) {
+                throw reject("tempo de espera esgotado");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("espera interrompida");
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private BulkheadFullException reject(String reason) {
+        rejectionCounter.increment();
+        logger.warn("Bulkhead '{}' cheio ({}) - ativos: {}/{}, aguardando: {}/{}",
+                name, reason, getActive(), maxConcurrent, waiting.get(), maxQueue);
+        return new BulkheadFullException(name, "Capacidade de '" + name + "' esgotada ("
+                + maxConcurrent + " execuções simultâneas); tente novamente em instantes");
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+}
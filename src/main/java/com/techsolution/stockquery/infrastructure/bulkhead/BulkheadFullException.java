@@ -0,0 +1,19 @@
+package com.techsolution.stockquery.infrastructure.bulkhead;
+
+/**
+ * Lançada quando o bulkhead está com todas as vagas ocupadas e a fila de espera cheia
+ * (ou o tempo máximo de espera acabou)
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    private final String bulkhead;
+
+    public BulkheadFullException(String bulkhead, String message) {
+        super(message);
+        this.bulkhead = bulkhead;
+    }
+
+    public String getBulkhead() {
+        return bulkhead;
+    }
+}
@@ -0,0 +1,68 @@
+package com.techsolution.stockquery.infrastructure.bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bulkheads das consultas ao product-service, separados por classe de trabalho:
+ * consultas pontuais (GET /stocks/{productId}), páginas avulsas e varreduras completas
+ * (GET /stock e carga do catálogo). Cada um limita as execuções simultâneas - e portanto as
+ * conexões com o product-service - da sua classe. Cada varredura ocupa uma vaga e mais uma para
+ * cada página adicional buscada em paralelo, de modo que o limite do bulkhead de varreduras vale
+ * para as páginas em andamento. As exportações CSV têm um bulkhead próprio porque duram o tempo
+ * do download, que depende do cliente.
+ */
+@Component
+public class StockBulkheads {
+
+    private final Bulkhead point;
+    private final Bulkhead page;
+    private final Bulkhead crawl;
+    private final Bulkhead export;
+
+    public StockBulkheads(MeterRegistry meterRegistry,
+                          @Value("${stock.bulkhead.point.max-concurrent:64}") int pointMaxConcurrent,
+                          @Value("${stock.bulkhead.point.max-queue:128}") int pointMaxQueue,
+                          @Value("${stock.bulkhead.point.max-wait-ms:100}") long pointMaxWaitMs,
+                          @Value("${stock.bulkhead.page.max-concurrent:16}") int pageMaxConcurrent,
+                          @Value("${stock.bulkhead.page.max-queue:32}") int pageMaxQueue,
+                          @Value("${stock.bulkhead.page.max-wait-ms:500}") long pageMaxWaitMs,
+                          @Value("${stock.bulkhead.crawl.max-concurrent:8}") int crawlMaxConcurrent,
+                          @Value("${stock.bulkhead.crawl.max-queue:2}") int crawlMaxQueue,
+                          @Value("${stock.bulkhead.crawl.max-wait-ms:1000}") long crawlMaxWaitMs,
+                          @Value("${stock.bulkhead.export.max-concurrent:2}") int exportMaxConcurrent,
+                          @Value("${stock.bulkhead.export.max-queue:0}") int exportMaxQueue,
+                          @Value("${stock.bulkhead.export.max-wait-ms:0}") long exportMaxWaitMs) {
+        this.point = new Bulkhead("point", pointMaxConcurrent, pointMaxQueue, pointMaxWaitMs, meterRegistry);
+        this.page = new Bulkhead("page", pageMaxConcurrent, pageMaxQueue, pageMaxWaitMs, meterRegistry);
+        this.crawl = new Bulkhead("crawl", crawlMaxConcurrent, crawlMaxQueue, crawlMaxWaitMs, meterRegistry);
+        this.export = new Bulkhead("export", exportMaxConcurrent, exportMaxQueue, exportMaxWaitMs, meterRegistry);
+    }
+
+    /**
+     * Bulkheads sem limite prático, para uso fora do contexto Spring
+     */
+    public static StockBulkheads unbounded() {
+        return new StockBulkheads(new SimpleMeterRegistry(),
+                Integer.MAX_VALUE, 0, 0, Integer.MAX_VALUE, 0, 0, Integer.MAX_VALUE, 0, 0,
+                Integer.MAX_VALUE, 0, 0);
+    }
+
+    public Bulkhead point() {
+        return point;
+    }
+
+    public Bulkhead page() {
+        return page;
+    }
+
+    public Bulkhead crawl() {
+        return crawl;
+    }
+
+    public Bulkhead export() {
+        return export;
+    }
+}
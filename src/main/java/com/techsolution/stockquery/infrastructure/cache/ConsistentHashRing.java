@@ -0,0 +1,79 @@
+package com.techsolution.stockquery.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Anel de hash consistente que define a réplica dona de cada produto.
+ *
+ * Cada nó ocupa várias posições (nós virtuais) para distribuir as chaves de forma uniforme;
+ * ao adicionar ou remover um nó, apenas as chaves vizinhas às suas posições mudam de dono.
+ * Como as posições dependem só do nome do nó, réplicas com a mesma lista de nós chegam
+ * ao mesmo dono para cada chave sem precisar se coordenar.
+ *
+ * @param <N> Tipo do nó (ex: URI da réplica)
+ */
+public class ConsistentHashRing<N> {
+
+    private final TreeMap<Long, N> ring = new TreeMap<>();
+
+    public ConsistentHashRing(Collection<N> nodes, int virtualNodes) {
+        int replicas = Math.max(1, virtualNodes);
+        for (N node : nodes) {
+            for (int i = 0; i < replicas; i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    /**
+     * Nó dono da chave: a primeira posição do anel igual ou posterior ao hash da chave
+     *
+     * @return Nó dono, ou {@code null} se o anel está vazio
+     */
+    public N ownerOf(UUID key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, N> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public boolean isEmpty() {
+        return ring.isEmpty();
+    }
+
+    static long hash(UUID key) {
+        return mix(key.getMostSignificantBits() ^ Long.rotateLeft(key.getLeastSignificantBits(), 32));
+    }
+
+    static long hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            long hash = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 indisponível", e);
+        }
+    }
+
+    /**
+     * Finalizador do MurmurHash3 (fmix64): espalha os bits da chave por todo o anel
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb93e53ca49b3L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,97 @@
+package com.techsolution.stockquery.infrastructure.cache;
+
+import java.util.UUID;
+
+/**
+ * Estimativa compacta da frequência de acesso dos produtos (count-min sketch com contadores de
+ * 4 bits), usada pela admissão TinyLFU do {@link StockCache}.
+ *
+ * Cada {@code long} da tabela guarda 16 contadores; cada chave é contada em 4 deles (um por
+ * função de hash) e a frequência estimada é o menor dos 4. A cada {@code 10 x capacidade}
+ * incrementos todos os contadores caem pela metade (envelhecimento), para que produtos que
+ * deixaram de ser procurados percam prioridade.
+ *
+ * Não é thread-safe: cada segmento do cache tem o seu, protegido pelo lock do segmento.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int capacity) {
+        int size = Integer.highestOneBit(Math.max(4, capacity) - 1) << 1;
+        this.table = new long[size];
+        this.tableMask = size - 1;
+        this.sampleSize = 10 * Math.max(1, capacity);
+    }
+
+    /**
+     * Frequência estimada (0 a 15) do produto desde o último envelhecimento, nunca subestimada
+     */
+    int frequency(UUID key) {
+        long hash = spread(key);
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long h = rehash(hash, i);
+            frequency = Math.min(frequency, (int) ((table[indexOf(h)] >>> offsetOf(h, i)) & 0xfL));
+        }
+        return frequency;
+    }
+
+    void increment(UUID key) {
+        long hash = spread(key);
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long h = rehash(hash, i);
+            int index = indexOf(h);
+            int offset = offsetOf(h, i);
+            if (((table[index] >>> offset) & 0xfL) < MAX_COUNT) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Envelhecimento: divide todos os contadores por 2
+     */
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+
+    private int indexOf(long h) {
+        return (int) (h >>> 32) & tableMask;
+    }
+
+    /**
+     * Posição (em bits) do contador: cada função de hash usa um grupo próprio de 4 contadores do {@code long}
+     */
+    private static int offsetOf(long h, int i) {
+        return ((i << 2) + (int) (h & 3)) << 2;
+    }
+
+    private static long rehash(long hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        return h ^ (h >>> 29);
+    }
+
+    private static long spread(UUID key) {
+        long h = key.getMostSignificantBits() ^ key.getLeastSignificantBits();
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        return h ^ (h >>> 33);
+    }
+}
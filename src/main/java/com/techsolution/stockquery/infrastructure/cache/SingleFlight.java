@@ -0,0 +1,65 @@
+package com.techsolution.stockquery.infrastructure.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Combina cargas concorrentes da mesma chave: enquanto uma carga está em andamento, as demais
+ * chamadas para a mesma chave aguardam e recebem o mesmo resultado (ou a mesma exceção),
+ * em vez de repetir a consulta ao serviço de origem.
+ *
+ * @param <K> Tipo da chave
+ * @param <V> Tipo do valor carregado
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Executa a carga da chave ou aguarda a carga já em andamento
+     *
+     * @param key Chave carregada
+     * @param loader Carga executada apenas pela primeira chamada concorrente
+     * @return Valor carregado
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            V value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Quantidade de chaves com carga em andamento
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
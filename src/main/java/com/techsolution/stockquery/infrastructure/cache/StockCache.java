@@ -0,0 +1,368 @@
+package com.techsolution.stockquery.infrastructure.cache;
+
+import com.techsolution.stockquery.domain.model.StockView;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeDetector;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeEvent;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeListener;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeType;
+import com.techsolution.stockquery.infrastructure.jfr.StockCacheLookupEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache local das consultas pontuais de estoque ({@code GET /stocks/{productId}}).
+ *
+ * Limitado em tamanho (LRU) e com expiração por TTL. As entradas são divididas em segmentos
+ * independentes, cada um com seu próprio lock, para que leituras e atualizações de produtos
+ * diferentes não disputem o mesmo lock.
+ *
+ * Com a admissão TinyLFU ({@code stock.cache.admission.enabled}), cada segmento conta as consultas
+ * num {@link FrequencySketch} e, cheio, só admite um produto novo se ele foi mais procurado que a
+ * entrada que seria descartada (a menos usada recentemente). Assim varreduras e IDs consultados
+ * uma única vez não deslocam os produtos mais procurados. Entradas já presentes são mantidas atualizadas pelos
+ * eventos do {@link StockChangeDetector} e pelos eventos recebidos via push.
+ *
+ * Produtos que o product-service respondeu como inexistentes ficam num cache negativo separado,
+ * com capacidade e TTL próprios (curtos), para que varreduras de IDs aleatórios não desloquem as
+ * entradas reais. A marca de inexistente cai assim que o produto aparece (evento de alteração,
+ * evento via push ou nova leitura) ou é invalidado.
+ */
+@Component
+public class StockCache implements StockChangeListener {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final Segment[] missingSegments = new Segment[SEGMENTS];
+    private final long ttlNanos;
+    private final long missingTtlNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong admissionRejections = new AtomicLong();
+
+    @Autowired
+    public StockCache(StockChangeDetector changeDetector,
+                      @Value("${stock.cache.max-size:10000}") int maxSize,
+                      @Value("${stock.cache.ttl-ms:30000}") long ttlMs,
+                      @Value("${stock.cache.negative.max-size:10000}") int missingMaxSize,
+                      @Value("${stock.cache.negative.ttl-ms:5000}") long missingTtlMs,
+                      @Value("${stock.cache.admission.enabled:true}") boolean admissionEnabled) {
+        this(maxSize, ttlMs, missingMaxSize, missingTtlMs, admissionEnabled, System::nanoTime);
+        changeDetector.subscribe(this);
+    }
+
+    /**
+     * Cache LRU sem admissão por frequência
+     */
+    public StockCache(StockChangeDetector changeDetector, int maxSize, long ttlMs,
+                      int missingMaxSize, long missingTtlMs) {
+        this(changeDetector, maxSize, ttlMs, missingMaxSize, missingTtlMs, false);
+    }
+
+    /**
+     * Cache sem entradas negativas
+     */
+    public StockCache(StockChangeDetector changeDetector, int maxSize, long ttlMs) {
+        this(changeDetector, maxSize, ttlMs, 0, 0);
+    }
+
+    StockCache(int maxSize, long ttlMs, LongSupplier nanoClock) {
+        this(maxSize, ttlMs, 0, 0, false, nanoClock);
+    }
+
+    StockCache(int maxSize, long ttlMs, int missingMaxSize, long missingTtlMs, LongSupplier nanoClock) {
+        this(maxSize, ttlMs, missingMaxSize, missingTtlMs, false, nanoClock);
+    }
+
+    StockCache(int maxSize, long ttlMs, int missingMaxSize, long missingTtlMs, boolean admissionEnabled,
+               LongSupplier nanoClock) {
+        int segmentCapacity = Math.max(1, (maxSize + SEGMENTS - 1) / SEGMENTS);
+        int missingSegmentCapacity = Math.max(1, (missingMaxSize + SEGMENTS - 1) / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(segmentCapacity,
+                    admissionEnabled ? new FrequencySketch(segmentCapacity) : null);
+            missingSegments[i] = new Segment(missingSegmentCapacity, null);
+        }
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.missingTtlNanos = missingMaxSize > 0 ? TimeUnit.MILLISECONDS.toNanos(missingTtlMs) : 0;
+        this.nanoClock = nanoClock;
+    }
+
+    public Optional<StockView> get(UUID productId) {
+        StockView stock = lookup(productId);
+        StockCacheLookupEvent.record("stock", productId, stock != null);
+        return Optional.ofNullable(stock);
+    }
+
+    private StockView lookup(UUID productId) {
+        Segment segment = segmentFor(productId);
+        synchronized (segment) {
+            segment.recordAccess(productId);
+            CachedStock cached = segment.get(productId);
+            if (cached == null) {
+                return null;
+            }
+            if (nanoClock.getAsLong() - cached.expiresAt > 0) {
+                segment.remove(productId);
+                return null;
+            }
+            return cached.stock;
+        }
+    }
+
+    /**
+     * Tempo restante até a expiração da entrada do produto, sem contar na frequência de consultas
+     * nem alterar a ordem de descarte (LRU)
+     *
+     * @return vazio quando o produto não está no cache ou já expirou
+     */
+    public OptionalLong remainingTtlMillis(UUID productId) {
+        Segment segment = segmentFor(productId);
+        synchronized (segment) {
+            CachedStock cached = segment.peek(productId);
+            if (cached == null) {
+                return OptionalLong.empty();
+            }
+            long remainingNanos = cached.expiresAt - nanoClock.getAsLong();
+            return remainingNanos < 0 ? OptionalLong.empty() : OptionalLong.of(TimeUnit.NANOSECONDS.toMillis(remainingNanos));
+        }
+    }
+
+    /**
+     * Guarda o estoque; com a admissão por frequência, um produto novo pode ser recusado quando o
+     * segmento está cheio e a entrada a descartar foi mais procurada que ele
+     */
+    public void put(StockView stock) {
+        Segment segment = segmentFor(stock.getProductId());
+        synchronized (segment) {
+            long now = nanoClock.getAsLong();
+            if (segment.admits(stock.getProductId(), now)) {
+                segment.put(stock.getProductId(), new CachedStock(stock, now + ttlNanos));
+            } else {
+                admissionRejections.incrementAndGet();
+            }
+        }
+        clearMissing(stock.getProductId());
+    }
+
+    /**
+     * Registra que o product-service não conhece o produto (sem efeito com o cache negativo desabilitado)
+     */
+    public void putMissing(UUID productId) {
+        if (missingTtlNanos <= 0) {
+            return;
+        }
+        Segment segment = missingSegmentFor(productId);
+        synchronized (segment) {
+            segment.put(productId, new CachedStock(null, nanoClock.getAsLong() + missingTtlNanos));
+        }
+    }
+
+    /**
+     * Indica se o produto foi respondido como inexistente há menos que o TTL do cache negativo
+     */
+    public boolean isMissing(UUID productId) {
+        if (missingTtlNanos <= 0) {
+            return false;
+        }
+        boolean missing = lookupMissing(productId);
+        StockCacheLookupEvent.record("missing", productId, missing);
+        return missing;
+    }
+
+    private boolean lookupMissing(UUID productId) {
+        Segment segment = missingSegmentFor(productId);
+        synchronized (segment) {
+            CachedStock missing = segment.get(productId);
+            if (missing == null) {
+                return false;
+            }
+            if (nanoClock.getAsLong() - missing.expiresAt > 0) {
+                segment.remove(productId);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Atualiza a quantidade de um produto já presente no cache, renovando o TTL
+     *
+     * @return {@code false} quando o produto não está no cache
+     */
+    public boolean updateQuantity(UUID productId, Integer quantityAvailable, LocalDateTime lastUpdated) {
+        // Evento de estoque do produto: ele existe, mesmo que não esteja no cache
+        clearMissing(productId);
+        Segment segment = segmentFor(productId);
+        synchronized (segment) {
+            CachedStock cached = segment.get(productId);
+            if (cached == null) {
+                return false;
+            }
+            StockView updated = new StockView(productId, cached.stock.getProductName(), quantityAvailable,
+                    cached.stock.getPrice(), lastUpdated);
+            segment.put(productId, new CachedStock(updated, nanoClock.getAsLong() + ttlNanos));
+            return true;
+        }
+    }
+
+    public void invalidate(UUID productId) {
+        Segment segment = segmentFor(productId);
+        synchronized (segment) {
+            segment.remove(productId);
+        }
+        clearMissing(productId);
+    }
+
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+        for (Segment segment : missingSegments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Mantém atualizados apenas os produtos que já estão no cache, sem admitir novos
+     */
+    @Override
+    public void onStockChange(StockChangeEvent event) {
+        if (event.is(StockChangeType.REMOVED)) {
+            invalidate(event.getProductId());
+            return;
+        }
+        clearMissing(event.getProductId());
+        Segment segment = segmentFor(event.getProductId());
+        synchronized (segment) {
+            if (segment.containsKey(event.getProductId())) {
+                put(event.getCurrent().toStockView());
+            }
+        }
+    }
+
+    /**
+     * Produtos novos recusados pela admissão por frequência desde o início
+     */
+    public long getAdmissionRejections() {
+        return admissionRejections.get();
+    }
+
+    private void clearMissing(UUID productId) {
+        if (missingTtlNanos <= 0) {
+            return;
+        }
+        Segment segment = missingSegmentFor(productId);
+        synchronized (segment) {
+            segment.remove(productId);
+        }
+    }
+
+    private Segment segmentFor(UUID productId) {
+        return segments[indexFor(productId)];
+    }
+
+    private Segment missingSegmentFor(UUID productId) {
+        return missingSegments[indexFor(productId)];
+    }
+
+    private static int indexFor(UUID productId) {
+        int hash = productId.hashCode();
+        return (hash ^ (hash >>> 16)) & (SEGMENTS - 1);
+    }
+
+    /**
+     * Entrada do cache; {@code stock} é {@code null} nas entradas do cache negativo
+     */
+    private static final class CachedStock {
+        private final StockView stock;
+        private final long expiresAt;
+
+        private CachedStock(StockView stock, long expiresAt) {
+            this.stock = stock;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Segmento LRU: LinkedHashMap em ordem de acesso que descarta a entrada mais antiga, com
+     * admissão opcional pela frequência estimada ({@code sketch} nulo: LRU simples)
+     */
+    private static final class Segment extends LinkedHashMap<UUID, CachedStock> {
+        private final int capacity;
+        private final FrequencySketch sketch;
+
+        private Segment(int capacity, FrequencySketch sketch) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.sketch = sketch;
+        }
+
+        private void recordAccess(UUID productId) {
+            if (sketch != null) {
+                sketch.increment(productId);
+            }
+        }
+
+        /**
+         * Leitura sem alterar a ordem de uso (o {@code get} de um mapa em ordem de acesso move a
+         * entrada para o fim). Percorre a partir das entradas usadas mais recentemente, onde
+         * ficam os produtos mais consultados.
+         */
+        private CachedStock peek(UUID productId) {
+            if (!containsKey(productId)) {
+                return null;
+            }
+            for (Map.Entry<UUID, CachedStock> entry : reversed().entrySet()) {
+                if (entry.getKey().equals(productId)) {
+                    return entry.getValue();
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Produto já presente ou segmento com espaço: sempre admitido. Cheio, o produto novo só
+         * entra se a entrada menos usada recentemente já expirou ou foi menos procurada que ele.
+         */
+        private boolean admits(UUID candidate, long now) {
+            if (sketch == null || size() < capacity || containsKey(candidate)) {
+                return true;
+            }
+            Map.Entry<UUID, CachedStock> victim = entrySet().iterator().next();
+            if (now - victim.getValue().expiresAt > 0) {
+                return true;
+            }
+            return sketch.frequency(candidate) > sketch.frequency(victim.getKey());
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, CachedStock> eldest) {
+            return size() > capacity;
+        }
+    }
+}
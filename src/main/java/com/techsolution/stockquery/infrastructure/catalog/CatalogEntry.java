@@ -0,0 +1,139 @@
+package com.techsolution.stockquery.infrastructure.catalog;
+
+import com.techsolution.stockquery.domain.model.StockView;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entrada imutável do catálogo local de estoques.
+ * Guarda o nome já normalizado para evitar recalcular a cada consulta.
+ */
+public final class CatalogEntry {
+    private final UUID productId;
+    private final String productName;
+    private final String normalizedName;
+    private final Integer quantityAvailable;
+    private final Long priceCents;
+    private final LocalDateTime lastUpdated;
+    private final long fingerprint;
+
+    public CatalogEntry(UUID productId, String productName, Integer quantityAvailable, LocalDateTime lastUpdated) {
+        this(productId, productName, quantityAvailable, null, lastUpdated);
+    }
+
+    /**
+     * @param priceCents Preço unitário em centavos, ou {@code null} quando desconhecido
+     */
+    public CatalogEntry(UUID productId, String productName, Integer quantityAvailable, Long priceCents,
+                        LocalDateTime lastUpdated) {
+        this.productId = productId;
+        this.productName = productName;
+        this.normalizedName = NameNormalizer.normalize(productName);
+        this.quantityAvailable = quantityAvailable;
+        this.priceCents = priceCents;
+        this.lastUpdated = lastUpdated;
+        this.fingerprint = fingerprint(productName, quantityAvailable);
+    }
+
+    private CatalogEntry(UUID productId, String normalizedName, Integer quantityAvailable) {
+        this.productId = productId;
+        this.productName = null;
+        this.normalizedName = normalizedName;
+        this.quantityAvailable = quantityAvailable;
+        this.priceCents = null;
+        this.lastUpdated = null;
+        this.fingerprint = 0;
+    }
+
+    /**
+     * Cria uma entrada "sonda", usada apenas como limite de faixa nos índices ordenados
+     */
+    static CatalogEntry probe(UUID productId, String normalizedName, int quantityKey) {
+        return new CatalogEntry(productId, normalizedName, quantityKey);
+    }
+
+    public static CatalogEntry from(StockView stockView) {
+        return new CatalogEntry(
+                stockView.getProductId(),
+                stockView.getProductName(),
+                stockView.getQuantityAvailable(),
+                toCents(stockView.getPrice()),
+                stockView.getLastUpdated()
+        );
+    }
+
+    /**
+     * Converte o preço para centavos (ponto fixo), arredondando frações de centavo para o par mais próximo
+     */
+    public static Long toCents(BigDecimal price) {
+        return price != null ? price.setScale(2, RoundingMode.HALF_EVEN).unscaledValue().longValueExact() : null;
+    }
+
+    /**
+     * Copia a entrada com nova quantidade e data, mantendo nome e preço
+     */
+    public CatalogEntry withQuantity(Integer quantityAvailable, LocalDateTime lastUpdated) {
+        return new CatalogEntry(productId, productName, quantityAvailable, priceCents, lastUpdated);
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
+    public Integer getQuantityAvailable() {
+        return quantityAvailable;
+    }
+
+    /**
+     * Preço unitário em centavos, ou {@code null} quando desconhecido
+     */
+    public Long getPriceCents() {
+        return priceCents;
+    }
+
+    public BigDecimal getPrice() {
+        return priceCents != null ? BigDecimal.valueOf(priceCents, 2) : null;
+    }
+
+    public LocalDateTime getLastUpdated() {
+        return lastUpdated;
+    }
+
+    /**
+     * Chave usada no índice de quantidade: produtos sem quantidade ficam no início
+     */
+    int quantityKey() {
+        return quantityAvailable != null ? quantityAvailable : Integer.MIN_VALUE;
+    }
+
+    /**
+     * Impressão digital dos dados de estoque (ignora lastUpdated): hash do nome nos 32 bits
+     * superiores e a quantidade nos inferiores. Valores diferentes garantem alteração; valores
+     * iguais não garantem igualdade (nomes distintos podem ter o mesmo hash), por isso
+     * {@link StockChangeDetector#hasChanged} confirma campo a campo, junto com o preço.
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    private static long fingerprint(String productName, Integer quantityAvailable) {
+        long nameHash = productName != null ? productName.hashCode() : 0;
+        long quantity = quantityAvailable != null ? quantityAvailable : Integer.MIN_VALUE;
+        return (nameHash << 32) | (quantity & 0xFFFFFFFFL);
+    }
+
+    public StockView toStockView() {
+        return new StockView(productId, productName, quantityAvailable, getPrice(), lastUpdated);
+    }
+}
@@ -0,0 +1,46 @@
+package com.techsolution.stockquery.infrastructure.catalog;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Normaliza nomes de produtos para comparação: remove acentos (os nomes são em português),
+ * converte para minúsculas e colapsa espaços.
+ */
+public final class NameNormalizer {
+
+    private NameNormalizer() {
+    }
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        StringBuilder builder = new StringBuilder(decomposed.length());
+        boolean lastWasSpace = true;
+
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                if (!lastWasSpace) {
+                    builder.append(' ');
+                    lastWasSpace = true;
+                }
+                continue;
+            }
+            builder.append(c);
+            lastWasSpace = false;
+        }
+
+        int length = builder.length();
+        if (length > 0 && builder.charAt(length - 1) == ' ') {
+            builder.setLength(length - 1);
+        }
+        return builder.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,60 @@
+package com.techsolution.stockquery.infrastructure.catalog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Filtro de existência de produtos baseado no catálogo local, usado para responder 404 a IDs
+ * desconhecidos sem consultar o product-service.
+ *
+ * O catálogo já mantém em memória o mapa de todos os produtos, então a verificação é exata e O(1),
+ * sem falsos positivos nem remontagem. Antes da primeira carga completa do catálogo, ou com o filtro
+ * desabilitado, todos os produtos são tratados como possivelmente existentes.
+ *
+ * Produtos criados no product-service só passam no filtro depois que o catálogo os conhece (carga
+ * periódica ou evento): por isso o filtro é opcional e vem desabilitado.
+ */
+@Component
+public class ProductExistenceFilter {
+
+    private final StockCatalog stockCatalog;
+    private final boolean enabled;
+    private final Counter rejectionCounter;
+
+    public ProductExistenceFilter(StockCatalog stockCatalog,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${stock.lookup.existence-filter.enabled:false}") boolean enabled) {
+        this.stockCatalog = stockCatalog;
+        this.enabled = enabled;
+        this.rejectionCounter = Counter.builder("stock.lookup.existence-filter.rejections")
+                .description("Consultas a produtos fora do catálogo respondidas sem consultar o product-service")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Filtro desabilitado, para uso fora do contexto Spring
+     */
+    public static ProductExistenceFilter disabled() {
+        return new ProductExistenceFilter(null, new SimpleMeterRegistry(), false);
+    }
+
+    /**
+     * @return {@code false} somente quando o catálogo carregado não contém o produto
+     */
+    public boolean mightExist(UUID productId) {
+        if (!enabled || !stockCatalog.isLoaded() || stockCatalog.get(productId).isPresent()) {
+            return true;
+        }
+        rejectionCounter.increment();
+        return false;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
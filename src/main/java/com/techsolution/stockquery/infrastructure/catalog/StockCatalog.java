@@ -0,0 +1,324 @@
+package com.techsolution.stockquery.infrastructure.catalog;
+
+import com.techsolution.stockquery.domain.model.StockFilter;
+import com.techsolution.stockquery.domain.model.StockSort;
+import com.techsolution.stockquery.domain.model.StockView;
+import com.techsolution.stockquery.infrastructure.client.PageResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Catálogo local (read model) dos estoques obtidos do product-service.
+ *
+ * Mantém índices ordenados por quantidade e por nome normalizado, permitindo responder
+ * filtros de faixa, prefixo de nome e ordenação percorrendo apenas a faixa relevante
+ * do índice, sem varrer todos os produtos a cada requisição.
+ */
+@Component
+public class StockCatalog {
+
+    private static final UUID MIN_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+    private static final UUID MAX_ID = new UUID(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    /**
+     * Faixas de produtos com escrita serializada (mudança de estado e publicação do evento)
+     */
+    private static final int WRITE_LOCK_STRIPES = 64;
+
+    private static final Comparator<UUID> ID_ORDER = Comparator
+            .comparingLong(UUID::getMostSignificantBits)
+            .thenComparingLong(UUID::getLeastSignificantBits);
+
+    private static final Comparator<CatalogEntry> QUANTITY_ORDER = Comparator
+            .comparingInt(CatalogEntry::quantityKey)
+            .thenComparing(CatalogEntry::getProductId, ID_ORDER);
+
+    private static final Comparator<CatalogEntry> NAME_ORDER = Comparator
+            .comparing(CatalogEntry::getNormalizedName)
+            .thenComparing(CatalogEntry::getProductId, ID_ORDER);
+
+    private final ConcurrentHashMap<UUID, CatalogEntry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<CatalogEntry> byQuantity = new ConcurrentSkipListSet<>(QUANTITY_ORDER);
+    private final ConcurrentSkipListSet<CatalogEntry> byName = new ConcurrentSkipListSet<>(NAME_ORDER);
+    private final ReentrantLock[] writeLocks = new ReentrantLock[WRITE_LOCK_STRIPES];
+
+    private final StockChangeDetector changeDetector;
+
+    private volatile boolean loaded;
+
+    public StockCatalog(StockChangeDetector changeDetector) {
+        this.changeDetector = changeDetector;
+        for (int i = 0; i < WRITE_LOCK_STRIPES; i++) {
+            writeLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Insere ou atualiza um produto. Reindexação e eventos de alteração acontecem apenas
+     * quando a impressão digital da entrada mudou. Uma entrada mais antiga que a atual
+     * (ex: página lida no início de uma carga completa, antes de um evento recebido via push)
+     * é ignorada.
+     *
+     * O evento é publicado fora do {@code compute}, sem segurar o lock do mapa durante a execução
+     * dos assinantes, mas dentro do lock de escrita da faixa do produto: duas escritas no mesmo
+     * produto publicam na mesma ordem em que alteraram o catálogo.
+     */
+    public void upsert(CatalogEntry entry) {
+        ReentrantLock lock = writeLock(entry.getProductId());
+        lock.lock();
+        try {
+            Transition transition = new Transition();
+            entries.compute(entry.getProductId(), (id, previous) -> {
+                if (previous != null && isOlder(entry, previous)) {
+                    return previous;
+                }
+                return apply(previous, entry, transition);
+            });
+            transition.publish(changeDetector);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Atualiza apenas a quantidade de um produto já presente no catálogo
+     *
+     * @return {@code false} quando o produto não está no catálogo
+     */
+    public boolean updateQuantity(UUID productId, Integer quantityAvailable, LocalDateTime lastUpdated) {
+        ReentrantLock lock = writeLock(productId);
+        lock.lock();
+        try {
+            Transition transition = new Transition();
+            boolean present = entries.computeIfPresent(productId, (id, previous) -> apply(previous,
+                    previous.withQuantity(quantityAvailable, lastUpdated), transition)) != null;
+            transition.publish(changeDetector);
+            return present;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CatalogEntry apply(CatalogEntry previous, CatalogEntry entry, Transition transition) {
+        if (!changeDetector.hasChanged(previous, entry)) {
+            return entry;
+        }
+        if (previous != null) {
+            if (QUANTITY_ORDER.compare(previous, entry) != 0) {
+                byQuantity.remove(previous);
+                byQuantity.add(entry);
+            }
+            if (NAME_ORDER.compare(previous, entry) != 0) {
+                byName.remove(previous);
+                byName.add(entry);
+            }
+        } else {
+            byQuantity.add(entry);
+            byName.add(entry);
+        }
+        transition.record(previous, entry);
+        return entry;
+    }
+
+    private static boolean isOlder(CatalogEntry entry, CatalogEntry current) {
+        return entry.getLastUpdated() != null && current.getLastUpdated() != null
+                && entry.getLastUpdated().isBefore(current.getLastUpdated());
+    }
+
+    public void remove(UUID productId) {
+        ReentrantLock lock = writeLock(productId);
+        lock.lock();
+        try {
+            Transition transition = new Transition();
+            entries.computeIfPresent(productId, (id, previous) -> {
+                byQuantity.remove(previous);
+                byName.remove(previous);
+                transition.record(previous, null);
+                return null;
+            });
+            transition.publish(changeDetector);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock writeLock(UUID productId) {
+        return writeLocks[(productId.hashCode() & Integer.MAX_VALUE) % WRITE_LOCK_STRIPES];
+    }
+
+    /**
+     * Substitui o conteúdo do catálogo pelo resultado de uma leitura completa do product-service.
+     * Produtos ausentes na leitura são removidos.
+     */
+    public void replaceAll(Collection<CatalogEntry> snapshot) {
+        Set<UUID> seen = new HashSet<>(snapshot.size() * 2);
+        for (CatalogEntry entry : snapshot) {
+            upsert(entry);
+            seen.add(entry.getProductId());
+        }
+        for (UUID productId : entries.keySet()) {
+            if (!seen.contains(productId)) {
+                remove(productId);
+            }
+        }
+        loaded = true;
+    }
+
+    public Optional<CatalogEntry> get(UUID productId) {
+        return Optional.ofNullable(entries.get(productId));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Cópia das entradas atuais, em ordem indefinida
+     */
+    public List<CatalogEntry> snapshot() {
+        return new ArrayList<>(entries.values());
+    }
+
+    /**
+     * Indica se o catálogo já recebeu ao menos uma carga completa
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Consulta o catálogo aplicando filtros e ordenação, retornando a página solicitada.
+     * O total de elementos considera apenas os produtos que atendem ao filtro.
+     *
+     * Com prefixo de nome e ordenação por quantidade, a faixa do prefixo no índice de nome (em geral
+     * bem menor que a faixa de quantidade) é filtrada e então ordenada.
+     */
+    public PageResponse<StockView> find(StockFilter filter, int page, int size) {
+        List<StockView> content = new ArrayList<>(size);
+        long matched = 0;
+
+        if (!filter.isEmptyRange()) {
+            String normalizedPrefix = filter.getNamePrefix() != null
+                    ? NameNormalizer.normalize(filter.getNamePrefix()) : null;
+            long firstIndex = (long) page * size;
+            long lastIndex = firstIndex + size;
+
+            if (normalizedPrefix != null && filter.getSort() == StockSort.QUANTITY_AVAILABLE) {
+                List<CatalogEntry> subset = new ArrayList<>();
+                for (CatalogEntry indexed : nameRange(normalizedPrefix)) {
+                    CatalogEntry current = currentMatching(indexed, filter, normalizedPrefix);
+                    if (current != null) {
+                        subset.add(current);
+                    }
+                }
+                subset.sort(filter.isDescending() ? QUANTITY_ORDER.reversed() : QUANTITY_ORDER);
+                matched = subset.size();
+                for (long i = firstIndex; i < Math.min(lastIndex, matched); i++) {
+                    content.add(subset.get((int) i).toStockView());
+                }
+            } else {
+                for (CatalogEntry indexed : candidates(filter, normalizedPrefix)) {
+                    CatalogEntry current = currentMatching(indexed, filter, normalizedPrefix);
+                    if (current == null) {
+                        continue;
+                    }
+                    if (matched >= firstIndex && matched < lastIndex) {
+                        content.add(current.toStockView());
+                    }
+                    matched++;
+                }
+            }
+        }
+
+        int totalPages = (int) ((matched + size - 1) / size);
+        return new PageResponse<>(
+                content,
+                page,
+                size,
+                matched,
+                totalPages,
+                page == 0,
+                page >= totalPages - 1
+        );
+    }
+
+    /**
+     * Versão atual da entrada indexada, se ela ainda é atual e atende ao filtro
+     */
+    private CatalogEntry currentMatching(CatalogEntry indexed, StockFilter filter, String normalizedPrefix) {
+        CatalogEntry current = entries.get(indexed.getProductId());
+        // Entrada substituída durante a iteração: a versão atual será encontrada na posição correta
+        if (current == null || QUANTITY_ORDER.compare(current, indexed) != 0
+                || NAME_ORDER.compare(current, indexed) != 0) {
+            return null;
+        }
+        if (!filter.matchesQuantity(current.getQuantityAvailable())) {
+            return null;
+        }
+        if (normalizedPrefix != null && !current.getNormalizedName().startsWith(normalizedPrefix)) {
+            return null;
+        }
+        return current;
+    }
+
+    /**
+     * Escolhe o índice que conduz a iteração: o de nome quando a ordenação é por nome
+     * ou há prefixo sem ordenação explícita; caso contrário, o de quantidade.
+     */
+    private NavigableSet<CatalogEntry> candidates(StockFilter filter, String normalizedPrefix) {
+        boolean useNameIndex = filter.getSort() == StockSort.PRODUCT_NAME
+                || (filter.getSort() == null && normalizedPrefix != null);
+
+        NavigableSet<CatalogEntry> range;
+        if (useNameIndex) {
+            range = normalizedPrefix == null ? byName : nameRange(normalizedPrefix);
+        } else {
+            int min = filter.getMinQuantity() != null ? filter.getMinQuantity() : Integer.MIN_VALUE;
+            int max = filter.getMaxQuantity() != null ? filter.getMaxQuantity() : Integer.MAX_VALUE;
+            range = byQuantity.subSet(
+                    CatalogEntry.probe(MIN_ID, "", min), true,
+                    CatalogEntry.probe(MAX_ID, "", max), true);
+        }
+        return filter.isDescending() ? range.descendingSet() : range;
+    }
+
+    private NavigableSet<CatalogEntry> nameRange(String normalizedPrefix) {
+        return byName.subSet(
+                CatalogEntry.probe(MIN_ID, normalizedPrefix, 0), true,
+                CatalogEntry.probe(MAX_ID, normalizedPrefix + Character.MAX_VALUE, 0), true);
+    }
+
+    /**
+     * Alteração decidida dentro do {@code compute}, publicada depois que ele retorna
+     */
+    private static final class Transition {
+        private boolean changed;
+        private CatalogEntry previous;
+        private CatalogEntry current;
+
+        private void record(CatalogEntry previous, CatalogEntry current) {
+            this.changed = true;
+            this.previous = previous;
+            this.current = current;
+        }
+
+        private void publish(StockChangeDetector changeDetector) {
+            if (changed) {
+                changeDetector.publish(previous, current);
+            }
+        }
+    }
+}
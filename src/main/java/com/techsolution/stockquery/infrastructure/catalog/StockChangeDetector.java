@@ -0,0 +1,124 @@
+package com.techsolution.stockquery.infrastructure.catalog;
+
+import com.techsolution.stockquery.domain.model.StockView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compara estados consecutivos de cada produto e publica eventos tipados de alteração.
+ *
+ * A comparação começa pela impressão digital ({@link CatalogEntry#getFingerprint()}) de cada entrada:
+ * impressões diferentes indicam alteração com uma comparação de long; iguais, o nome, a quantidade e
+ * o preço são comparados campo a campo (nomes distintos podem ter o mesmo hash). A classificação e a
+ * entrega aos assinantes só acontecem para os produtos que mudaram. Componentes interessados
+ * (índices, caches, streams) se registram via {@link #subscribe(StockChangeListener)}.
+ */
+@Component
+public class StockChangeDetector {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockChangeDetector.class);
+
+    private final List<StockChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final int minimumStockLimit;
+
+    public StockChangeDetector() {
+        this(StockView.MINIMUM_STOCK_LIMIT);
+    }
+
+    public StockChangeDetector(int minimumStockLimit) {
+        this.minimumStockLimit = minimumStockLimit;
+    }
+
+    public void subscribe(StockChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Indica se há diferença relevante entre os dois estados: impressões digitais diferentes bastam;
+     * iguais, a confirmação compara nome, quantidade e preço
+     */
+    public boolean hasChanged(CatalogEntry previous, CatalogEntry current) {
+        if (previous == null || current == null) {
+            return previous != current;
+        }
+        if (previous.getFingerprint() != current.getFingerprint()) {
+            return true;
+        }
+        return !Objects.equals(previous.getProductName(), current.getProductName())
+                || !Objects.equals(previous.getQuantityAvailable(), current.getQuantityAvailable())
+                || !Objects.equals(previous.getPriceCents(), current.getPriceCents());
+    }
+
+    /**
+     * Classifica a alteração e notifica os assinantes
+     *
+     * @return Evento publicado, ou {@code null} se não houve alteração
+     */
+    public StockChangeEvent publish(CatalogEntry previous, CatalogEntry current) {
+        if (!hasChanged(previous, current)) {
+            return null;
+        }
+        StockChangeEvent event = new StockChangeEvent(
+                sequence.incrementAndGet(), classify(previous, current), previous, current);
+        logger.debug("Alteração de estoque detectada: {}", event);
+
+        for (StockChangeListener listener : listeners) {
+            try {
+                listener.onStockChange(event);
+            } catch (Exception e) {
+                logger.error("Erro no assinante {} ao processar {}: {}",
+                        listener.getClass().getSimpleName(), event, e.getMessage(), e);
+            }
+        }
+        return event;
+    }
+
+    EnumSet<StockChangeType> classify(CatalogEntry previous, CatalogEntry current) {
+        EnumSet<StockChangeType> types = EnumSet.noneOf(StockChangeType.class);
+        if (current == null) {
+            types.add(StockChangeType.REMOVED);
+            return types;
+        }
+
+        boolean isBelow = isBelowMinimum(current);
+        if (previous == null) {
+            types.add(StockChangeType.ADDED);
+            if (isBelow) {
+                types.add(StockChangeType.BELOW_MINIMUM);
+            }
+            return types;
+        }
+
+        if (!Objects.equals(previous.getQuantityAvailable(), current.getQuantityAvailable())) {
+            types.add(StockChangeType.QUANTITY_CHANGED);
+        }
+        if (!Objects.equals(previous.getProductName(), current.getProductName())
+                || !Objects.equals(previous.getPriceCents(), current.getPriceCents())) {
+            types.add(StockChangeType.DETAILS_CHANGED);
+        }
+
+        boolean wasBelow = isBelowMinimum(previous);
+        if (isBelow && !wasBelow) {
+            types.add(StockChangeType.BELOW_MINIMUM);
+        } else if (!isBelow && wasBelow) {
+            types.add(StockChangeType.RECOVERED);
+        }
+        return types;
+    }
+
+    public boolean isBelowMinimum(CatalogEntry entry) {
+        return entry.getQuantityAvailable() != null && entry.getQuantityAvailable() < minimumStockLimit;
+    }
+
+    public int getMinimumStockLimit() {
+        return minimumStockLimit;
+    }
+}
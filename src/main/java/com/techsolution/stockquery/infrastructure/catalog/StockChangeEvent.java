@@ -0,0 +1,61 @@
+package com.techsolution.stockquery.infrastructure.catalog;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Alteração de um produto entre dois estados consecutivos do catálogo.
+ * Um único evento pode ter mais de um tipo (ex: QUANTITY_CHANGED e BELOW_MINIMUM).
+ */
+public final class StockChangeEvent {
+    private final long sequence;
+    private final Set<StockChangeType> types;
+    private final CatalogEntry previous;
+    private final CatalogEntry current;
+
+    public StockChangeEvent(long sequence, Set<StockChangeType> types, CatalogEntry previous, CatalogEntry current) {
+        this.sequence = sequence;
+        this.types = Collections.unmodifiableSet(types);
+        this.previous = previous;
+        this.current = current;
+    }
+
+    /**
+     * Número sequencial crescente do evento nesta instância
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Set<StockChangeType> getTypes() {
+        return types;
+    }
+
+    public boolean is(StockChangeType type) {
+        return types.contains(type);
+    }
+
+    public UUID getProductId() {
+        return current != null ? current.getProductId() : previous.getProductId();
+    }
+
+    /**
+     * Estado anterior ({@code null} quando o produto foi adicionado)
+     */
+    public CatalogEntry getPrevious() {
+        return previous;
+    }
+
+    /**
+     * Estado atual ({@code null} quando o produto foi removido)
+     */
+    public CatalogEntry getCurrent() {
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return "StockChangeEvent{sequence=" + sequence + ", productId=" + getProductId() + ", types=" + types + "}";
+    }
+}
@@ -0,0 +1,12 @@
+package com.techsolution.stockquery.infrastructure.catalog;
+
+/**
+ * Assinante dos eventos de alteração de estoque publicados pelo {@link StockChangeDetector}.
+ *
+ * Os eventos são entregues de forma síncrona, em ordem por produto, durante a atualização
+ * do catálogo. Implementações devem ser rápidas e não podem alterar o próprio catálogo.
+ */
+public interface StockChangeListener {
+
+    void onStockChange(StockChangeEvent event);
+}
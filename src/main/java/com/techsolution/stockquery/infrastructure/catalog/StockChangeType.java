@@ -0,0 +1,19 @@
+package com.techsolution.stockquery.infrastructure.catalog;
+
+/**
+ * Tipos de alteração detectados entre dois estados consecutivos de um produto
+ */
+public enum StockChangeType {
+    /** Produto novo no catálogo */
+    ADDED,
+    /** Produto não existe mais no product-service */
+    REMOVED,
+    /** Quantidade em estoque mudou */
+    QUANTITY_CHANGED,
+    /** Dados descritivos (nome ou preço) mudaram */
+    DETAILS_CHANGED,
+    /** Quantidade passou a ficar abaixo do limite mínimo */
+    BELOW_MINIMUM,
+    /** Quantidade voltou a ficar igual ou acima do limite mínimo */
+    RECOVERED
+}
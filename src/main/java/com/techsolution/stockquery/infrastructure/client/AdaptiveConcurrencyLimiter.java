@@ -0,0 +1,202 @@
+package com.techsolution.stockquery.infrastructure.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limite adaptativo de chamadas simultâneas ao product-service (AIMD).
+ *
+ * O limite cresce de forma aditiva (cerca de +1 a cada "janela" de chamadas bem-sucedidas, e só
+ * enquanto o limite está de fato sendo usado) e cai de forma multiplicativa quando uma chamada
+ * falha, retorna 429/5xx ou demora mais que a latência de referência - sinais de que o
+ * product-service está saturado. Quando o limite é atingido, a chamada aguarda uma vaga por
+ * pouco tempo numa fila limitada; se não conseguir, é rejeitada com
+ * {@link ConcurrencyLimitExceededException} (respondida como 503).
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final int maxQueue;
+    private final long queueTimeoutNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private int waiting;
+
+    private final Counter rejectionCounter;
+
+    public AdaptiveConcurrencyLimiter(MeterRegistry meterRegistry,
+                                      @Value("${stock.upstream.limiter.enabled:true}") boolean enabled,
+                                      @Value("${stock.upstream.limiter.initial-limit:20}") int initialLimit,
+                                      @Value("${stock.upstream.limiter.min-limit:2}") int minLimit,
+                                      @Value("${stock.upstream.limiter.max-limit:200}") int maxLimit,
+                                      @Value("${stock.upstream.limiter.latency-threshold-ms:500}") long latencyThresholdMs,
+                                      @Value("${stock.upstream.limiter.backoff-ratio:0.9}") double backoffRatio,
+                                      @Value("${stock.upstream.limiter.max-queue:50}") int maxQueue,
+                                      @Value("${stock.upstream.limiter.queue-timeout-ms:200}") long queueTimeoutMs) {
+        this.enabled = enabled;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+        this.backoffRatio = backoffRatio;
+        this.maxQueue = Math.max(0, maxQueue);
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMs);
+
+        Gauge.builder("stock.upstream.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Limite atual de chamadas simultâneas ao product-service")
+                .register(meterRegistry);
+        Gauge.builder("stock.upstream.inflight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Chamadas ao product-service em andamento")
+                .register(meterRegistry);
+        Gauge.builder("stock.upstream.queued", this, AdaptiveConcurrencyLimiter::getWaiting)
+                .description("Chamadas aguardando vaga no limite")
+                .register(meterRegistry);
+        this.rejectionCounter = Counter.builder("stock.upstream.rejections")
+                .description("Chamadas rejeitadas por limite de concorrência atingido")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reserva uma vaga, aguardando até {@code stock.upstream.limiter.queue-timeout-ms} se o limite foi atingido
+     *
+     * @throws ConcurrencyLimitExceededException quando a fila está cheia ou o tempo de espera acabou
+     */
+    public void acquire() {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (inFlight < currentLimit()) {
+                inFlight++;
+                return;
+            }
+            if (waiting >= maxQueue) {
+                throw reject("fila de espera cheia");
+            }
+            waiting++;
+            try {
+                long remaining = queueTimeoutNanos;
+                while (inFlight >= currentLimit()) {
+                    if (remaining <= 0) {
+                        throw reject("tempo de espera esgotado");
+                    }
+                    remaining = available.awaitNanos(remaining);
+                }
+                inFlight++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw reject("espera interrompida");
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Libera a vaga e ajusta o limite conforme o resultado da chamada
+     *
+     * @param latencyNanos Duração da chamada
+     * @param dropped Indica falha, 429 ou 5xx (sinal de sobrecarga)
+     */
+    public void release(long latencyNanos, boolean dropped) {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            inFlight--;
+            double previous = limit;
+            if (dropped || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (inFlight * 2 >= limit) {
+                // Só cresce quando o limite está sendo usado; ociosidade não prova capacidade
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            if ((int) previous != (int) limit) {
+                logger.debug("Limite de concorrência do product-service: {} -> {} (em andamento: {})",
+                        (int) previous, (int) limit, inFlight);
+            }
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Libera a vaga sem ajustar o limite: chamada interrompida pelo prazo da requisição, que não
+     * diz nada sobre a capacidade do product-service
+     */
+    public void releaseUnmeasured() {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            inFlight--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return currentLimit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getWaiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+
+    private ConcurrencyLimitExceededException reject(String reason) {
+        rejectionCounter.increment();
+        logger.warn("Chamada ao product-service rejeitada ({}) - limite: {}, em andamento: {}, aguardando: {}",
+                reason, currentLimit(), inFlight, waiting);
+        return new ConcurrencyLimitExceededException(
+                "Limite de chamadas simultâneas ao product-service atingido (" + currentLimit() + ")");
+    }
+}
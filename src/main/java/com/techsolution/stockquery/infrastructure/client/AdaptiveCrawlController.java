@@ -0,0 +1,242 @@
+package com.techsolution.stockquery.infrastructure.client;
+
+import com.techsolution.stockquery.infrastructure.deadline.RequestDeadline;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ajusta as varreduras completas do catálogo (tamanho de página, páginas simultâneas e intervalo
+ * entre solicitações) pela latência e pelos erros observados em cada página.
+ *
+ * - Concorrência (AIMD): cresce cerca de +1 a cada janela de páginas rápidas e cai de forma
+ *   multiplicativa quando uma página falha por sobrecarga (429/5xx, falha de I/O, limite de
+ *   concorrência) ou demora mais que a latência alvo.
+ * - Tamanho de página: decidido no início de cada varredura (a paginação por número de página não
+ *   permite trocar o tamanho no meio); dobra enquanto as páginas ficam abaixo de metade da
+ *   latência alvo sem erros e cai pela metade após erros ou páginas lentas.
+ * - Intervalo entre solicitações: aplicado quando há erros ou quando as páginas continuam lentas
+ *   com a concorrência já no mínimo; dobra a cada novo sinal (até o máximo) e cai pela metade a
+ *   cada página rápida.
+ *
+ * Desabilitado, usa o tamanho solicitado e a concorrência fixa de {@code stock.crawl.parallelism}.
+ */
+@Component
+public class AdaptiveCrawlController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveCrawlController.class);
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final long INITIAL_PACING_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final boolean enabled;
+    private final int minPageSize;
+    private final int maxPageSize;
+    private final int minConcurrency;
+    private final int maxConcurrency;
+    private final long targetLatencyNanos;
+    private final double backoffRatio;
+    private final long maxPacingNanos;
+
+    private int pageSize;
+    private double concurrency;
+    private long pacingNanos;
+    private double averageLatencyNanos;
+    private boolean overloadedSinceDecision;
+    private boolean slowSinceDecision;
+
+    private final Counter errorBackoffCounter;
+    private final Counter slowBackoffCounter;
+
+    @Autowired
+    public AdaptiveCrawlController(MeterRegistry meterRegistry,
+                                   @Value("${stock.crawl.adaptive.enabled:true}") boolean enabled,
+                                   @Value("${stock.crawl.parallelism:4}") int initialConcurrency,
+                                   @Value("${stock.crawl.adaptive.min-concurrency:1}") int minConcurrency,
+                                   @Value("${stock.crawl.adaptive.max-concurrency:8}") int maxConcurrency,
+                                   @Value("${stock.crawl.adaptive.min-page-size:20}") int minPageSize,
+                                   @Value("${stock.crawl.adaptive.max-page-size:100}") int maxPageSize,
+                                   @Value("${stock.crawl.adaptive.target-page-latency-ms:500}") long targetPageLatencyMs,
+                                   @Value("${stock.crawl.adaptive.backoff-ratio:0.5}") double backoffRatio,
+                                   @Value("${stock.crawl.adaptive.max-pacing-ms:1000}") long maxPacingMs) {
+        this.enabled = enabled;
+        this.minConcurrency = Math.max(1, enabled ? minConcurrency : initialConcurrency);
+        this.maxConcurrency = Math.max(this.minConcurrency, enabled ? maxConcurrency : initialConcurrency);
+        this.concurrency = Math.min(this.maxConcurrency, Math.max(this.minConcurrency, initialConcurrency));
+        this.maxPageSize = Math.max(1, Math.min(MAX_PAGE_SIZE, maxPageSize));
+        this.minPageSize = Math.max(1, Math.min(this.maxPageSize, minPageSize));
+        this.pageSize = this.maxPageSize;
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, targetPageLatencyMs));
+        this.backoffRatio = Math.max(0.1, Math.min(0.95, backoffRatio));
+        this.maxPacingNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxPacingMs));
+
+        if (meterRegistry != null) {
+            Gauge.builder("stock.crawl.page.size", this, AdaptiveCrawlController::getPageSize)
+                    .description("Tamanho de página escolhido para a próxima varredura completa")
+                    .register(meterRegistry);
+            Gauge.builder("stock.crawl.concurrency", this, AdaptiveCrawlController::getConcurrency)
+                    .description("Páginas solicitadas simultaneamente nas varreduras completas")
+                    .register(meterRegistry);
+            Gauge.builder("stock.crawl.pacing", this, AdaptiveCrawlController::getPacingMillis)
+                    .description("Intervalo (ms) entre solicitações de página nas varreduras completas")
+                    .register(meterRegistry);
+            Gauge.builder("stock.crawl.page.latency", this, AdaptiveCrawlController::getAverageLatencyMillis)
+                    .description("Latência média (ms, média móvel exponencial) das páginas das varreduras")
+                    .register(meterRegistry);
+            this.errorBackoffCounter = Counter.builder("stock.crawl.backoffs")
+                    .description("Reduções de ritmo das varreduras completas")
+                    .tag("reason", "error")
+                    .register(meterRegistry);
+            this.slowBackoffCounter = Counter.builder("stock.crawl.backoffs")
+                    .description("Reduções de ritmo das varreduras completas")
+                    .tag("reason", "slow")
+                    .register(meterRegistry);
+        } else {
+            this.errorBackoffCounter = null;
+            this.slowBackoffCounter = null;
+        }
+        if (enabled) {
+            logger.info("Varredura adaptativa - página: {}-{}, concorrência: {}-{} (inicial: {}), latência alvo: {}ms",
+                    this.minPageSize, this.maxPageSize, this.minConcurrency, this.maxConcurrency,
+                    (int) this.concurrency, targetPageLatencyMs);
+        }
+    }
+
+    /**
+     * Controlador sem ajuste: tamanho solicitado, concorrência fixa e sem intervalo entre páginas
+     */
+    public static AdaptiveCrawlController fixed(int concurrency) {
+        return new AdaptiveCrawlController(null, false, concurrency, 0, 0, 0, MAX_PAGE_SIZE, 1, 0.5, 0);
+    }
+
+    /**
+     * Tamanho de página para uma nova varredura, reavaliado a partir das páginas observadas desde a anterior
+     *
+     * @param requestedSize Tamanho solicitado pelo chamador (usado apenas com o ajuste desabilitado)
+     */
+    public synchronized int pageSizeForCrawl(int requestedSize) {
+        if (!enabled) {
+            return Math.max(1, Math.min(MAX_PAGE_SIZE, requestedSize));
+        }
+        int previous = pageSize;
+        if (overloadedSinceDecision || slowSinceDecision) {
+            pageSize = Math.max(minPageSize, pageSize / 2);
+        } else if (averageLatencyNanos > 0 && averageLatencyNanos * 2 < targetLatencyNanos) {
+            pageSize = Math.min(maxPageSize, pageSize * 2);
+        }
+        overloadedSinceDecision = false;
+        slowSinceDecision = false;
+        if (previous != pageSize) {
+            logger.info("Tamanho de página das varreduras: {} -> {} (latência média: {}ms)",
+                    previous, pageSize, getAverageLatencyMillis());
+        }
+        return pageSize;
+    }
+
+    /**
+     * Páginas que podem estar em andamento simultaneamente
+     */
+    public synchronized int concurrency() {
+        return (int) concurrency;
+    }
+
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Intervalo a aguardar antes de solicitar a próxima página
+     */
+    public synchronized long pacingNanos() {
+        return pacingNanos;
+    }
+
+    /**
+     * Registra uma página recebida
+     */
+    public synchronized void onPageSuccess(long latencyNanos) {
+        if (!enabled) {
+            return;
+        }
+        averageLatencyNanos = averageLatencyNanos == 0
+                ? latencyNanos
+                : averageLatencyNanos + LATENCY_SMOOTHING * (latencyNanos - averageLatencyNanos);
+        if (latencyNanos > targetLatencyNanos) {
+            slowSinceDecision = true;
+            slowBackoffCounter.increment();
+            if ((int) concurrency <= minConcurrency) {
+                // Sem concorrência para reduzir: espaça as solicitações
+                increasePacing();
+            }
+            backOff("página lenta (" + TimeUnit.NANOSECONDS.toMillis(latencyNanos) + "ms)");
+            return;
+        }
+        concurrency = Math.min(maxConcurrency, concurrency + 1.0 / concurrency);
+        pacingNanos = pacingNanos / 2 < TimeUnit.MILLISECONDS.toNanos(1) ? 0 : pacingNanos / 2;
+    }
+
+    /**
+     * Registra uma página que falhou. Apenas falhas que indicam sobrecarga do product-service
+     * reduzem o ritmo; as demais (cancelamento, prazo da requisição) são ignoradas.
+     */
+    public synchronized void onPageFailure(long latencyNanos, RuntimeException failure) {
+        if (!enabled || !isOverload(failure)) {
+            return;
+        }
+        overloadedSinceDecision = true;
+        errorBackoffCounter.increment();
+        increasePacing();
+        backOff("falha por sobrecarga (" + failure.getClass().getSimpleName() + ")");
+    }
+
+    public synchronized int getPageSize() {
+        return pageSize;
+    }
+
+    public synchronized int getConcurrency() {
+        return (int) concurrency;
+    }
+
+    public synchronized double getPacingMillis() {
+        return pacingNanos / 1_000_000.0;
+    }
+
+    public synchronized double getAverageLatencyMillis() {
+        return averageLatencyNanos / 1_000_000.0;
+    }
+
+    static boolean isOverload(RuntimeException failure) {
+        // Prazo da requisição esgotado ou timeout encurtado por ele: não é lentidão do product-service
+        if (RequestDeadline.explains(failure)) {
+            return false;
+        }
+        if (failure instanceof ConcurrencyLimitExceededException) {
+            return true;
+        }
+        if (failure instanceof FeignException feignException) {
+            int status = feignException.status();
+            // status < 0: falha de I/O sem resposta (RetryableException)
+            return status < 0 || status == 429 || status >= 500;
+        }
+        return false;
+    }
+
+    private void increasePacing() {
+        pacingNanos = Math.min(maxPacingNanos, Math.max(INITIAL_PACING_NANOS, pacingNanos * 2));
+    }
+
+    private void backOff(String reason) {
+        int previous = (int) concurrency;
+        concurrency = Math.max(minConcurrency, concurrency * backoffRatio);
+        logger.debug("Varredura desacelerada por {} - concorrência: {} -> {}, intervalo: {}ms",
+                reason, previous, (int) concurrency, TimeUnit.NANOSECONDS.toMillis(pacingNanos));
+    }
+}
@@ -0,0 +1,12 @@
+package com.techsolution.stockquery.infrastructure.client;
+
+/**
+ * Lançada quando o limite de chamadas simultâneas ao product-service foi atingido
+ * e a requisição não conseguiu vaga na fila de espera
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,44 @@
+package com.techsolution.stockquery.infrastructure.client;
+
+import com.techsolution.stockquery.infrastructure.deadline.RequestDeadline;
+import feign.Capability;
+import feign.Client;
+import feign.Response;
+
+import java.io.IOException;
+
+/**
+ * Envolve o cliente HTTP do Feign no {@link AdaptiveConcurrencyLimiter}: cada chamada reserva uma
+ * vaga e, ao terminar, informa a latência e se houve sinal de sobrecarga (falha de I/O, 429 ou 5xx).
+ * Falhas explicadas pelo prazo da requisição (prazo esgotado ou timeout encurtado para o tempo
+ * restante) liberam a vaga sem ajustar o limite: um cliente com prazo curto não reduz a vazão dos demais.
+ * Classe pública porque o Feign invoca {@code enrich} via reflexão.
+ */
+public class ConcurrencyLimiterCapability implements Capability {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimiterCapability(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            limiter.acquire();
+            long startNanos = System.nanoTime();
+            try {
+                Response response = client.execute(request, options);
+                limiter.release(System.nanoTime() - startNanos, response.status() == 429 || response.status() >= 500);
+                return response;
+            } catch (IOException | RuntimeException | Error e) {
+                if (RequestDeadline.explains(e)) {
+                    limiter.releaseUnmeasured();
+                } else {
+                    limiter.release(System.nanoTime() - startNanos, true);
+                }
+                throw e;
+            }
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.techsolution.stockquery.infrastructure.client;
+
+import com.techsolution.stockquery.application.dto.CacheInvalidationBatchDTO;
+import com.techsolution.stockquery.domain.model.StockView;
+import com.techsolution.stockquery.infrastructure.config.DeadlineClientConfig;
+import com.techsolution.stockquery.infrastructure.config.InternalClientConfig;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Cliente HTTP para as demais réplicas do stock-query-service.
+ * A URL da réplica é informada a cada chamada (parâmetro {@link URI}), sobrepondo a URL base.
+ * As chamadas levam o token interno ({@code stock.internal.token}) exigido por {@code /internal/**}.
+ */
+@FeignClient(
+    name = "stock-query-peer",
+    url = "${stock.peers.default-url:http://localhost}",
+    configuration = {DeadlineClientConfig.class, InternalClientConfig.class}
+)
+public interface PeerClient {
+
+    @PostMapping("/internal/cache-invalidations")
+    void sendInvalidations(URI peerUrl, @RequestBody CacheInvalidationBatchDTO batch);
+
+    /**
+     * Busca o estoque na réplica dona do produto, que consulta o product-service se necessário
+     * @return Estoque do produto; 404 (FeignException.NotFound) quando o produto não existe
+     */
+    @GetMapping("/internal/peer/stocks/{productId}")
+    ResponseEntity<StockView> getStock(URI peerUrl, @PathVariable UUID productId);
+}
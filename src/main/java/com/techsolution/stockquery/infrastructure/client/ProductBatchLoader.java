@@ -0,0 +1,207 @@
+package com.techsolution.stockquery.infrastructure.client;
+
+import com.techsolution.stockquery.infrastructure.deadline.DeadlineExceededException;
+import com.techsolution.stockquery.infrastructure.deadline.RequestDeadline;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Agrupa consultas pontuais simultâneas ao product-service (micro-batching): os IDs distintos
+ * solicitados dentro de {@code stock.batch.window-ms} - ou até {@code stock.batch.max-size} IDs -
+ * são buscados numa única chamada a {@code GET /products/batch?ids=...}, e cada chamador recebe o
+ * seu produto (ou 404, se o ID não veio na resposta).
+ *
+ * Cada chamador espera no máximo o prazo da própria requisição; a chamada em lote não herda
+ * prazos, pois atende várias requisições. Se o product-service não oferece o endpoint de lote
+ * (400, 404, 405 ou 501 na chamada em lote), o agrupamento é desligado e as consultas voltam a ser
+ * individuais. O 400 cobre o caso comum em que {@code /products/batch} cai na rota
+ * {@code /products/{id}} e "batch" é recusado como UUID inválido.
+ */
+@Component
+public class ProductBatchLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductBatchLoader.class);
+    private static final int MAX_BATCH_SIZE = 100;
+
+    private final ProductServiceClient productServiceClient;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final DistributionSummary batchSizes;
+    private final Counter fallbacks;
+
+    private volatile boolean enabled;
+    private Map<UUID, CompletableFuture<ResponseEntity<ProductDTO>>> pending = new LinkedHashMap<>();
+    private final ScheduledExecutorService timer;
+    private final ExecutorService callExecutor;
+
+    @Autowired
+    public ProductBatchLoader(ProductServiceClient productServiceClient, MeterRegistry meterRegistry,
+                              @Value("${stock.batch.enabled:false}") boolean enabled,
+                              @Value("${stock.batch.window-ms:2}") long windowMs,
+                              @Value("${stock.batch.max-size:50}") int maxBatchSize) {
+        this.productServiceClient = productServiceClient;
+        this.enabled = enabled;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, windowMs));
+        this.maxBatchSize = Math.max(1, Math.min(MAX_BATCH_SIZE, maxBatchSize));
+        this.batchSizes = DistributionSummary.builder("stock.batch.size")
+                .description("IDs por chamada em lote ao product-service")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("stock.batch.fallbacks")
+                .description("Lotes refeitos como consultas individuais (endpoint de lote indisponível)")
+                .register(meterRegistry);
+        this.timer = enabled
+                ? Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("stock-batch-timer").factory())
+                : null;
+        this.callExecutor = enabled ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        if (enabled) {
+            logger.info("Agrupamento de consultas pontuais habilitado - janela: {}ms, lote máximo: {}",
+                    windowMs, this.maxBatchSize);
+        }
+    }
+
+    /**
+     * Agrupamento desligado, para uso fora do contexto Spring
+     */
+    public static ProductBatchLoader disabled() {
+        return new ProductBatchLoader(null, new SimpleMeterRegistry(), false, 0, 1);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Busca o produto no próximo lote, aguardando até o fim do prazo da requisição atual
+     *
+     * @return 200 com o produto ou 404 se o product-service não o retornou
+     * @throws DeadlineExceededException quando o prazo da requisição acaba antes da resposta do lote
+     */
+    public ResponseEntity<ProductDTO> load(UUID productId) throws InterruptedException {
+        CompletableFuture<ResponseEntity<ProductDTO>> result = enqueue(productId);
+        try {
+            long timeoutMs = RequestDeadline.current().map(RequestDeadline::remainingMillis).orElse(Long.MAX_VALUE);
+            ResponseEntity<ProductDTO> response = result.get(timeoutMs, TimeUnit.MILLISECONDS);
+            // Lote recusado pelo product-service: consulta individual na própria thread
+            return response != null ? response : productServiceClient.getProductById(productId);
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException("Prazo da requisição esgotado aguardando o lote do produto " + productId);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private CompletableFuture<ResponseEntity<ProductDTO>> enqueue(UUID productId) {
+        Map<UUID, CompletableFuture<ResponseEntity<ProductDTO>>> full = null;
+        CompletableFuture<ResponseEntity<ProductDTO>> result;
+        lock.lock();
+        try {
+            // Mesmo ID já aguardando no lote: compartilha o resultado
+            result = pending.get(productId);
+            if (result != null) {
+                return result;
+            }
+            result = new CompletableFuture<>();
+            pending.put(productId, result);
+            if (pending.size() >= maxBatchSize) {
+                full = pending;
+                pending = new LinkedHashMap<>();
+            } else if (pending.size() == 1) {
+                // Primeiro ID da janela agenda o envio do lote
+                Map<UUID, CompletableFuture<ResponseEntity<ProductDTO>>> batch = pending;
+                timer.schedule(() -> flush(batch), windowNanos, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            Map<UUID, CompletableFuture<ResponseEntity<ProductDTO>>> batch = full;
+            callExecutor.execute(() -> send(batch));
+        }
+        return result;
+    }
+
+    /**
+     * Envia o lote agendado, se ele ainda não foi enviado por ter atingido o tamanho máximo
+     */
+    private void flush(Map<UUID, CompletableFuture<ResponseEntity<ProductDTO>>> batch) {
+        lock.lock();
+        try {
+            if (pending != batch) {
+                return;
+            }
+            pending = new LinkedHashMap<>();
+        } finally {
+            lock.unlock();
+        }
+        callExecutor.execute(() -> send(batch));
+    }
+
+    private void send(Map<UUID, CompletableFuture<ResponseEntity<ProductDTO>>> batch) {
+        List<UUID> ids = new ArrayList<>(batch.keySet());
+        batchSizes.record(ids.size());
+        long startTime = System.currentTimeMillis();
+        try {
+            ResponseEntity<List<ProductDTO>> response = productServiceClient.getProductsByIds(ids);
+            Map<UUID, ProductDTO> found = new LinkedHashMap<>();
+            if (response.getBody() != null) {
+                response.getBody().forEach(product -> found.put(product.getId(), product));
+            }
+            logger.info("Lote de {} produtos consultado no product-service - encontrados: {}, Tempo: {}ms",
+                    ids.size(), found.size(), System.currentTimeMillis() - startTime);
+            batch.forEach((id, result) -> {
+                ProductDTO product = found.get(id);
+                result.complete(product != null
+                        ? ResponseEntity.ok(product)
+                        : ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+            });
+        } catch (FeignException e) {
+            if (e.status() == 400 || e.status() == 404 || e.status() == 405 || e.status() == 501) {
+                enabled = false;
+                fallbacks.increment();
+                logger.warn("product-service não oferece consulta em lote (status {}) - agrupamento desligado", e.status());
+                batch.values().forEach(result -> result.complete(null));
+                return;
+            }
+            batch.values().forEach(result -> result.completeExceptionally(e));
+        } catch (RuntimeException e) {
+            batch.values().forEach(result -> result.completeExceptionally(e));
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (timer != null) {
+            timer.shutdownNow();
+            callExecutor.shutdownNow();
+        }
+    }
+}
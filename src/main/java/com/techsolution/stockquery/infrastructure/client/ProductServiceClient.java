@@ -1,24 +1,39 @@
 package com.techsolution.stockquery.infrastructure.client;
 
+import com.techsolution.stockquery.infrastructure.config.DeadlineClientConfig;
 import com.techsolution.stockquery.infrastructure.config.FeignLoggingConfig;
+import com.techsolution.stockquery.infrastructure.config.ProductServiceJfrConfig;
+import com.techsolution.stockquery.infrastructure.config.ProductServiceLatencyConfig;
+import com.techsolution.stockquery.infrastructure.config.ProductServiceLimiterConfig;
+import com.techsolution.stockquery.infrastructure.config.ProductServiceTracingConfig;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
 import java.util.UUID;
 
 @FeignClient(
     name = "product-service", 
     url = "${product.service.url}",
-    configuration = FeignLoggingConfig.class
+    configuration = {FeignLoggingConfig.class, ProductServiceLimiterConfig.class, DeadlineClientConfig.class,
+            ProductServiceLatencyConfig.class, ProductServiceTracingConfig.class, ProductServiceJfrConfig.class}
 )
 public interface ProductServiceClient {
 
     @GetMapping("/products/{productId}")
     ResponseEntity<ProductDTO> getProductById(@PathVariable UUID productId);
 
+    /**
+     * Busca vários produtos em uma chamada (usado pelo agrupamento de consultas pontuais)
+     * @param ids IDs dos produtos (enviados como {@code ids=...&ids=...}, até 100)
+     * @return Produtos encontrados, em qualquer ordem; IDs inexistentes são omitidos
+     */
+    @GetMapping("/products/batch")
+    ResponseEntity<List<ProductDTO>> getProductsByIds(@RequestParam("ids") List<UUID> ids);
+
     /**
      * Busca produtos paginados do product-service
      * @param page Número da página (começa em 0, padrão: 0)
@@ -0,0 +1,125 @@
+package com.techsolution.stockquery.infrastructure.client;
+
+import com.techsolution.stockquery.infrastructure.cache.ConsistentHashRing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Lista estática de réplicas do serviço ({@code stock.peers.urls}) e a divisão dos produtos entre elas.
+ *
+ * A propriedade de cada produto é definida por um {@link ConsistentHashRing} com todas as réplicas
+ * (incluindo esta); todas as réplicas devem usar a mesma lista. Réplicas que falham ficam marcadas
+ * como indisponíveis por um intervalo, durante o qual os produtos delas são buscados diretamente
+ * no product-service.
+ */
+@Component
+public class StockPeers {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockPeers.class);
+
+    private final URI self;
+    private final List<URI> others;
+    private final ConsistentHashRing<URI> ring;
+    private final long downBackoffMs;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<URI, Long> downUntil = new ConcurrentHashMap<>();
+
+    @Autowired
+    public StockPeers(@Value("${stock.peers.urls:}") List<String> peerUrls,
+                      @Value("${stock.peers.self-url:}") String selfUrl,
+                      @Value("${stock.peers.virtual-nodes:100}") int virtualNodes,
+                      @Value("${stock.peers.down-backoff-ms:5000}") long downBackoffMs) {
+        this(peerUrls, selfUrl, virtualNodes, downBackoffMs, System::currentTimeMillis);
+    }
+
+    StockPeers(List<String> peerUrls, String selfUrl, int virtualNodes, long downBackoffMs, LongSupplier clock) {
+        String normalizedSelf = normalize(selfUrl);
+        this.self = normalizedSelf.isEmpty() ? null : URI.create(normalizedSelf);
+
+        Set<URI> members = new LinkedHashSet<>();
+        for (String url : peerUrls) {
+            String normalized = normalize(url);
+            if (!normalized.isEmpty()) {
+                members.add(URI.create(normalized));
+            }
+        }
+        this.others = members.stream().filter(peer -> !peer.equals(self)).toList();
+        if (self != null) {
+            members.add(self);
+        }
+        // Sem a própria URL não há como reconhecer os produtos desta réplica: preenchimento via réplicas desligado
+        this.ring = new ConsistentHashRing<>(self != null && !others.isEmpty() ? members : List.of(), virtualNodes);
+        this.downBackoffMs = downBackoffMs;
+        this.clock = clock;
+
+        if (!others.isEmpty() && self == null) {
+            logger.warn("stock.peers.self-url não configurada - preenchimento de cache via réplicas desabilitado");
+        }
+    }
+
+    /**
+     * Esta réplica, ou {@code null} quando {@code stock.peers.self-url} não está configurada
+     */
+    public URI getSelf() {
+        return self;
+    }
+
+    /**
+     * Demais réplicas (exclui esta)
+     */
+    public List<URI> getOthers() {
+        return others;
+    }
+
+    /**
+     * Réplica dona do produto, quando for outra réplica disponível
+     *
+     * @return Vazio quando esta réplica é a dona, não há réplicas configuradas ou a dona está indisponível
+     */
+    public Optional<URI> remoteOwnerOf(UUID productId) {
+        URI owner = ring.ownerOf(productId);
+        if (owner == null || owner.equals(self) || isDown(owner)) {
+            return Optional.empty();
+        }
+        return Optional.of(owner);
+    }
+
+    /**
+     * Marca a réplica como indisponível durante {@code stock.peers.down-backoff-ms}
+     */
+    public void markDown(URI peer) {
+        downUntil.put(peer, clock.getAsLong() + downBackoffMs);
+    }
+
+    public boolean isDown(URI peer) {
+        Long until = downUntil.get(peer);
+        if (until == null) {
+            return false;
+        }
+        if (clock.getAsLong() >= until) {
+            downUntil.remove(peer, until);
+            return false;
+        }
+        return true;
+    }
+
+    static String normalize(String url) {
+        if (url == null) {
+            return "";
+        }
+        String trimmed = url.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
@@ -0,0 +1,16 @@
+package com.techsolution.stockquery.infrastructure.config;
+
+import com.techsolution.stockquery.infrastructure.deadline.DeadlineCapability;
+import feign.Capability;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Configuração dos Feign Clients que respeitam o prazo da requisição em andamento
+ */
+public class DeadlineClientConfig {
+
+    @Bean
+    public Capability deadlineCapability() {
+        return new DeadlineCapability();
+    }
+}
@@ -0,0 +1,25 @@
+package com.techsolution.stockquery.infrastructure.config;
+
+import com.techsolution.stockquery.infrastructure.deadline.DeadlineInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class DeadlineWebConfig implements WebMvcConfigurer {
+
+    private final DeadlineInterceptor deadlineInterceptor;
+
+    public DeadlineWebConfig(DeadlineInterceptor deadlineInterceptor) {
+        this.deadlineInterceptor = deadlineInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // O stream SSE é uma conexão longa e não consulta o product-service; a exportação CSV dura o
+        // tempo do download (ditado pelo cliente) e cada página já tem o timeout do próprio Feign
+        registry.addInterceptor(deadlineInterceptor)
+                .addPathPatterns("/stock", "/stock/**", "/stocks", "/stocks/**", "/internal/peer/**")
+                .excludePathPatterns("/stocks/stream", "/stocks/export.csv");
+    }
+}
@@ -0,0 +1,22 @@
+package com.techsolution.stockquery.infrastructure.config;
+
+import com.techsolution.stockquery.infrastructure.security.InternalTokenInterceptor;
+import feign.RequestInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Configuração dos Feign Clients que chamam os endpoints {@code /internal/**} de outras réplicas,
+ * enviando o segredo compartilhado {@code stock.internal.token}
+ */
+public class InternalClientConfig {
+
+    @Bean
+    public RequestInterceptor internalTokenRequestInterceptor(@Value("${stock.internal.token:}") String token) {
+        return template -> {
+            if (!token.isEmpty()) {
+                template.header(InternalTokenInterceptor.HEADER, token);
+            }
+        };
+    }
+}
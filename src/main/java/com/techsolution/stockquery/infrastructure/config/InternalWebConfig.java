@@ -0,0 +1,21 @@
+package com.techsolution.stockquery.infrastructure.config;
+
+import com.techsolution.stockquery.infrastructure.security.InternalTokenInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class InternalWebConfig implements WebMvcConfigurer {
+
+    private final InternalTokenInterceptor internalTokenInterceptor;
+
+    public InternalWebConfig(InternalTokenInterceptor internalTokenInterceptor) {
+        this.internalTokenInterceptor = internalTokenInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(internalTokenInterceptor).addPathPatterns("/internal/**");
+    }
+}
@@ -0,0 +1,21 @@
+package com.techsolution.stockquery.infrastructure.config;
+
+import com.techsolution.stockquery.infrastructure.latency.LatencyRecorders;
+import com.techsolution.stockquery.infrastructure.latency.TimedJacksonJsonHttpMessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Substitui o conversor JSON padrão pela versão que mede a serialização das respostas
+ */
+@Configuration
+public class LatencyConfig {
+
+    @Bean
+    public JacksonJsonHttpMessageConverter jacksonJsonHttpMessageConverter(JsonMapper jsonMapper,
+                                                                           LatencyRecorders latencyRecorders) {
+        return new TimedJacksonJsonHttpMessageConverter(jsonMapper, latencyRecorders);
+    }
+}
@@ -0,0 +1,16 @@
+package com.techsolution.stockquery.infrastructure.config;
+
+import com.techsolution.stockquery.infrastructure.jfr.JfrCapability;
+import feign.Capability;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Configuração do Feign Client do product-service que registra eventos JFR das chamadas
+ */
+public class ProductServiceJfrConfig {
+
+    @Bean
+    public Capability jfrCapability() {
+        return new JfrCapability();
+    }
+}
@@ -0,0 +1,17 @@
+package com.techsolution.stockquery.infrastructure.config;
+
+import com.techsolution.stockquery.infrastructure.latency.LatencyCapability;
+import com.techsolution.stockquery.infrastructure.latency.LatencyRecorders;
+import feign.Capability;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Configuração do Feign Client do product-service que registra a latência de cada operação
+ */
+public class ProductServiceLatencyConfig {
+
+    @Bean
+    public Capability latencyCapability(LatencyRecorders latencyRecorders) {
+        return new LatencyCapability(latencyRecorders);
+    }
+}
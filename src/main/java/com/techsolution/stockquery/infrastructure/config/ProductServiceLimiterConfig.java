@@ -0,0 +1,18 @@
+package com.techsolution.stockquery.infrastructure.config;
+
+import com.techsolution.stockquery.infrastructure.client.AdaptiveConcurrencyLimiter;
+import com.techsolution.stockquery.infrastructure.client.ConcurrencyLimiterCapability;
+import feign.Capability;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Configuração do Feign Client do product-service que envolve cada chamada HTTP
+ * no {@link AdaptiveConcurrencyLimiter}
+ */
+public class ProductServiceLimiterConfig {
+
+    @Bean
+    public Capability concurrencyLimiterCapability(AdaptiveConcurrencyLimiter limiter) {
+        return new ConcurrencyLimiterCapability(limiter);
+    }
+}
@@ -0,0 +1,16 @@
+package com.techsolution.stockquery.infrastructure.config;
+
+import com.techsolution.stockquery.infrastructure.tracing.TracingCapability;
+import feign.Capability;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Configuração do Feign Client do product-service que abre um span por chamada e propaga o trace
+ */
+public class ProductServiceTracingConfig {
+
+    @Bean
+    public Capability tracingCapability() {
+        return new TracingCapability();
+    }
+}
@@ -0,0 +1,63 @@
+package com.techsolution.stockquery.infrastructure.deadline;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Propaga o prazo da requisição às chamadas feitas pelo Feign: o timeout de conexão e leitura
+ * passa a ser o menor entre o configurado e o tempo restante, o tempo restante é enviado no header
+ * {@value RequestDeadline#HEADER} e nenhuma chamada é iniciada com o prazo esgotado.
+ * Classe pública porque o Feign invoca {@code enrich} via reflexão.
+ */
+public class DeadlineCapability implements Capability {
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            Optional<RequestDeadline> current = RequestDeadline.current();
+            if (current.isEmpty()) {
+                return client.execute(request, options);
+            }
+            RequestDeadline deadline = current.get();
+            long remaining = deadline.remainingMillis();
+            if (remaining <= 0) {
+                throw new DeadlineExceededException("Prazo de " + deadline.getTimeoutMs()
+                        + "ms da requisição esgotado antes de " + request.httpMethod() + " " + request.url());
+            }
+            try {
+                return client.execute(withRemaining(request, remaining), withRemaining(options, remaining));
+            } catch (IOException e) {
+                // Timeout encurtado para o tempo restante: é o prazo da requisição, não lentidão do serviço
+                if (RequestDeadline.explains(e)) {
+                    throw new DeadlineExceededException("Prazo de " + deadline.getTimeoutMs()
+                            + "ms da requisição esgotado durante " + request.httpMethod() + " " + request.url());
+                }
+                throw e;
+            }
+        };
+    }
+
+    static Request.Options withRemaining(Request.Options options, long remainingMs) {
+        return new Request.Options(
+                Math.min(options.connectTimeoutMillis(), remainingMs), TimeUnit.MILLISECONDS,
+                Math.min(options.readTimeoutMillis(), remainingMs), TimeUnit.MILLISECONDS,
+                options.isFollowRedirects());
+    }
+
+    static Request withRemaining(Request request, long remainingMs) {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        headers.put(RequestDeadline.HEADER, List.of(String.valueOf(remainingMs)));
+        return Request.create(request.httpMethod(), request.url(), headers, request.body(),
+                request.charset(), request.requestTemplate());
+    }
+}
@@ -0,0 +1,12 @@
+package com.techsolution.stockquery.infrastructure.deadline;
+
+/**
+ * Lançada quando o prazo da requisição acabou antes de o trabalho terminar;
+ * o restante do trabalho (páginas, chamadas ao product-service) é abandonado
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
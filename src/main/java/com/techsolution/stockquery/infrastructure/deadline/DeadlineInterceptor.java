@@ -0,0 +1,58 @@
+package com.techsolution.stockquery.infrastructure.deadline;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Define o prazo de cada requisição: o valor do header {@value RequestDeadline#HEADER} (limitado a
+ * {@code stock.deadline.max-ms}) ou o padrão do endpoint - {@code stock.deadline.crawl-ms} para
+ * {@code GET /stock}, que percorre todas as páginas, e {@code stock.deadline.default-ms} para os demais.
+ */
+@Component
+public class DeadlineInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineInterceptor.class);
+
+    private final long defaultMs;
+    private final long crawlMs;
+    private final long maxMs;
+
+    public DeadlineInterceptor(@Value("${stock.deadline.default-ms:10000}") long defaultMs,
+                               @Value("${stock.deadline.crawl-ms:30000}") long crawlMs,
+                               @Value("${stock.deadline.max-ms:60000}") long maxMs) {
+        this.defaultMs = defaultMs;
+        this.crawlMs = crawlMs;
+        this.maxMs = maxMs;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestDeadline.start(resolveTimeoutMs(request));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestDeadline.clear();
+    }
+
+    long resolveTimeoutMs(HttpServletRequest request) {
+        String header = request.getHeader(RequestDeadline.HEADER);
+        if (header != null && !header.isBlank()) {
+            try {
+                long requested = Long.parseLong(header.trim());
+                if (requested > 0) {
+                    return Math.min(requested, maxMs);
+                }
+            } catch (NumberFormatException e) {
+                logger.debug("Header {} inválido: {} - usando prazo padrão", RequestDeadline.HEADER, header);
+            }
+        }
+        return "/stock".equals(request.getRequestURI()) ? crawlMs : defaultMs;
+    }
+}
@@ -0,0 +1,124 @@
+package com.techsolution.stockquery.infrastructure.deadline;
+
+import java.io.InterruptedIOException;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prazo da requisição HTTP em andamento, associado à thread que a atende.
+ *
+ * Definido pelo {@link DeadlineInterceptor} a partir do header {@value #HEADER} ou do padrão do
+ * endpoint, consultado antes de cada chamada ao product-service (que recebe o tempo restante como
+ * timeout) e entre as páginas de uma varredura. Trabalho em segundo plano (cargas periódicas,
+ * warm-up) não tem prazo.
+ */
+public final class RequestDeadline {
+
+    /**
+     * Header com o tempo máximo, em milissegundos, que o cliente aguardará a resposta
+     */
+    public static final String HEADER = "X-Request-Timeout";
+
+    /**
+     * Folga para considerar esgotado o prazo quando um timeout encurtado para o tempo restante
+     * dispara (o tempo restante é truncado para milissegundos)
+     */
+    private static final long TIMEOUT_SLACK_MS = 5;
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long timeoutMs;
+    private final long expiresAtNanos;
+
+    private RequestDeadline(long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+        this.expiresAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+    }
+
+    /**
+     * Inicia o prazo da requisição na thread atual
+     */
+    public static RequestDeadline start(long timeoutMs) {
+        RequestDeadline deadline = new RequestDeadline(timeoutMs);
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Prazo da requisição atendida pela thread atual, se houver
+     */
+    public static Optional<RequestDeadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Envolve a tarefa para que, executada em outra thread, herde o prazo da requisição atual
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return task;
+        }
+        return () -> {
+            RequestDeadline previous = CURRENT.get();
+            CURRENT.set(deadline);
+            try {
+                return task.call();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    /**
+     * Interrompe o trabalho se o prazo da requisição atual já acabou
+     *
+     * @param operation Descrição do trabalho interrompido (usada na mensagem)
+     * @throws DeadlineExceededException quando o prazo acabou
+     */
+    public static void check(String operation) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline != null && deadline.isExpired()) {
+            throw new DeadlineExceededException("Prazo de " + deadline.timeoutMs
+                    + "ms da requisição esgotado durante " + operation);
+        }
+    }
+
+    /**
+     * Indica se a falha de uma chamada se explica pelo prazo da requisição atual - prazo esgotado ou
+     * timeout encurtado para o tempo restante - e não por lentidão ou sobrecarga do serviço chamado.
+     * Examina também a causa (ex: timeout de I/O encapsulado pelo Feign).
+     */
+    public static boolean explains(Throwable failure) {
+        if (failure instanceof DeadlineExceededException) {
+            return true;
+        }
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return false;
+        }
+        Throwable timeout = failure instanceof InterruptedIOException ? failure : failure.getCause();
+        return timeout instanceof InterruptedIOException && deadline.remainingMillis() < TIMEOUT_SLACK_MS;
+    }
+
+    public long remainingMillis() {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(expiresAtNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return System.nanoTime() - expiresAtNanos >= 0;
+    }
+
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+}
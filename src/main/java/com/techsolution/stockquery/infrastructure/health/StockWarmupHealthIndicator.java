@@ -0,0 +1,31 @@
+package com.techsolution.stockquery.infrastructure.health;
+
+import com.techsolution.stockquery.application.service.StockWarmupService;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health indicator do aquecimento, incluído no grupo de readiness:
+ * o pod só recebe tráfego quando o warm-up termina ou atinge o tempo limite.
+ */
+@Component("stockWarmup")
+public class StockWarmupHealthIndicator implements HealthIndicator {
+
+    private final StockWarmupService stockWarmupService;
+
+    public StockWarmupHealthIndicator(StockWarmupService stockWarmupService) {
+        this.stockWarmupService = stockWarmupService;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = stockWarmupService.isFinished() ? Health.up() : Health.down();
+        return builder
+                .withDetail("state", stockWarmupService.getState())
+                .withDetail("loaded", stockWarmupService.getLoadedItems())
+                .withDetail("total", stockWarmupService.getTotalItems())
+                .withDetail("durationMs", stockWarmupService.getDurationMs())
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.techsolution.stockquery.infrastructure.hotkeys;
+
+import java.util.UUID;
+
+/**
+ * Produto entre os mais consultados: {@code count} é a contagem estimada (nunca subestimada) e
+ * {@code error} o quanto ela pode estar acima da real ({@code count - error} é o mínimo garantido)
+ */
+public class HotKey {
+
+    private UUID productId;
+    private long count;
+    private long error;
+
+    public HotKey() {
+    }
+
+    public HotKey(UUID productId, long count, long error) {
+        this.productId = productId;
+        this.count = count;
+        this.error = error;
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public void setProductId(UUID productId) {
+        this.productId = productId;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public long getError() {
+        return error;
+    }
+
+    public void setError(long error) {
+        this.error = error;
+    }
+}
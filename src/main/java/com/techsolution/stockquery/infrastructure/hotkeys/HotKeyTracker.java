@@ -0,0 +1,233 @@
+package com.techsolution.stockquery.infrastructure.hotkeys;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Acompanha os produtos mais consultados com memória limitada (algoritmo Space-Saving).
+ *
+ * No máximo {@code stock.hotkeys.capacity} produtos são monitorados. Um produto novo com todos
+ * os contadores ocupados substitui o de menor contagem e herda essa contagem como erro, de modo
+ * que qualquer produto com mais de {@code total / capacidade} consultas está garantidamente na
+ * lista. Os contadores ficam em baldes ordenados por contagem, para achar o menor sem percorrer
+ * todos. A cada {@code stock.hotkeys.decay-interval-ms} as contagens caem pela metade, para que a
+ * lista acompanhe o tráfego recente.
+ *
+ * Como {@link #record} roda em toda consulta pontual, os produtos são divididos por hash em faixas
+ * independentes, cada uma com sua parte da capacidade e seu próprio lock; consultas a produtos de
+ * faixas diferentes não disputam o mesmo lock. Cada produto é contado em uma única faixa, então a
+ * lista geral é a junção das listas das faixas, e a garantia acima vale por faixa (total e
+ * capacidade da faixa).
+ */
+@Component
+public class HotKeyTracker {
+
+    /**
+     * Capacidade mínima de cada faixa: abaixo disso o erro por faixa cresce mais do que vale a divisão
+     */
+    private static final int MIN_STRIPE_CAPACITY = 32;
+    private static final int MAX_STRIPES = 16;
+
+    private final int capacity;
+    private final int topK;
+    private final Summary[] stripes;
+
+    @Autowired
+    public HotKeyTracker(@Value("${stock.hotkeys.capacity:1000}") int capacity,
+                         @Value("${stock.hotkeys.top-k:50}") int topK) {
+        this.capacity = Math.max(0, capacity);
+        this.topK = Math.max(0, Math.min(topK, this.capacity));
+        int stripeCount = Math.clamp(this.capacity / MIN_STRIPE_CAPACITY, 1, MAX_STRIPES);
+        this.stripes = new Summary[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            // Distribui o resto da divisão entre as primeiras faixas: a soma é exatamente a capacidade
+            stripes[i] = new Summary(this.capacity / stripeCount + (i < this.capacity % stripeCount ? 1 : 0));
+        }
+    }
+
+    /**
+     * Rastreamento desligado, para uso fora do contexto Spring
+     */
+    public static HotKeyTracker disabled() {
+        return new HotKeyTracker(0, 0);
+    }
+
+    public void record(UUID productId) {
+        if (capacity == 0) {
+            return;
+        }
+        stripeFor(productId).record(productId);
+    }
+
+    /**
+     * Os {@code stock.hotkeys.top-k} produtos de maior contagem, do mais consultado ao menos
+     */
+    public List<HotKey> topK() {
+        return top(topK);
+    }
+
+    public List<HotKey> top(int limit) {
+        // Os "limit" maiores de cada faixa bastam para compor os "limit" maiores do total
+        List<HotKey> merged = new ArrayList<>();
+        for (Summary stripe : stripes) {
+            stripe.top(limit, merged);
+        }
+        merged.sort(Comparator.comparingLong(HotKey::getCount).reversed());
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+
+    /**
+     * Envelhecimento: divide contagens e erros por 2 e deixa de monitorar os produtos que zeraram
+     */
+    @Scheduled(fixedDelayString = "${stock.hotkeys.decay-interval-ms:60000}")
+    public void decay() {
+        for (Summary stripe : stripes) {
+            stripe.decay();
+        }
+    }
+
+    public int getTrackedKeys() {
+        int tracked = 0;
+        for (Summary stripe : stripes) {
+            tracked += stripe.size();
+        }
+        return tracked;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    private Summary stripeFor(UUID productId) {
+        return stripes[(productId.hashCode() & Integer.MAX_VALUE) % stripes.length];
+    }
+
+    /**
+     * Resumo Space-Saving de uma faixa de produtos, protegido pelo próprio lock
+     */
+    private static final class Summary {
+        private final int capacity;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<UUID, Counter> counters = new HashMap<>();
+        private final TreeMap<Long, LinkedHashSet<Counter>> buckets = new TreeMap<>();
+
+        private Summary(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private void record(UUID productId) {
+            lock.lock();
+            try {
+                Counter counter = counters.get(productId);
+                if (counter != null) {
+                    move(counter, counter.count + 1);
+                    return;
+                }
+                if (counters.size() < capacity) {
+                    counter = new Counter(productId, 0);
+                    counters.put(productId, counter);
+                    move(counter, 1);
+                    return;
+                }
+                // Substitui o produto de menor contagem, que passa a ser o erro do novo
+                Map.Entry<Long, LinkedHashSet<Counter>> lowest = buckets.firstEntry();
+                Counter replaced = lowest.getValue().iterator().next();
+                counters.remove(replaced.productId);
+                counter = new Counter(productId, lowest.getKey());
+                counters.put(productId, counter);
+                unlink(replaced);
+                move(counter, lowest.getKey() + 1);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void top(int limit, List<HotKey> result) {
+            lock.lock();
+            try {
+                int added = 0;
+                for (LinkedHashSet<Counter> bucket : buckets.descendingMap().values()) {
+                    for (Counter counter : bucket) {
+                        if (added++ >= limit) {
+                            return;
+                        }
+                        result.add(new HotKey(counter.productId, counter.count, counter.error));
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void decay() {
+            lock.lock();
+            try {
+                List<Counter> all = new ArrayList<>(counters.values());
+                buckets.clear();
+                for (Counter counter : all) {
+                    counter.count /= 2;
+                    counter.error /= 2;
+                    if (counter.count == 0) {
+                        counters.remove(counter.productId);
+                    } else {
+                        buckets.computeIfAbsent(counter.count, count -> new LinkedHashSet<>()).add(counter);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int size() {
+            lock.lock();
+            try {
+                return counters.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void move(Counter counter, long newCount) {
+            unlink(counter);
+            counter.count = newCount;
+            buckets.computeIfAbsent(newCount, count -> new LinkedHashSet<>()).add(counter);
+        }
+
+        private void unlink(Counter counter) {
+            LinkedHashSet<Counter> bucket = buckets.get(counter.count);
+            if (bucket != null && bucket.remove(counter) && bucket.isEmpty()) {
+                buckets.remove(counter.count);
+            }
+        }
+    }
+
+    /**
+     * Contador de um produto monitorado (identidade por instância nos baldes)
+     */
+    private static final class Counter {
+        private final UUID productId;
+        private long count;
+        private long error;
+
+        private Counter(UUID productId, long error) {
+            this.productId = productId;
+            this.error = error;
+        }
+    }
+}
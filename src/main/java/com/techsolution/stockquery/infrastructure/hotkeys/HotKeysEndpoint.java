@@ -0,0 +1,48 @@
+package com.techsolution.stockquery.infrastructure.hotkeys;
+
+import com.techsolution.stockquery.infrastructure.cache.StockCache;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoint GET /actuator/hotkeys - produtos mais consultados (top-K), com a contagem estimada, o
+ * erro máximo da estimativa e o tempo restante no cache local (ms, ausente se não está em cache)
+ */
+@Component
+@Endpoint(id = "hotkeys")
+public class HotKeysEndpoint {
+
+    private final HotKeyTracker hotKeys;
+    private final StockCache stockCache;
+
+    public HotKeysEndpoint(HotKeyTracker hotKeys, StockCache stockCache) {
+        this.hotKeys = hotKeys;
+        this.stockCache = stockCache;
+    }
+
+    @ReadOperation
+    public Map<String, Object> hotKeys() {
+        List<Map<String, Object>> keys = hotKeys.topK().stream()
+                .map(hotKey -> {
+                    Map<String, Object> key = new LinkedHashMap<>();
+                    key.put("productId", hotKey.getProductId());
+                    key.put("count", hotKey.getCount());
+                    key.put("error", hotKey.getError());
+                    stockCache.remainingTtlMillis(hotKey.getProductId())
+                            .ifPresent(remainingMs -> key.put("cacheTtlRemainingMs", remainingMs));
+                    return key;
+                })
+                .toList();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("capacity", hotKeys.getCapacity());
+        result.put("topK", hotKeys.getTopK());
+        result.put("trackedKeys", hotKeys.getTrackedKeys());
+        result.put("keys", keys);
+        return result;
+    }
+}
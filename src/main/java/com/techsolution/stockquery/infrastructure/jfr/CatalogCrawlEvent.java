@@ -0,0 +1,67 @@
+package com.techsolution.stockquery.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR de uma varredura completa do catálogo no product-service (GET /stock e cargas do catálogo)
+ */
+@Name("com.techsolution.stockquery.CatalogCrawl")
+@Label("Varredura do catálogo")
+@Category({"Stock Query Service", "Upstream"})
+@Description("Busca de todas as páginas de produtos do product-service")
+public class CatalogCrawlEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(CatalogCrawlEvent.class);
+
+    @Label("Página inicial")
+    int startPage;
+
+    @Label("Tamanho da página")
+    int pageSize;
+
+    @Label("Páginas")
+    @Description("Páginas recebidas e processadas")
+    int pages;
+
+    @Label("Itens")
+    int items;
+
+    @Label("Concluída")
+    @Description("Falso quando a varredura foi interrompida (falha, prazo esgotado ou limite de concorrência)")
+    boolean completed;
+
+    /**
+     * Inicia o evento, ou retorna {@code null} sem alocar quando nenhuma gravação o habilita
+     */
+    public static CatalogCrawlEvent begin(int startPage, int pageSize) {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        CatalogCrawlEvent event = new CatalogCrawlEvent();
+        event.startPage = startPage;
+        event.pageSize = pageSize;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finaliza e grava o evento iniciado por {@link #begin(int, int)} (sem efeito para {@code null})
+     */
+    public static void commit(CatalogCrawlEvent event, int pages, int items, boolean completed) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.pages = pages;
+            event.items = items;
+            event.completed = completed;
+            event.commit();
+        }
+    }
+}
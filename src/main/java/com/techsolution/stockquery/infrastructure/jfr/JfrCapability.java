@@ -0,0 +1,78 @@
+package com.techsolution.stockquery.infrastructure.jfr;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Registra um {@link UpstreamCallEvent} para cada chamada HTTP do Feign Client. Sem gravação JFR
+ * em andamento a chamada segue direto, sem alocar o evento.
+ * Classe pública porque o Feign invoca {@code enrich} via reflexão.
+ */
+public class JfrCapability implements Capability {
+
+    private static final int UUID_LENGTH = 36;
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            if (!UpstreamCallEvent.TYPE.isEnabled()) {
+                return client.execute(request, options);
+            }
+            UpstreamCallEvent event = new UpstreamCallEvent();
+            event.begin();
+            try {
+                Response response = client.execute(request, options);
+                event.status = response.status();
+                if (response.body() != null && response.body().length() != null) {
+                    event.bytes = response.body().length();
+                }
+                return response;
+            } catch (IOException | RuntimeException e) {
+                event.error = e.getClass().getSimpleName() + ": " + e.getMessage();
+                throw e;
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    describe(event, request);
+                    event.commit();
+                }
+            }
+        };
+    }
+
+    private static void describe(UpstreamCallEvent event, Request request) {
+        event.url = request.url();
+        RequestTemplate template = request.requestTemplate();
+        if (template != null) {
+            if (template.methodMetadata() != null) {
+                event.operation = template.methodMetadata().configKey();
+            }
+            Collection<String> page = template.queries().get("page");
+            if (page != null && !page.isEmpty()) {
+                try {
+                    event.page = Integer.parseInt(page.iterator().next());
+                } catch (NumberFormatException e) {
+                    // Página não numérica: mantém -1
+                }
+            }
+        }
+        event.productId = productIdOf(request.url());
+    }
+
+    /**
+     * Último segmento do caminho quando tem o formato de UUID (ex.: /products/{productId})
+     */
+    static String productIdOf(String url) {
+        int end = url.indexOf('?');
+        String path = end >= 0 ? url.substring(0, end) : url;
+        String segment = path.substring(path.lastIndexOf('/') + 1);
+        return segment.length() == UUID_LENGTH && segment.charAt(8) == '-' && segment.charAt(13) == '-'
+                ? segment : null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.techsolution.stockquery.infrastructure.jfr;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Endpoints de gravação JFR em um pod em execução:
+ * GET /actuator/jfr lista as gravações, POST /actuator/jfr inicia uma gravação
+ * (corpo opcional {@code {"durationSeconds": 60, "settings": "profile"}}) e
+ * GET /actuator/jfr/{id} baixa o arquivo .jfr (parcial, se a gravação ainda está em andamento).
+ */
+@Component
+@WebEndpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private final JfrRecordings jfrRecordings;
+
+    public JfrEndpoint(JfrRecordings jfrRecordings) {
+        this.jfrRecordings = jfrRecordings;
+    }
+
+    @ReadOperation
+    public List<Map<String, Object>> recordings() {
+        return jfrRecordings.list();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> start(@Nullable Long durationSeconds, @Nullable String settings) {
+        try {
+            return new WebEndpointResponse<>(jfrRecordings.start(durationSeconds, settings), WebEndpointResponse.STATUS_OK);
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(Map.of("error", e.getMessage()), 409);
+        } catch (IllegalArgumentException e) {
+            return new WebEndpointResponse<>(Map.of("error", e.getMessage()), WebEndpointResponse.STATUS_BAD_REQUEST);
+        } catch (IOException | ParseException e) {
+            return new WebEndpointResponse<>(Map.of("error", "Falha ao iniciar gravação JFR: " + e.getMessage()),
+                    WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Selector long id) throws IOException {
+        Optional<Resource> file = jfrRecordings.dump(id).map(FileSystemResource::new);
+        return file.map(resource -> new WebEndpointResponse<>(resource, WebEndpointResponse.STATUS_OK))
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+}
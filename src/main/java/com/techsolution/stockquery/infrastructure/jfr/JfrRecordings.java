@@ -0,0 +1,161 @@
+package com.techsolution.stockquery.infrastructure.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Gravações JFR sob demanda, com duração limitada, iniciadas pelo endpoint /actuator/jfr.
+ *
+ * Apenas uma gravação roda por vez. Ao fim da duração o JFR grava o arquivo em
+ * {@code stock.jfr.directory}; durante a gravação, {@link #dump(long)} gera um arquivo parcial com
+ * os eventos até o momento. As últimas gravações continuam listadas para download.
+ */
+@Component
+public class JfrRecordings {
+
+    private static final Logger logger = LoggerFactory.getLogger(JfrRecordings.class);
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+    private static final int MAX_RETAINED = 5;
+
+    private final Path directory;
+    private final Duration defaultDuration;
+    private final Duration maxDuration;
+    private final Map<Long, Recording> recordings = new LinkedHashMap<>();
+
+    public JfrRecordings(@Value("${stock.jfr.directory:data/jfr}") String directory,
+                         @Value("${stock.jfr.default-duration-seconds:60}") long defaultDurationSeconds,
+                         @Value("${stock.jfr.max-duration-seconds:600}") long maxDurationSeconds) {
+        this.directory = Path.of(directory);
+        this.maxDuration = Duration.ofSeconds(Math.max(1, maxDurationSeconds));
+        this.defaultDuration = Duration.ofSeconds(Math.max(1, Math.min(defaultDurationSeconds, maxDurationSeconds)));
+    }
+
+    /**
+     * Inicia uma gravação
+     *
+     * @param durationSeconds Duração (padrão: {@code stock.jfr.default-duration-seconds}, limitada ao máximo)
+     * @param settings Configuração do JFR: {@code default} (overhead ~1%) ou {@code profile} (mais detalhada)
+     * @return Descrição da gravação iniciada
+     * @throws IllegalStateException quando já existe uma gravação em andamento
+     * @throws IllegalArgumentException quando a configuração é desconhecida
+     */
+    public synchronized Map<String, Object> start(Long durationSeconds, String settings)
+            throws IOException, ParseException {
+        for (Recording recording : recordings.values()) {
+            if (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED) {
+                throw new IllegalStateException("Gravação " + recording.getId() + " já está em andamento");
+            }
+        }
+        String settingsName = settings == null || settings.isBlank() ? "default" : settings.trim();
+        if (!SETTINGS.contains(settingsName)) {
+            throw new IllegalArgumentException("Configuração JFR desconhecida: " + settingsName + " (use default ou profile)");
+        }
+        Duration duration = durationSeconds == null || durationSeconds <= 0
+                ? defaultDuration
+                : Duration.ofSeconds(Math.min(durationSeconds, maxDuration.toSeconds()));
+
+        Files.createDirectories(directory);
+        Recording recording = new Recording(Configuration.getConfiguration(settingsName));
+        recording.setName("stock-query-" + Instant.now().toEpochMilli());
+        recording.setDuration(duration);
+        recording.setToDisk(true);
+        recording.setDestination(directory.resolve(recording.getName() + ".jfr"));
+        recording.start();
+        recordings.put(recording.getId(), recording);
+        discardOldRecordings();
+
+        logger.info("Gravação JFR {} iniciada - configuração: {}, duração: {}s, arquivo: {}",
+                recording.getId(), settingsName, duration.toSeconds(), recording.getDestination());
+        return describe(recording);
+    }
+
+    /**
+     * Gravações iniciadas por este serviço, da mais antiga à mais recente
+     */
+    public synchronized List<Map<String, Object>> list() {
+        List<Map<String, Object>> result = new ArrayList<>(recordings.size());
+        for (Recording recording : recordings.values()) {
+            result.add(describe(recording));
+        }
+        return result;
+    }
+
+    /**
+     * Arquivo da gravação: o final, se já terminou, ou um arquivo parcial gerado agora, se ainda está em andamento
+     *
+     * @return Arquivo .jfr, ou vazio se a gravação não existe (ou terminou sem gerar arquivo)
+     */
+    public synchronized Optional<Path> dump(long id) throws IOException {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            return Optional.empty();
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            Path partial = directory.resolve(recording.getName() + "-parcial-" + Instant.now().toEpochMilli() + ".jfr");
+            recording.dump(partial);
+            logger.info("Gravação JFR {} em andamento - arquivo parcial gerado: {}", id, partial);
+            return Optional.of(partial);
+        }
+        Path destination = recording.getDestination();
+        return destination != null && Files.exists(destination) ? Optional.of(destination) : Optional.empty();
+    }
+
+    /**
+     * Encerra as gravações em andamento no desligamento, gravando o que já foi coletado
+     */
+    @PreDestroy
+    public synchronized void close() {
+        for (Recording recording : recordings.values()) {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+                logger.info("Gravação JFR {} encerrada antes do fim da duração: {}", recording.getId(),
+                        recording.getDestination());
+            }
+            recording.close();
+        }
+        recordings.clear();
+    }
+
+    private void discardOldRecordings() {
+        Iterator<Recording> iterator = recordings.values().iterator();
+        while (recordings.size() > MAX_RETAINED && iterator.hasNext()) {
+            Recording oldest = iterator.next();
+            if (oldest.getState() != RecordingState.RUNNING) {
+                // O arquivo gravado permanece no diretório
+                oldest.close();
+                iterator.remove();
+            }
+        }
+    }
+
+    private static Map<String, Object> describe(Recording recording) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("id", recording.getId());
+        description.put("name", recording.getName());
+        description.put("state", recording.getState().name());
+        description.put("startTime", recording.getStartTime());
+        description.put("durationSeconds", recording.getDuration() != null ? recording.getDuration().toSeconds() : null);
+        description.put("file", recording.getDestination() != null ? recording.getDestination().toString() : null);
+        return description;
+    }
+}
@@ -0,0 +1,51 @@
+package com.techsolution.stockquery.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.UUID;
+
+/**
+ * Evento JFR de uma consulta ao cache de estoques (positivo ou negativo). Sem stack trace:
+ * consultas ao cache são frequentes e o chamador é sempre o mesmo.
+ */
+@Name("com.techsolution.stockquery.StockCacheLookup")
+@Label("Consulta ao cache de estoque")
+@Category({"Stock Query Service", "Cache"})
+@Description("Acerto ou falta no cache de consultas pontuais ou no cache negativo")
+@StackTrace(false)
+public class StockCacheLookupEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(StockCacheLookupEvent.class);
+
+    @Label("Cache")
+    @Description("stock (consultas pontuais) ou missing (produtos inexistentes)")
+    String cache;
+
+    @Label("Produto")
+    String productId;
+
+    @Label("Acerto")
+    boolean hit;
+
+    /**
+     * Grava a consulta; sem gravação JFR que habilite o evento, não aloca nada
+     */
+    public static void record(String cache, UUID productId, boolean hit) {
+        if (!TYPE.isEnabled()) {
+            return;
+        }
+        StockCacheLookupEvent event = new StockCacheLookupEvent();
+        if (event.shouldCommit()) {
+            event.cache = cache;
+            event.productId = productId.toString();
+            event.hit = hit;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.techsolution.stockquery.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR de uma chamada HTTP ao product-service, registrado pelo {@link JfrCapability}
+ */
+@Name("com.techsolution.stockquery.UpstreamCall")
+@Label("Chamada ao product-service")
+@Category({"Stock Query Service", "Upstream"})
+@Description("Chamada HTTP do Feign Client ao product-service")
+public class UpstreamCallEvent extends Event {
+
+    static final EventType TYPE = EventType.getEventType(UpstreamCallEvent.class);
+
+    @Label("Operação")
+    @Description("configKey do método do Feign Client")
+    String operation;
+
+    @Label("URL")
+    String url;
+
+    @Label("Produto")
+    String productId;
+
+    @Label("Página")
+    @Description("Página solicitada, ou -1 quando a operação não é paginada")
+    int page = -1;
+
+    @Label("Status HTTP")
+    @Description("Status da resposta, ou 0 quando a chamada falhou sem resposta")
+    int status;
+
+    @Label("Bytes")
+    @Description("Tamanho do corpo da resposta, ou -1 quando desconhecido (chunked)")
+    @DataAmount
+    long bytes = -1;
+
+    @Label("Erro")
+    String error;
+}
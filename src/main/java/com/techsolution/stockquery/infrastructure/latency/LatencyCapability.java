@@ -0,0 +1,37 @@
+package com.techsolution.stockquery.infrastructure.latency;
+
+import feign.Capability;
+import feign.Client;
+import feign.MethodMetadata;
+
+/**
+ * Registra a duração de cada chamada HTTP do Feign Client no histograma da operação (configKey
+ * do método) e na etapa {@link LatencyRecorders.Stage#UPSTREAM}, inclusive quando a chamada falha.
+ * Classe pública porque o Feign invoca {@code enrich} via reflexão.
+ */
+public class LatencyCapability implements Capability {
+
+    private static final String UNKNOWN_OPERATION = "unknown";
+
+    private final LatencyRecorders latencyRecorders;
+
+    public LatencyCapability(LatencyRecorders latencyRecorders) {
+        this.latencyRecorders = latencyRecorders;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            long startNanos = System.nanoTime();
+            try {
+                return client.execute(request, options);
+            } finally {
+                long nanos = System.nanoTime() - startNanos;
+                MethodMetadata metadata = request.requestTemplate() != null
+                        ? request.requestTemplate().methodMetadata() : null;
+                latencyRecorders.recordClient(metadata != null ? metadata.configKey() : UNKNOWN_OPERATION, nanos);
+                latencyRecorders.recordStage(LatencyRecorders.Stage.UPSTREAM, nanos);
+            }
+        };
+    }
+}
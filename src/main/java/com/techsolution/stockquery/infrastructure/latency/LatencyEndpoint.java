@@ -0,0 +1,31 @@
+package com.techsolution.stockquery.infrastructure.latency;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Endpoint GET /actuator/latency - p50/p90/p99/p99.9/máximo (ms) de cada histograma de latência
+ * nas janelas configuradas. As janelas cobrem apenas intervalos já fechados.
+ */
+@Component
+@Endpoint(id = "latency")
+public class LatencyEndpoint {
+
+    private final LatencyRecorders latencyRecorders;
+
+    public LatencyEndpoint(LatencyRecorders latencyRecorders) {
+        this.latencyRecorders = latencyRecorders;
+    }
+
+    @ReadOperation
+    public Map<String, Object> latency() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("intervalMs", latencyRecorders.getIntervalMs());
+        result.putAll(latencyRecorders.snapshot());
+        return result;
+    }
+}
@@ -0,0 +1,42 @@
+package com.techsolution.stockquery.infrastructure.latency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Mede a duração de cada requisição atendida por um controller (incluindo serialização e escrita
+ * da resposta) e registra no histograma do método que a atendeu. Requisições assíncronas (stream
+ * SSE) não são registradas: a duração é a da conexão, não a da consulta.
+ */
+@Component
+public class LatencyFilter extends OncePerRequestFilter {
+
+    private final LatencyRecorders latencyRecorders;
+
+    public LatencyFilter(LatencyRecorders latencyRecorders) {
+        this.latencyRecorders = latencyRecorders;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long startNanos = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            // O handler só é conhecido depois do mapeamento feito pelo DispatcherServlet
+            if (!request.isAsyncStarted()
+                    && request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+                latencyRecorders.recordEndpoint(handler.getMethod(), System.nanoTime() - startNanos);
+            }
+        }
+    }
+}
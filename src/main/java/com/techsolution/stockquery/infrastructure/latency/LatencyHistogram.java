@@ -0,0 +1,69 @@
+package com.techsolution.stockquery.infrastructure.latency;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Histograma de latência (em microssegundos) com janelas deslizantes.
+ *
+ * A gravação usa o {@link Recorder} do HdrHistogram: sem locks (wait-free) e sem alocação,
+ * já que o valor é limitado à faixa configurada. Periodicamente {@link #rotate()} fecha o
+ * intervalo corrente num anel de histogramas; cada janela soma os intervalos mais recentes
+ * já fechados. Locks e alocações ficam apenas na rotação e na leitura.
+ */
+public class LatencyHistogram {
+
+    private final Recorder recorder;
+    private final long highestTrackableMicros;
+    private final int significantDigits;
+    private final Histogram[] intervals;
+    private int next;
+    private int filled;
+
+    /**
+     * @param highestTrackableMicros Maior latência registrada; valores acima são limitados a ela
+     * @param significantDigits Dígitos significativos mantidos (precisão relativa de cada valor)
+     * @param intervalCount Intervalos mantidos no anel (a maior janela consultável)
+     */
+    public LatencyHistogram(long highestTrackableMicros, int significantDigits, int intervalCount) {
+        this.highestTrackableMicros = highestTrackableMicros;
+        this.significantDigits = significantDigits;
+        this.recorder = new Recorder(highestTrackableMicros, significantDigits);
+        this.intervals = new Histogram[Math.max(1, intervalCount)];
+    }
+
+    /**
+     * Registra uma latência medida com {@link System#nanoTime()}
+     */
+    public void recordNanos(long nanos) {
+        long micros = nanos / 1000;
+        recorder.recordValue(micros < 0 ? 0 : Math.min(micros, highestTrackableMicros));
+    }
+
+    /**
+     * Fecha o intervalo corrente, descartando o mais antigo quando o anel está cheio
+     */
+    public synchronized void rotate() {
+        Histogram slot = intervals[next];
+        if (slot == null) {
+            slot = new Histogram(highestTrackableMicros, significantDigits);
+            intervals[next] = slot;
+        }
+        // Copia e zera o intervalo corrente; o histograma do slot é reaproveitado
+        recorder.getIntervalHistogramInto(slot);
+        next = (next + 1) % intervals.length;
+        filled = Math.min(filled + 1, intervals.length);
+    }
+
+    /**
+     * Estatísticas dos últimos {@code intervalCount} intervalos fechados
+     */
+    public synchronized LatencySnapshot snapshot(int intervalCount) {
+        Histogram total = new Histogram(highestTrackableMicros, significantDigits);
+        int count = Math.min(intervalCount, filled);
+        for (int i = 1; i <= count; i++) {
+            total.add(intervals[(next - i + intervals.length) % intervals.length]);
+        }
+        return LatencySnapshot.of(total);
+    }
+}
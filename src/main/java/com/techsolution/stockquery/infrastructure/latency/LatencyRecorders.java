@@ -0,0 +1,152 @@
+package com.techsolution.stockquery.infrastructure.latency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Histogramas de latência do serviço, agrupados em endpoints HTTP (por método do controller),
+ * operações dos Feign Clients (por configKey) e etapas internas.
+ *
+ * No caminho quente a busca do histograma é um {@code get} em mapa com chave já existente
+ * ({@link Method} do handler, configKey do Feign ou enum), sem montar strings; o histograma é
+ * criado apenas na primeira gravação de cada chave.
+ */
+@Component
+public class LatencyRecorders {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatencyRecorders.class);
+
+    /**
+     * Etapas internas medidas em todas as requisições
+     */
+    public enum Stage {
+        /** Chamada HTTP ao product-service (inclui espera no limitador de concorrência) */
+        UPSTREAM,
+        /** Conversão do modelo de domínio nos DTOs da resposta */
+        MAPPING,
+        /** Serialização JSON da resposta, incluindo a escrita no stream */
+        SERIALIZATION
+    }
+
+    private final long intervalMs;
+    private final long highestTrackableMicros;
+    private final int significantDigits;
+    private final Map<String, Integer> windows = new LinkedHashMap<>();
+    private final int intervalCount;
+
+    private final ConcurrentHashMap<Method, LatencyHistogram> endpoints = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Method, String> endpointNames = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LatencyHistogram> clients = new ConcurrentHashMap<>();
+    private final EnumMap<Stage, LatencyHistogram> stages = new EnumMap<>(Stage.class);
+
+    public LatencyRecorders(@Value("${stock.latency.interval-ms:10000}") long intervalMs,
+                            @Value("${stock.latency.windows-ms:60000,300000}") long[] windowsMs,
+                            @Value("${stock.latency.highest-trackable-ms:60000}") long highestTrackableMs,
+                            @Value("${stock.latency.significant-digits:2}") int significantDigits) {
+        this.intervalMs = Math.max(1, intervalMs);
+        this.highestTrackableMicros = Math.max(1, highestTrackableMs) * 1000;
+        this.significantDigits = Math.max(1, Math.min(5, significantDigits));
+        int maxIntervals = 1;
+        for (long windowMs : windowsMs) {
+            int intervals = (int) Math.max(1, (windowMs + this.intervalMs - 1) / this.intervalMs);
+            windows.put(windowName(intervals * this.intervalMs), intervals);
+            maxIntervals = Math.max(maxIntervals, intervals);
+        }
+        this.intervalCount = maxIntervals;
+        for (Stage stage : Stage.values()) {
+            stages.put(stage, newHistogram());
+        }
+        logger.info("Histogramas de latência - intervalo: {}ms, janelas: {}, máximo: {}ms, dígitos significativos: {}",
+                this.intervalMs, windows.keySet(), highestTrackableMs, this.significantDigits);
+    }
+
+    /**
+     * Registra a duração de uma requisição atendida pelo método de controller informado
+     */
+    public void recordEndpoint(Method handler, long nanos) {
+        LatencyHistogram histogram = endpoints.get(handler);
+        if (histogram == null) {
+            endpointNames.putIfAbsent(handler, handler.getDeclaringClass().getSimpleName() + "." + handler.getName());
+            histogram = endpoints.computeIfAbsent(handler, key -> newHistogram());
+        }
+        histogram.recordNanos(nanos);
+    }
+
+    /**
+     * Registra a duração de uma chamada de Feign Client
+     *
+     * @param operation configKey do método do client (ex.: {@code ProductServiceClient#getProductById(UUID)})
+     */
+    public void recordClient(String operation, long nanos) {
+        LatencyHistogram histogram = clients.get(operation);
+        if (histogram == null) {
+            histogram = clients.computeIfAbsent(operation, key -> newHistogram());
+        }
+        histogram.recordNanos(nanos);
+    }
+
+    public void recordStage(Stage stage, long nanos) {
+        stages.get(stage).recordNanos(nanos);
+    }
+
+    /**
+     * Fecha o intervalo corrente de todos os histogramas
+     */
+    @Scheduled(fixedRateString = "${stock.latency.interval-ms:10000}")
+    public void rotate() {
+        endpoints.values().forEach(LatencyHistogram::rotate);
+        clients.values().forEach(LatencyHistogram::rotate);
+        stages.values().forEach(LatencyHistogram::rotate);
+    }
+
+    /**
+     * Percentis de cada histograma em cada janela: grupo (endpoints, clients, stages) → nome → janela
+     */
+    public Map<String, Map<String, Map<String, LatencySnapshot>>> snapshot() {
+        Map<String, Map<String, Map<String, LatencySnapshot>>> result = new LinkedHashMap<>();
+        Map<String, Map<String, LatencySnapshot>> endpointWindows = new TreeMap<>();
+        endpoints.forEach((handler, histogram) -> endpointWindows.put(endpointNames.get(handler), windows(histogram)));
+        result.put("endpoints", endpointWindows);
+        Map<String, Map<String, LatencySnapshot>> clientWindows = new TreeMap<>();
+        clients.forEach((operation, histogram) -> clientWindows.put(operation, windows(histogram)));
+        result.put("clients", clientWindows);
+        Map<String, Map<String, LatencySnapshot>> stageWindows = new LinkedHashMap<>();
+        stages.forEach((stage, histogram) -> stageWindows.put(stage.name().toLowerCase(), windows(histogram)));
+        result.put("stages", stageWindows);
+        return result;
+    }
+
+    public long getIntervalMs() {
+        return intervalMs;
+    }
+
+    private Map<String, LatencySnapshot> windows(LatencyHistogram histogram) {
+        Map<String, LatencySnapshot> result = new LinkedHashMap<>();
+        windows.forEach((name, intervals) -> result.put(name, histogram.snapshot(intervals)));
+        return result;
+    }
+
+    private LatencyHistogram newHistogram() {
+        return new LatencyHistogram(highestTrackableMicros, significantDigits, intervalCount);
+    }
+
+    private static String windowName(long windowMs) {
+        if (windowMs % 60000 == 0) {
+            return windowMs / 60000 + "m";
+        }
+        if (windowMs % 1000 == 0) {
+            return windowMs / 1000 + "s";
+        }
+        return windowMs + "ms";
+    }
+}
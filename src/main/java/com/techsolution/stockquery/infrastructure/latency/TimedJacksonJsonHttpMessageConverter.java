@@ -0,0 +1,43 @@
+package com.techsolution.stockquery.infrastructure.latency;
+
+import com.techsolution.stockquery.infrastructure.tracing.Span;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Conversor JSON padrão que registra a duração da serialização das respostas na etapa
+ * {@link LatencyRecorders.Stage#SERIALIZATION} e num span do trace da requisição. Corpos enviados
+ * pelos Feign Clients (que também usam os conversores registrados) não são medidos.
+ */
+public class TimedJacksonJsonHttpMessageConverter extends JacksonJsonHttpMessageConverter {
+
+    private final LatencyRecorders latencyRecorders;
+
+    public TimedJacksonJsonHttpMessageConverter(JsonMapper jsonMapper, LatencyRecorders latencyRecorders) {
+        super(jsonMapper);
+        this.latencyRecorders = latencyRecorders;
+    }
+
+    @Override
+    protected void writeInternal(Object object, ResolvableType resolvableType, HttpOutputMessage outputMessage,
+                                 Map<String, Object> hints) throws IOException {
+        if (!(outputMessage instanceof ServerHttpResponse)) {
+            super.writeInternal(object, resolvableType, outputMessage, hints);
+            return;
+        }
+        Span span = Span.start("serialization");
+        long startNanos = System.nanoTime();
+        try {
+            super.writeInternal(object, resolvableType, outputMessage, hints);
+        } finally {
+            latencyRecorders.recordStage(LatencyRecorders.Stage.SERIALIZATION, System.nanoTime() - startNanos);
+            span.end();
+        }
+    }
+}
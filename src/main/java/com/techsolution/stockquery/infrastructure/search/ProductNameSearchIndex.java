@@ -0,0 +1,270 @@
+package com.techsolution.stockquery.infrastructure.search;
+
+import com.techsolution.stockquery.infrastructure.catalog.CatalogEntry;
+import com.techsolution.stockquery.infrastructure.catalog.NameNormalizer;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeDetector;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeEvent;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeListener;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido de trigramas sobre o nome dos produtos do catálogo local.
+ *
+ * Os nomes são normalizados (sem acentos, minúsculas) e recebem um espaço em cada extremidade,
+ * de forma que consultas de 2 caracteres casam com o início de palavras e consultas maiores
+ * casam com qualquer trecho do nome. O índice é atualizado incrementalmente a cada alteração
+ * do catálogo. Cada produto recebe um identificador inteiro interno e as listas de postings
+ * são arrays ordenados, interseccionados a partir da lista mais curta.
+ */
+@Component
+public class ProductNameSearchIndex implements StockChangeListener {
+
+    public static final int MIN_QUERY_LENGTH = 2;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> postingsByTrigram = new HashMap<>();
+    private final Map<UUID, Integer> docIdByProduct = new HashMap<>();
+    private CatalogEntry[] docs = new CatalogEntry[1024];
+    private int[] freeDocIds = new int[64];
+    private int freeCount;
+    private int nextDocId;
+
+    public ProductNameSearchIndex(StockChangeDetector changeDetector) {
+        changeDetector.subscribe(this);
+    }
+
+    @Override
+    public void onStockChange(StockChangeEvent event) {
+        CatalogEntry current = event.getCurrent();
+        lock.writeLock().lock();
+        try {
+            if (event.is(StockChangeType.REMOVED)) {
+                removeDocument(event.getProductId());
+            } else if (event.is(StockChangeType.ADDED) || event.is(StockChangeType.DETAILS_CHANGED)) {
+                // ADDED também pode chegar para produto já indexado (recarga do catálogo): o docId
+                // anterior é liberado antes, para o produto não aparecer duas vezes na busca
+                removeDocument(event.getProductId());
+                addDocument(current);
+            } else {
+                Integer docId = docIdByProduct.get(current.getProductId());
+                if (docId != null) {
+                    docs[docId] = current;
+                } else {
+                    addDocument(current);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca produtos cujo nome contém o texto informado (ignorando maiúsculas e acentos).
+     * Consultas de 2 caracteres casam apenas com o início de palavras.
+     *
+     * @param query Texto buscado (mínimo de 2 caracteres após normalização)
+     * @param limit Número máximo de resultados
+     * @return Entradas encontradas, ordenadas por nome
+     * @throws IllegalArgumentException quando a consulta é curta demais
+     */
+    public List<CatalogEntry> search(String query, int limit) {
+        String normalized = NameNormalizer.normalize(query);
+        if (normalized.length() < MIN_QUERY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Parâmetro 'q' deve ter pelo menos " + MIN_QUERY_LENGTH + " caracteres");
+        }
+
+        // Consultas curtas são ancoradas no início de palavra pelo espaço de preenchimento
+        String pattern = normalized.length() < 3 ? " " + normalized : normalized;
+
+        List<CatalogEntry> results = new ArrayList<>(Math.min(limit, 64));
+        lock.readLock().lock();
+        try {
+            Postings[] lists = postingsFor(pattern);
+            if (lists == null) {
+                return results;
+            }
+
+            Postings smallest = lists[0];
+            int[] cursors = new int[lists.length];
+            for (int i = 0; i < smallest.size && results.size() < limit; i++) {
+                int docId = smallest.docIds[i];
+                if (!containsInAll(lists, cursors, docId)) {
+                    continue;
+                }
+                CatalogEntry entry = docs[docId];
+                // Trigramas em comum não garantem a sequência: confirma o trecho no nome
+                if (padded(entry.getNormalizedName()).contains(pattern)) {
+                    results.add(entry);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        results.sort(Comparator.comparing(CatalogEntry::getNormalizedName));
+        return results;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIdByProduct.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retorna as listas de postings dos trigramas da consulta, da menor para a maior,
+     * ou {@code null} se algum trigrama não existe no índice
+     */
+    private Postings[] postingsFor(String pattern) {
+        Set<Long> trigrams = trigrams(pattern);
+        Postings[] lists = new Postings[trigrams.size()];
+        int i = 0;
+        for (Long trigram : trigrams) {
+            Postings postings = postingsByTrigram.get(trigram);
+            if (postings == null || postings.size == 0) {
+                return null;
+            }
+            lists[i++] = postings;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(postings -> postings.size));
+        return lists;
+    }
+
+    /**
+     * Avança os cursores das demais listas (ordenadas) até o docId, verificando se ele está em todas
+     */
+    private boolean containsInAll(Postings[] lists, int[] cursors, int docId) {
+        for (int l = 1; l < lists.length; l++) {
+            Postings postings = lists[l];
+            int position = postings.seek(cursors[l], docId);
+            cursors[l] = position;
+            if (position >= postings.size || postings.docIds[position] != docId) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addDocument(CatalogEntry entry) {
+        int docId = freeCount > 0 ? freeDocIds[--freeCount] : nextDocId++;
+        if (docId >= docs.length) {
+            docs = Arrays.copyOf(docs, docs.length * 2);
+        }
+        docs[docId] = entry;
+        docIdByProduct.put(entry.getProductId(), docId);
+
+        for (Long trigram : trigrams(padded(entry.getNormalizedName()))) {
+            postingsByTrigram.computeIfAbsent(trigram, key -> new Postings()).add(docId);
+        }
+    }
+
+    private void removeDocument(UUID productId) {
+        Integer docId = docIdByProduct.remove(productId);
+        if (docId == null) {
+            return;
+        }
+        CatalogEntry entry = docs[docId];
+        for (Long trigram : trigrams(padded(entry.getNormalizedName()))) {
+            Postings postings = postingsByTrigram.get(trigram);
+            if (postings != null) {
+                postings.remove(docId);
+                if (postings.size == 0) {
+                    postingsByTrigram.remove(trigram);
+                }
+            }
+        }
+        docs[docId] = null;
+        if (freeCount == freeDocIds.length) {
+            freeDocIds = Arrays.copyOf(freeDocIds, freeDocIds.length * 2);
+        }
+        freeDocIds[freeCount++] = docId;
+    }
+
+    private static String padded(String normalizedName) {
+        return " " + normalizedName + " ";
+    }
+
+    /**
+     * Trigramas distintos do texto, codificados em um long (3 caracteres de 16 bits)
+     */
+    private static Set<Long> trigrams(String text) {
+        Set<Long> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            long key = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+            trigrams.add(key);
+        }
+        return trigrams;
+    }
+
+    /**
+     * Lista ordenada de docIds de um trigrama
+     */
+    private static final class Postings {
+        private int[] docIds = new int[4];
+        private int size;
+
+        void add(int docId) {
+            // docIds novos costumam ser os maiores: inserção no final é o caso comum
+            if (size == 0 || docIds[size - 1] < docId) {
+                ensureCapacity();
+                docIds[size++] = docId;
+                return;
+            }
+            int position = Arrays.binarySearch(docIds, 0, size, docId);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -position - 1;
+            ensureCapacity();
+            System.arraycopy(docIds, insertAt, docIds, insertAt + 1, size - insertAt);
+            docIds[insertAt] = docId;
+            size++;
+        }
+
+        void remove(int docId) {
+            int position = Arrays.binarySearch(docIds, 0, size, docId);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(docIds, position + 1, docIds, position, size - position - 1);
+            size--;
+        }
+
+        /**
+         * Primeira posição a partir de {@code from} com valor >= docId (busca exponencial)
+         */
+        int seek(int from, int docId) {
+            int bound = 1;
+            int low = from;
+            while (from + bound < size && docIds[from + bound] < docId) {
+                low = from + bound;
+                bound <<= 1;
+            }
+            int high = Math.min(from + bound + 1, size);
+            int position = Arrays.binarySearch(docIds, low, high, docId);
+            return position >= 0 ? position : -position - 1;
+        }
+
+        private void ensureCapacity() {
+            if (size == docIds.length) {
+                docIds = Arrays.copyOf(docIds, docIds.length * 2);
+            }
+        }
+    }
+}
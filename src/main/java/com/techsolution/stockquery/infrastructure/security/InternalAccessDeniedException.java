@@ -0,0 +1,11 @@
+package com.techsolution.stockquery.infrastructure.security;
+
+/**
+ * Lançada quando uma requisição a {@code /internal/**} não traz o token interno esperado
+ */
+public class InternalAccessDeniedException extends RuntimeException {
+
+    public InternalAccessDeniedException(String message) {
+        super(message);
+    }
+}
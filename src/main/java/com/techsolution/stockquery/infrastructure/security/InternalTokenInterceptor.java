@@ -0,0 +1,47 @@
+package com.techsolution.stockquery.infrastructure.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Protege os endpoints {@code /internal/**} (eventos push, invalidações e consultas entre réplicas),
+ * servidos na mesma porta da API pública: a requisição precisa trazer no header {@value #HEADER} o
+ * segredo compartilhado {@code stock.internal.token}. Sem token configurado, todas são recusadas.
+ */
+@Component
+public class InternalTokenInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER = "X-Internal-Token";
+
+    private static final Logger logger = LoggerFactory.getLogger(InternalTokenInterceptor.class);
+
+    private final byte[] token;
+
+    public InternalTokenInterceptor(@Value("${stock.internal.token:}") String token) {
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        if (this.token.length == 0) {
+            logger.warn("stock.internal.token não configurado - endpoints /internal/** recusarão todas as requisições");
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (token.length == 0) {
+            throw new InternalAccessDeniedException("Endpoints internos desabilitados: stock.internal.token não configurado");
+        }
+        String provided = request.getHeader(HEADER);
+        // Comparação em tempo constante: o tempo de resposta não revela o prefixo correto do token
+        if (provided == null || !MessageDigest.isEqual(token, provided.getBytes(StandardCharsets.UTF_8))) {
+            throw new InternalAccessDeniedException("Header " + HEADER + " ausente ou inválido");
+        }
+        return true;
+    }
+}
@@ -0,0 +1,27 @@
+package com.techsolution.stockquery.infrastructure.snapshot;
+
+import com.techsolution.stockquery.infrastructure.catalog.CatalogEntry;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Conteúdo lido de um snapshot do catálogo
+ */
+public final class StockSnapshot {
+    private final Instant createdAt;
+    private final List<CatalogEntry> entries;
+
+    public StockSnapshot(Instant createdAt, List<CatalogEntry> entries) {
+        this.createdAt = createdAt;
+        this.entries = entries;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public List<CatalogEntry> getEntries() {
+        return entries;
+    }
+}
@@ -0,0 +1,211 @@
+package com.techsolution.stockquery.infrastructure.snapshot;
+
+import com.techsolution.stockquery.infrastructure.catalog.CatalogEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Persistência do catálogo local em um arquivo binário compacto, para reinícios "quentes".
+ *
+ * Formato (big-endian):
+ * <pre>
+ * header:  magic (int) | versão do formato (int) | criado em, epoch ms (long)
+ *          | quantidade de entradas (int) | tamanho do payload (long) | CRC32C do payload (int)
+ * payload: por entrada: productId (2 longs) | quantidade (int, MIN_VALUE = nula)
+ *          | preço em centavos (long, MIN_VALUE = nulo) | lastUpdated, epoch ms UTC (long, MIN_VALUE = nulo) | tamanho do nome (int, -1 = nulo) | nome UTF-8
+ * </pre>
+ * A escrita vai para um arquivo temporário no mesmo diretório, que substitui o anterior com
+ * move atômico: um processo interrompido no meio da escrita nunca deixa um snapshot parcial.
+ * A leitura mapeia o arquivo em memória; qualquer inconsistência (magic, versão, tamanho,
+ * checksum) descarta o snapshot e o serviço volta à carga completa a frio.
+ */
+@Component
+public class StockSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockSnapshotStore.class);
+
+    static final int MAGIC = 0x53514B53; // "SQKS"
+    static final int FORMAT_VERSION = 2;
+    static final int HEADER_SIZE = 4 + 4 + 8 + 4 + 8 + 4;
+
+    private static final int NULL_QUANTITY = Integer.MIN_VALUE;
+    private static final long NULL_PRICE = Long.MIN_VALUE;
+    private static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+    private static final int NULL_NAME_LENGTH = -1;
+    private static final byte[] NO_NAME = new byte[0];
+
+    private final Path path;
+
+    public StockSnapshotStore(@Value("${stock.snapshot.path:data/stock-snapshot.bin}") String path) {
+        this.path = Path.of(path);
+    }
+
+    /**
+     * Grava o snapshot de forma atômica
+     *
+     * @return Tamanho do arquivo gravado, em bytes
+     */
+    public long write(Collection<CatalogEntry> entries) throws IOException {
+        List<byte[]> names = new ArrayList<>(entries.size());
+        long payloadSize = 0;
+        for (CatalogEntry entry : entries) {
+            byte[] name = entry.getProductName() != null
+                    ? entry.getProductName().getBytes(StandardCharsets.UTF_8) : null;
+            names.add(name);
+            payloadSize += 16 + 4 + 8 + 8 + 4 + (name != null ? name.length : 0);
+        }
+        if (HEADER_SIZE + payloadSize > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot excede o tamanho máximo suportado: " + payloadSize + " bytes");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) (HEADER_SIZE + payloadSize));
+        buffer.position(HEADER_SIZE);
+        int i = 0;
+        for (CatalogEntry entry : entries) {
+            byte[] name = names.get(i++);
+            buffer.putLong(entry.getProductId().getMostSignificantBits());
+            buffer.putLong(entry.getProductId().getLeastSignificantBits());
+            buffer.putInt(entry.getQuantityAvailable() != null ? entry.getQuantityAvailable() : NULL_QUANTITY);
+            buffer.putLong(entry.getPriceCents() != null ? entry.getPriceCents() : NULL_PRICE);
+            buffer.putLong(entry.getLastUpdated() != null
+                    ? entry.getLastUpdated().toInstant(ZoneOffset.UTC).toEpochMilli() : NULL_TIMESTAMP);
+            if (name != null) {
+                buffer.putInt(name.length);
+                buffer.put(name);
+            } else {
+                buffer.putInt(NULL_NAME_LENGTH);
+            }
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), HEADER_SIZE, (int) payloadSize);
+        buffer.position(0);
+        buffer.putInt(MAGIC);
+        buffer.putInt(FORMAT_VERSION);
+        buffer.putLong(System.currentTimeMillis());
+        buffer.putInt(entries.size());
+        buffer.putLong(payloadSize);
+        buffer.putInt((int) crc.getValue());
+        buffer.position(0);
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return HEADER_SIZE + payloadSize;
+    }
+
+    /**
+     * Lê o snapshot gravado, se existir e estiver íntegro
+     *
+     * @return Entradas do snapshot, ou vazio quando não existe ou é inválido
+     */
+    public Optional<StockSnapshot> read() {
+        if (!Files.isRegularFile(path)) {
+            logger.info("Nenhum snapshot do catálogo encontrado em {}", path.toAbsolutePath());
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) {
+                return invalid("tamanho de arquivo inválido (" + fileSize + " bytes)");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+
+            if (buffer.getInt() != MAGIC) {
+                return invalid("assinatura inválida");
+            }
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                return invalid("versão de formato não suportada (" + version + ")");
+            }
+            long createdAt = buffer.getLong();
+            int count = buffer.getInt();
+            long payloadSize = buffer.getLong();
+            int expectedCrc = buffer.getInt();
+            if (count < 0 || payloadSize != fileSize - HEADER_SIZE) {
+                return invalid("cabeçalho inconsistente com o tamanho do arquivo");
+            }
+
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(HEADER_SIZE, (int) payloadSize));
+            if ((int) crc.getValue() != expectedCrc) {
+                return invalid("checksum não confere");
+            }
+
+            List<CatalogEntry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                entries.add(readEntry(buffer));
+            }
+            if (buffer.hasRemaining()) {
+                return invalid("bytes excedentes após " + count + " entradas");
+            }
+            return Optional.of(new StockSnapshot(Instant.ofEpochMilli(createdAt), entries));
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            return invalid(e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    private static CatalogEntry readEntry(ByteBuffer buffer) {
+        UUID productId = new UUID(buffer.getLong(), buffer.getLong());
+        int quantity = buffer.getInt();
+        long priceCents = buffer.getLong();
+        long lastUpdated = buffer.getLong();
+        int nameLength = buffer.getInt();
+        if (nameLength < NULL_NAME_LENGTH || nameLength > buffer.remaining()) {
+            throw new IllegalArgumentException("tamanho de nome inválido: " + nameLength);
+        }
+        byte[] name = nameLength != NULL_NAME_LENGTH ? new byte[nameLength] : NO_NAME;
+        buffer.get(name);
+        return new CatalogEntry(
+                productId,
+                nameLength != NULL_NAME_LENGTH ? new String(name, StandardCharsets.UTF_8) : null,
+                quantity != NULL_QUANTITY ? quantity : null,
+                priceCents != NULL_PRICE ? priceCents : null,
+                lastUpdated != NULL_TIMESTAMP
+                        ? LocalDateTime.ofInstant(Instant.ofEpochMilli(lastUpdated), ZoneOffset.UTC) : null
+        );
+    }
+
+    private Optional<StockSnapshot> invalid(String reason) {
+        logger.warn("Snapshot do catálogo em {} descartado: {} - será feita carga completa",
+                path.toAbsolutePath(), reason);
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,205 @@
+package com.techsolution.stockquery.infrastructure.tracing;
+
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Trecho (span) de um trace, no modelo do W3C Trace Context.
+ *
+ * O span aberto mais recentemente na thread é o "atual": {@link #start(String)} cria um filho dele
+ * e {@link #end()} devolve a posição ao pai. Sem span atual (requisição não amostrada, tarefas em
+ * segundo plano) {@link #start(String)} devolve um span vazio que não registra nada, de modo que os
+ * pontos instrumentados não precisam verificar se há trace.
+ */
+public final class Span {
+
+    /**
+     * Header W3C com o contexto do trace ({@code 00-<trace-id>-<parent-id>-<flags>})
+     */
+    public static final String TRACEPARENT = "traceparent";
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+    private static final Span NOOP = new Span(null, "0000000000000000", null, "noop", null);
+
+    private final Trace trace;
+    private final String spanId;
+    private final String parentSpanId;
+    private String name;
+    private final Span previous;
+    private final long startEpochMicros;
+    private final long startNanos;
+    private final Map<String, Object> attributes;
+    private long durationMicros = -1;
+    private boolean error;
+
+    private Span(Trace trace, String spanId, String parentSpanId, String name, Span previous) {
+        this.trace = trace;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.previous = previous;
+        this.startNanos = System.nanoTime();
+        this.startEpochMicros = trace != null ? trace.epochMicros(startNanos) : 0;
+        this.attributes = trace != null ? new LinkedHashMap<>() : Collections.emptyMap();
+    }
+
+    /**
+     * Abre o span raiz do trace na thread atual
+     */
+    static Span startRoot(Trace trace, String name, String parentSpanId) {
+        Span span = new Span(trace, newSpanId(), parentSpanId, name, CURRENT.get());
+        CURRENT.set(span);
+        return span;
+    }
+
+    /**
+     * Abre um span filho do span atual da thread (ou um span vazio se não houver trace)
+     */
+    public static Span start(String name) {
+        Span parent = CURRENT.get();
+        if (parent == null || parent.trace == null) {
+            return NOOP;
+        }
+        Span span = new Span(parent.trace, newSpanId(), parent.spanId, name, parent);
+        CURRENT.set(span);
+        return span;
+    }
+
+    /**
+     * Span atual da thread, ou um span vazio se não houver trace
+     */
+    public static Span current() {
+        Span span = CURRENT.get();
+        return span != null ? span : NOOP;
+    }
+
+    /**
+     * Envolve a tarefa para que, executada em outra thread, abra seus spans como filhos do span atual
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        Span span = CURRENT.get();
+        if (span == null || span.trace == null) {
+            return task;
+        }
+        return () -> {
+            Span previous = CURRENT.get();
+            CURRENT.set(span);
+            try {
+                return task.call();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    public Span tag(String key, Object value) {
+        if (trace != null && value != null) {
+            attributes.put(key, value);
+        }
+        return this;
+    }
+
+    /**
+     * Marca o span como falho, registrando o tipo e a mensagem da exceção
+     */
+    public Span error(Throwable throwable) {
+        if (trace != null) {
+            error = true;
+            attributes.put("error.type", throwable.getClass().getName());
+            if (throwable.getMessage() != null) {
+                attributes.put("error.message", throwable.getMessage());
+            }
+        }
+        return this;
+    }
+
+    public Span markError() {
+        if (trace != null) {
+            error = true;
+        }
+        return this;
+    }
+
+    public void rename(String name) {
+        if (trace != null) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Fecha o span e devolve a posição de span atual ao pai (se aberto nesta thread)
+     */
+    public void end() {
+        if (trace == null || durationMicros >= 0) {
+            return;
+        }
+        durationMicros = (System.nanoTime() - startNanos) / 1000;
+        if (CURRENT.get() == this) {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+        trace.finish(this);
+    }
+
+    /**
+     * Valor do header {@value #TRACEPARENT} para chamadas feitas dentro deste span
+     */
+    public String traceparent() {
+        return "00-" + trace.getTraceId() + "-" + spanId + "-01";
+    }
+
+    public boolean isRecording() {
+        return trace != null;
+    }
+
+    public String getTraceId() {
+        return trace != null ? trace.getTraceId() : null;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getStartEpochMicros() {
+        return startEpochMicros;
+    }
+
+    public long getDurationMicros() {
+        return durationMicros;
+    }
+
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    public boolean isError() {
+        return error;
+    }
+
+    static String newSpanId() {
+        long id;
+        do {
+            id = ThreadLocalRandom.current().nextLong();
+        } while (id == 0);
+        return HexFormat.of().toHexDigits(id);
+    }
+}
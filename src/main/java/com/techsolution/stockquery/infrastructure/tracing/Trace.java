@@ -0,0 +1,94 @@
+package com.techsolution.stockquery.infrastructure.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Spans de uma requisição, entregues ao {@link Tracer} quando o span raiz fecha.
+ *
+ * Spans filhos podem fechar em outras threads (páginas de uma varredura); os que fecham depois
+ * do raiz - páginas canceladas quando a varredura falha - são descartados, assim como os que
+ * excedem o limite de spans por trace.
+ */
+public class Trace {
+
+    private final String traceId;
+    private final int maxSpans;
+    private final Consumer<Trace> onComplete;
+    private final long originEpochMicros;
+    private final long originNanos;
+    private final List<Span> spans = new ArrayList<>();
+    private Span root;
+    private int droppedSpans;
+    private boolean completed;
+
+    Trace(String traceId, int maxSpans, Consumer<Trace> onComplete) {
+        this.traceId = traceId;
+        this.maxSpans = maxSpans;
+        this.onComplete = onComplete;
+        this.originNanos = System.nanoTime();
+        this.originEpochMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+    }
+
+    Span start(String name, String parentSpanId) {
+        Span span = Span.startRoot(this, name, parentSpanId);
+        root = span;
+        return span;
+    }
+
+    long epochMicros(long nanos) {
+        return originEpochMicros + (nanos - originNanos) / 1000;
+    }
+
+    void finish(Span span) {
+        synchronized (this) {
+            if (completed) {
+                return;
+            }
+            if (span != root) {
+                if (spans.size() < maxSpans) {
+                    spans.add(span);
+                } else {
+                    droppedSpans++;
+                }
+                return;
+            }
+            spans.add(span);
+            completed = true;
+        }
+        onComplete.accept(this);
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getName() {
+        return root.getName();
+    }
+
+    public long getStartEpochMicros() {
+        return root.getStartEpochMicros();
+    }
+
+    public long getDurationMicros() {
+        return root.getDurationMicros();
+    }
+
+    public boolean isError() {
+        return root.isError();
+    }
+
+    public synchronized int getDroppedSpans() {
+        return droppedSpans;
+    }
+
+    /**
+     * Spans na ordem em que fecharam (o raiz por último)
+     */
+    public synchronized List<Span> getSpans() {
+        return new ArrayList<>(spans);
+    }
+}
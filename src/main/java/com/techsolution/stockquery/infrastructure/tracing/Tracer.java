@@ -0,0 +1,255 @@
+package com.techsolution.stockquery.infrastructure.tracing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Inicia os traces das requisições e guarda os concluídos, sem depender de um coletor externo.
+ *
+ * Os traces mais recentes ficam em memória (consultados em /actuator/traces) e, com
+ * {@code stock.tracing.file} configurado, são gravados em segundo plano num arquivo JSON Lines
+ * (um trace por linha). Requisições com header {@value Span#TRACEPARENT} válido continuam o trace
+ * de origem e seguem a decisão de amostragem dele; as demais são amostradas na proporção
+ * {@code stock.tracing.sample-ratio}.
+ */
+@Component
+public class Tracer {
+
+    private static final Logger logger = LoggerFactory.getLogger(Tracer.class);
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final boolean enabled;
+    private final double sampleRatio;
+    private final int maxTraces;
+    private final int maxSpansPerTrace;
+    private final Path exportFile;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private final Deque<Trace> recent = new ArrayDeque<>();
+    private final ConcurrentLinkedQueue<Trace> pendingExport = new ConcurrentLinkedQueue<>();
+
+    public Tracer(@Value("${stock.tracing.enabled:true}") boolean enabled,
+                  @Value("${stock.tracing.sample-ratio:1.0}") double sampleRatio,
+                  @Value("${stock.tracing.max-traces:500}") int maxTraces,
+                  @Value("${stock.tracing.max-spans-per-trace:1000}") int maxSpansPerTrace,
+                  @Value("${stock.tracing.file:}") String exportFile) {
+        this.enabled = enabled;
+        this.sampleRatio = sampleRatio;
+        this.maxTraces = Math.max(1, maxTraces);
+        this.maxSpansPerTrace = Math.max(1, maxSpansPerTrace);
+        this.exportFile = exportFile == null || exportFile.isBlank() ? null : Path.of(exportFile);
+        logger.info("Tracing - habilitado: {}, amostragem: {}, traces em memória: {}, arquivo: {}",
+                enabled, sampleRatio, this.maxTraces, this.exportFile != null ? this.exportFile : "(desabilitado)");
+    }
+
+    /**
+     * Abre o span raiz de uma requisição recebida, continuando o trace do header
+     * {@value Span#TRACEPARENT} quando válido
+     *
+     * @return Span raiz, ou um span vazio quando a requisição não é amostrada
+     */
+    public Span startRequest(String name, String traceparent) {
+        if (!enabled) {
+            return Span.start(name);
+        }
+        TraceParent parent = TraceParent.parse(traceparent);
+        boolean sampled = parent != null
+                ? parent.sampled
+                : sampleRatio >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRatio;
+        if (!sampled) {
+            return Span.start(name);
+        }
+        String traceId = parent != null ? parent.traceId : newTraceId();
+        return new Trace(traceId, maxSpansPerTrace, this::complete).start(name, parent != null ? parent.spanId : null);
+    }
+
+    void complete(Trace trace) {
+        synchronized (recent) {
+            recent.addFirst(trace);
+            if (recent.size() > maxTraces) {
+                recent.removeLast();
+            }
+        }
+        if (exportFile != null) {
+            pendingExport.add(trace);
+        }
+    }
+
+    /**
+     * Resumo dos traces concluídos mais recentes, do mais novo ao mais antigo
+     */
+    public List<Map<String, Object>> recentTraces() {
+        List<Trace> traces;
+        synchronized (recent) {
+            traces = new ArrayList<>(recent);
+        }
+        List<Map<String, Object>> summaries = new ArrayList<>(traces.size());
+        for (Trace trace : traces) {
+            summaries.add(toMap(trace, false));
+        }
+        return summaries;
+    }
+
+    /**
+     * Trace completo, com todos os spans, se ainda estiver em memória
+     */
+    public Optional<Map<String, Object>> findTrace(String traceId) {
+        synchronized (recent) {
+            for (Trace trace : recent) {
+                if (trace.getTraceId().equals(traceId)) {
+                    return Optional.of(toMap(trace, true));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Grava no arquivo os traces concluídos desde a última execução
+     */
+    @Scheduled(fixedDelayString = "${stock.tracing.export-interval-ms:1000}")
+    public void export() {
+        if (exportFile == null || pendingExport.isEmpty()) {
+            return;
+        }
+        int exported = 0;
+        try {
+            if (exportFile.getParent() != null) {
+                Files.createDirectories(exportFile.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(exportFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                Trace trace;
+                while ((trace = pendingExport.poll()) != null) {
+                    writer.write(jsonMapper.writeValueAsString(toMap(trace, true)));
+                    writer.write('\n');
+                    exported++;
+                }
+            }
+            logger.debug("Traces gravados em {}: {}", exportFile, exported);
+        } catch (IOException | RuntimeException e) {
+            // Traces não gravados são descartados: o arquivo é apenas para inspeção local
+            pendingExport.clear();
+            logger.warn("Falha ao gravar traces em {} após {} traces: {}", exportFile, exported, e.getMessage());
+        }
+    }
+
+    /**
+     * Contexto de origem lido do header {@value Span#TRACEPARENT}
+     */
+    static final class TraceParent {
+
+        final String traceId;
+        final String spanId;
+        final boolean sampled;
+
+        private TraceParent(String traceId, String spanId, boolean sampled) {
+            this.traceId = traceId;
+            this.spanId = spanId;
+            this.sampled = sampled;
+        }
+
+        /**
+         * @return Contexto do header, ou {@code null} se ausente ou inválido
+         */
+        static TraceParent parse(String header) {
+            if (header == null) {
+                return null;
+            }
+            String value = header.trim();
+            // Versões futuras podem acrescentar campos após as flags
+            if (value.length() < 55 || value.charAt(2) != '-' || value.charAt(35) != '-' || value.charAt(52) != '-'
+                    || (value.length() > 55 && value.charAt(55) != '-')) {
+                return null;
+            }
+            String version = value.substring(0, 2);
+            String traceId = value.substring(3, 35);
+            String spanId = value.substring(36, 52);
+            String flags = value.substring(53, 55);
+            if (!isLowerHex(version) || "ff".equals(version) || !isLowerHex(traceId) || !isLowerHex(spanId)
+                    || !isLowerHex(flags) || isZero(traceId) || isZero(spanId)) {
+                return null;
+            }
+            return new TraceParent(traceId, spanId, (HexFormat.fromHexDigits(flags) & 0x01) != 0);
+        }
+    }
+
+    private static boolean isLowerHex(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isZero(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high;
+        do {
+            high = random.nextLong();
+        } while (high == 0);
+        return HEX.toHexDigits(high) + HEX.toHexDigits(random.nextLong());
+    }
+
+    private static Map<String, Object> toMap(Trace trace, boolean withSpans) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("traceId", trace.getTraceId());
+        map.put("name", trace.getName());
+        map.put("startEpochMicros", trace.getStartEpochMicros());
+        map.put("durationMicros", trace.getDurationMicros());
+        map.put("error", trace.isError());
+        List<Span> spans = trace.getSpans();
+        map.put("spanCount", spans.size());
+        map.put("droppedSpans", trace.getDroppedSpans());
+        if (withSpans) {
+            List<Map<String, Object>> spanMaps = new ArrayList<>(spans.size());
+            // Ordem de início, mais legível que a de fechamento
+            spans.sort((a, b) -> Long.compare(a.getStartEpochMicros(), b.getStartEpochMicros()));
+            for (Span span : spans) {
+                Map<String, Object> spanMap = new LinkedHashMap<>();
+                spanMap.put("spanId", span.getSpanId());
+                spanMap.put("parentSpanId", span.getParentSpanId());
+                spanMap.put("name", span.getName());
+                spanMap.put("startEpochMicros", span.getStartEpochMicros());
+                spanMap.put("durationMicros", span.getDurationMicros());
+                spanMap.put("error", span.isError());
+                spanMap.put("attributes", span.getAttributes());
+                spanMaps.add(spanMap);
+            }
+            map.put("spans", spanMaps);
+        }
+        return map;
+    }
+}
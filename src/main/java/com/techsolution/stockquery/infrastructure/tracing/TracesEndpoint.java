@@ -0,0 +1,34 @@
+package com.techsolution.stockquery.infrastructure.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoints GET /actuator/traces (resumo dos traces recentes) e GET /actuator/traces/{traceId}
+ * (spans do trace). Um trace que já saiu da memória responde 404.
+ */
+@Component
+@Endpoint(id = "traces")
+public class TracesEndpoint {
+
+    private final Tracer tracer;
+
+    public TracesEndpoint(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @ReadOperation
+    public List<Map<String, Object>> traces() {
+        return tracer.recentTraces();
+    }
+
+    @ReadOperation
+    public Map<String, Object> trace(@Selector String traceId) {
+        return tracer.findTrace(traceId).orElse(null);
+    }
+}
@@ -0,0 +1,54 @@
+package com.techsolution.stockquery.infrastructure.tracing;
+
+import feign.Capability;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Abre um span para cada chamada HTTP do Feign Client, nomeado pela operação (configKey do
+ * método), e propaga o contexto ao serviço chamado no header {@value Span#TRACEPARENT}.
+ * Fora de um trace a chamada segue sem alterações.
+ * Classe pública porque o Feign invoca {@code enrich} via reflexão.
+ */
+public class TracingCapability implements Capability {
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            MethodMetadata metadata = request.requestTemplate() != null ? request.requestTemplate().methodMetadata() : null;
+            Span span = Span.start(metadata != null ? metadata.configKey() : request.httpMethod() + " " + request.url());
+            if (!span.isRecording()) {
+                return client.execute(request, options);
+            }
+            span.tag("http.method", request.httpMethod().name()).tag("http.url", request.url());
+            try {
+                Response response = client.execute(withTraceparent(request, span), options);
+                span.tag("http.status_code", response.status());
+                if (response.status() >= 500) {
+                    span.markError();
+                }
+                return response;
+            } catch (IOException | RuntimeException e) {
+                span.error(e);
+                throw e;
+            } finally {
+                span.end();
+            }
+        };
+    }
+
+    static Request withTraceparent(Request request, Span span) {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        headers.put(Span.TRACEPARENT, List.of(span.traceparent()));
+        return Request.create(request.httpMethod(), request.url(), headers, request.body(),
+                request.charset(), request.requestTemplate());
+    }
+}
@@ -0,0 +1,69 @@
+package com.techsolution.stockquery.infrastructure.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Abre o span raiz de cada requisição HTTP recebida e informa o trace-id no header
+ * {@value #TRACE_ID_HEADER} da resposta, para localizar o trace em /actuator/traces.
+ * As requisições do próprio actuator não são rastreadas.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class TracingFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private final Tracer tracer;
+
+    public TracingFilter(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Span span = tracer.startRequest(request.getMethod() + " " + request.getRequestURI(),
+                request.getHeader(Span.TRACEPARENT));
+        if (span.isRecording()) {
+            response.setHeader(TRACE_ID_HEADER, span.getTraceId());
+            span.tag("http.method", request.getMethod())
+                    .tag("url.path", request.getRequestURI())
+                    .tag("url.query", request.getQueryString());
+        }
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            if (span.isRecording()) {
+                // A rota só é conhecida depois do mapeamento feito pelo DispatcherServlet
+                Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                if (route != null) {
+                    span.rename(request.getMethod() + " " + route);
+                    span.tag("http.route", route);
+                }
+                span.tag("http.status_code", response.getStatus());
+                if (response.getStatus() >= 500) {
+                    span.markError();
+                }
+            }
+            span.end();
+        }
+    }
+}
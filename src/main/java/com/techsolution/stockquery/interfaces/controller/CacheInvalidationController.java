@@ -0,0 +1,33 @@
+package com.techsolution.stockquery.interfaces.controller;
+
+import com.techsolution.stockquery.application.dto.CacheInvalidationBatchDTO;
+import com.techsolution.stockquery.application.service.PeerInvalidationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Endpoint interno para recebimento de invalidações de cache enviadas pelas demais réplicas
+ */
+@RestController
+public class CacheInvalidationController {
+
+    private final PeerInvalidationService peerInvalidationService;
+
+    public CacheInvalidationController(PeerInvalidationService peerInvalidationService) {
+        this.peerInvalidationService = peerInvalidationService;
+    }
+
+    /**
+     * Endpoint POST /internal/cache-invalidations - Remove do cache local os produtos alterados em outra réplica
+     *
+     * @param batch Lote de invalidações (origem, limpeza completa, produtos e versões)
+     * @return 204 No Content
+     */
+    @PostMapping("/internal/cache-invalidations")
+    public ResponseEntity<Void> receiveInvalidations(@RequestBody CacheInvalidationBatchDTO batch) {
+        peerInvalidationService.receive(batch);
+        return ResponseEntity.noContent().build();
+    }
+}
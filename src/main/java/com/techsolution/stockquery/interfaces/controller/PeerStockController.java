@@ -0,0 +1,38 @@
+package com.techsolution.stockquery.interfaces.controller;
+
+import com.techsolution.stockquery.application.service.StockQueryService;
+import com.techsolution.stockquery.domain.model.StockView;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * Endpoint interno usado pelas demais réplicas para buscar produtos dos quais esta réplica é dona
+ */
+@RestController
+public class PeerStockController {
+
+    private final StockQueryService stockQueryService;
+
+    public PeerStockController(StockQueryService stockQueryService) {
+        this.stockQueryService = stockQueryService;
+    }
+
+    /**
+     * Endpoint GET /internal/peer/stocks/{productId} - Estoque do cache local ou do product-service
+     *
+     * Nunca encaminha para outra réplica, evitando ciclos quando as listas de réplicas divergem.
+     *
+     * @param productId ID do produto
+     * @return 200 com o estoque ou 404 se o produto não existe
+     */
+    @GetMapping("/internal/peer/stocks/{productId}")
+    public ResponseEntity<StockView> getOwnedStock(@PathVariable UUID productId) {
+        return stockQueryService.findOwnedByProductId(productId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,43 @@
+package com.techsolution.stockquery.interfaces.controller;
+
+import com.techsolution.stockquery.application.dto.StockEventBatchResultDTO;
+import com.techsolution.stockquery.application.dto.StockEventDTO;
+import com.techsolution.stockquery.application.service.StockEventIngestionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Endpoint interno para recebimento de eventos de estoque (push) do product-service
+ */
+@RestController
+public class StockEventController {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockEventController.class);
+
+    private final StockEventIngestionService stockEventIngestionService;
+
+    public StockEventController(StockEventIngestionService stockEventIngestionService) {
+        this.stockEventIngestionService = stockEventIngestionService;
+    }
+
+    /**
+     * Endpoint POST /internal/stock-events - Recebe um lote de eventos de alteração de estoque
+     *
+     * Eventos duplicados ou fora de ordem são ignorados (a resposta informa as contagens),
+     * portanto o publicador pode reenviar o lote com segurança.
+     *
+     * @param events Lote de eventos (productId, stockQuantity, version, timestamp)
+     * @return Resultado do processamento do lote
+     */
+    @PostMapping("/internal/stock-events")
+    public ResponseEntity<StockEventBatchResultDTO> receiveStockEvents(@RequestBody List<StockEventDTO> events) {
+        logger.debug("POST /internal/stock-events - {} eventos recebidos", events.size());
+        return ResponseEntity.ok(stockEventIngestionService.ingest(events));
+    }
+}
@@ -0,0 +1,79 @@
+package com.techsolution.stockquery.interfaces.controller;
+
+import com.techsolution.stockquery.application.service.StockExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class StockExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockExportController.class);
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    private final StockExportService stockExportService;
+
+    public StockExportController(StockExportService stockExportService) {
+        this.stockExportService = stockExportService;
+    }
+
+    /**
+     * Endpoint GET /stocks/export.csv - Exporta o catálogo completo em CSV, página a página
+     * 
+     * A resposta é escrita diretamente no stream enquanto as páginas são buscadas; com
+     * {@code Accept-Encoding: gzip} o conteúdo é comprimido. O header X-Total-Count informa o total
+     * de produtos esperado, permitindo ao cliente detectar um download truncado.
+     * 
+     * @param acceptEncoding Header Accept-Encoding do cliente
+     * @param response Resposta HTTP em que o CSV é escrito
+     */
+    @GetMapping("/stocks/export.csv")
+    public void exportStocksCsv(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        long startTime = System.currentTimeMillis();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        logger.info("=== INÍCIO REQUEST ===");
+        logger.info("GET /stocks/export.csv - Exportando catálogo completo (gzip: {})", gzip);
+
+        long rows = stockExportService.exportCsv(totalElements -> {
+            response.setContentType("text/csv;charset=UTF-8");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"stocks.csv\"");
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (totalElements >= 0) {
+                response.setHeader(TOTAL_COUNT_HEADER, Long.toString(totalElements));
+            }
+            if (gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            return response.getOutputStream();
+        }, gzip);
+
+        logger.info("=== FIM REQUEST ===");
+        logger.info("Status: 200 - Linhas exportadas: {} - Tempo de resposta: {}ms",
+                rows, System.currentTimeMillis() - startTime);
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            // "gzip;q=0" recusa explicitamente a codificação
+            return parts.length < 2 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+        }
+        return false;
+    }
+}
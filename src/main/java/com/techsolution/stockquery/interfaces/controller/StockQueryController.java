@@ -1,10 +1,16 @@
 package com.techsolution.stockquery.interfaces.controller;
 
 import com.techsolution.stockquery.application.dto.PageResponseDTO;
+import com.techsolution.stockquery.application.dto.StockSummaryDTO;
 import com.techsolution.stockquery.application.dto.StockViewDTO;
+import com.techsolution.stockquery.application.service.StockCatalogService;
 import com.techsolution.stockquery.application.service.StockQueryService;
+import com.techsolution.stockquery.application.service.StockSummaryService;
+import com.techsolution.stockquery.domain.model.StockFilter;
 import com.techsolution.stockquery.domain.model.StockView;
 import com.techsolution.stockquery.infrastructure.client.PageResponse;
+import com.techsolution.stockquery.infrastructure.latency.LatencyRecorders;
+import com.techsolution.stockquery.infrastructure.tracing.Span;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
@@ -21,9 +27,29 @@ public class StockQueryController {
     private static final Logger logger = LoggerFactory.getLogger(StockQueryController.class);
 
     private final StockQueryService stockQueryService;
+    private final StockCatalogService stockCatalogService;
+    private final StockSummaryService stockSummaryService;
+    private final LatencyRecorders latencyRecorders;
 
-    public StockQueryController(StockQueryService stockQueryService) {
+    public StockQueryController(StockQueryService stockQueryService, StockCatalogService stockCatalogService,
+                                StockSummaryService stockSummaryService, LatencyRecorders latencyRecorders) {
         this.stockQueryService = stockQueryService;
+        this.stockCatalogService = stockCatalogService;
+        this.stockSummaryService = stockSummaryService;
+        this.latencyRecorders = latencyRecorders;
+    }
+
+    /**
+     * Endpoint GET /stocks/summary - Totais do estoque (produtos, unidades, abaixo do mínimo,
+     * histograma de quantidades e valor do inventário), mantidos incrementalmente a partir do catálogo local
+     */
+    @GetMapping("/stocks/summary")
+    public ResponseEntity<StockSummaryDTO> getStockSummary() {
+        StockSummaryDTO summary = stockSummaryService.getSummary();
+        logger.info("GET /stocks/summary - Produtos: {}, Unidades: {}, Abaixo do mínimo: {}, Valor: {}",
+                summary.getProductCount(), summary.getTotalUnits(), summary.getBelowMinimumCount(),
+                summary.getInventoryValue());
+        return ResponseEntity.ok(summary);
     }
 
     @GetMapping("/stocks/{productId}")
@@ -35,7 +61,9 @@ public class StockQueryController {
         try {
             ResponseEntity<StockViewDTO> response = stockQueryService.findByProductId(productId)
                     .map(stock -> {
+                        long mappingStart = System.nanoTime();
                         StockViewDTO dto = toDTO(stock);
+                        latencyRecorders.recordStage(LatencyRecorders.Stage.MAPPING, System.nanoTime() - mappingStart);
                         logger.info("Produto encontrado - ID: {}, Nome: {}, Estoque: {}, Abaixo do mínimo: {}", 
                                 dto.getProductId(), dto.getProductName(), 
                                 dto.getQuantityAvailable(), dto.getStockBelowMinimum());
@@ -74,14 +102,27 @@ public class StockQueryController {
     /**
      * Endpoint GET /stocks - Lista todos os estoques com suporte a paginação
      * 
+     * Quando algum filtro ou ordenação é informado, a consulta é respondida pelo catálogo
+     * local indexado; sem filtros, a página é buscada diretamente no product-service.
+     * 
      * @param page Número da página (começa em 0, padrão: 0)
      * @param size Tamanho da página (padrão: 20, máximo: 100)
+     * @param minQty Quantidade mínima disponível (inclusive)
+     * @param maxQty Quantidade máxima disponível (inclusive)
+     * @param belowMinimum Filtra estoques abaixo (true) ou não abaixo (false) do limite mínimo
+     * @param namePrefix Prefixo do nome do produto (ignora maiúsculas e acentos)
+     * @param sort Ordenação: quantityAvailable ou productName, opcionalmente com ",asc" ou ",desc"
      * @return Resposta paginada com lista de estoques
      */
     @GetMapping("/stocks")
     public ResponseEntity<PageResponseDTO<StockViewDTO>> getAllStocksPaginated(
             @RequestParam(value = "page", required = false, defaultValue = "0") Integer page,
-            @RequestParam(value = "size", required = false, defaultValue = "20") Integer size) {
+            @RequestParam(value = "size", required = false, defaultValue = "20") Integer size,
+            @RequestParam(value = "minQty", required = false) Integer minQty,
+            @RequestParam(value = "maxQty", required = false) Integer maxQty,
+            @RequestParam(value = "belowMinimum", required = false) Boolean belowMinimum,
+            @RequestParam(value = "namePrefix", required = false) String namePrefix,
+            @RequestParam(value = "sort", required = false) String sort) {
         
         long startTime = System.currentTimeMillis();
         logger.info("=== INÍCIO REQUEST ===");
@@ -106,11 +147,20 @@ public class StockQueryController {
                 size = 20;
             }
             
-            PageResponse<StockView> stockPageResponse = stockQueryService.findStocksPaginated(page, size);
+            boolean filtered = minQty != null || maxQty != null || belowMinimum != null
+                    || (namePrefix != null && !namePrefix.isBlank()) || (sort != null && !sort.isBlank());
             
-            List<StockViewDTO> stockDTOs = stockPageResponse.getContent().stream()
-                    .map(this::toDTO)
-                    .collect(Collectors.toList());
+            PageResponse<StockView> stockPageResponse;
+            if (filtered) {
+                StockFilter filter = StockFilter.of(minQty, maxQty, belowMinimum, namePrefix, sort,
+                        stockQueryService.getMinimumStockLimit());
+                logger.info("Filtros informados - consultando catálogo local: {}", filter);
+                stockPageResponse = stockCatalogService.findStocks(filter, page, size);
+            } else {
+                stockPageResponse = stockQueryService.findStocksPaginated(page, size);
+            }
+            
+            List<StockViewDTO> stockDTOs = toDTOs(stockPageResponse.getContent());
             
             PageResponseDTO<StockViewDTO> response = new PageResponseDTO<>(
                     stockDTOs,
@@ -139,6 +189,45 @@ public class StockQueryController {
         }
     }
 
+    /**
+     * Endpoint GET /stocks/search - Busca estoques pelo nome do produto
+     * 
+     * Usa o índice de trigramas do catálogo local; a busca ignora maiúsculas e acentos.
+     * 
+     * @param q Texto buscado (mínimo de 2 caracteres; com 2 caracteres casa com início de palavras)
+     * @param limit Número máximo de resultados (padrão: 20, máximo: 100)
+     * @return Lista de estoques cujo nome contém o texto buscado
+     */
+    @GetMapping("/stocks/search")
+    public ResponseEntity<List<StockViewDTO>> searchStocks(
+            @RequestParam(value = "q") String q,
+            @RequestParam(value = "limit", required = false, defaultValue = "20") Integer limit) {
+        
+        long startTime = System.currentTimeMillis();
+        logger.info("=== INÍCIO REQUEST ===");
+        logger.info("GET /stocks/search - q: '{}', limit: {}", q, limit);
+        
+        try {
+            if (limit == null || limit < 1 || limit > 100) {
+                logger.warn("Parâmetro 'limit' inválido: {}. Deve estar entre 1 e 100. Usando 20.", limit);
+                limit = 20;
+            }
+            
+            List<StockViewDTO> stockDTOs = toDTOs(stockCatalogService.searchByName(q, limit));
+            
+            long duration = System.currentTimeMillis() - startTime;
+            logger.info("=== FIM REQUEST ===");
+            logger.info("Status: 200 - Tempo de resposta: {}ms - Resultados: {}", duration, stockDTOs.size());
+            
+            return ResponseEntity.ok(stockDTOs);
+        } catch (Exception e) {
+            long duration = System.currentTimeMillis() - startTime;
+            logger.error("=== ERRO NA REQUEST ===");
+            logger.error("Erro ao buscar estoques por nome - q: '{}' - Tempo: {}ms", q, duration, e);
+            throw e;
+        }
+    }
+
     /**
      * Endpoint GET /stock - Lista todos os estoques (carrega todas as páginas)
      * Endpoint de compatibilidade para frontend que espera todos os estoques de uma vez
@@ -166,9 +255,7 @@ public class StockQueryController {
             
             List<StockView> allStocks = stockQueryService.findAllStocks(0, pageSize);
             
-            List<StockViewDTO> stockDTOs = allStocks.stream()
-                    .map(this::toDTO)
-                    .collect(Collectors.toList());
+            List<StockViewDTO> stockDTOs = toDTOs(allStocks);
             
             long duration = System.currentTimeMillis() - startTime;
             logger.info("=== FIM REQUEST ===");
@@ -184,6 +271,19 @@ public class StockQueryController {
         }
     }
 
+    private List<StockViewDTO> toDTOs(List<StockView> stocks) {
+        Span span = Span.start("mapping").tag("mapping.items", stocks.size());
+        long startNanos = System.nanoTime();
+        try {
+            return stocks.stream()
+                    .map(this::toDTO)
+                    .collect(Collectors.toList());
+        } finally {
+            latencyRecorders.recordStage(LatencyRecorders.Stage.MAPPING, System.nanoTime() - startNanos);
+            span.end();
+        }
+    }
+
     private StockViewDTO toDTO(StockView stock) {
         boolean isBelowMinimum = stock.isStockBelowMinimum(stockQueryService.getMinimumStockLimit());
         return new StockViewDTO(
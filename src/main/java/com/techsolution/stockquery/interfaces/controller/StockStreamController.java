@@ -0,0 +1,40 @@
+package com.techsolution.stockquery.interfaces.controller;
+
+import com.techsolution.stockquery.application.service.StockStreamBroadcaster;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class StockStreamController {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockStreamController.class);
+
+    private final StockStreamBroadcaster stockStreamBroadcaster;
+
+    public StockStreamController(StockStreamBroadcaster stockStreamBroadcaster) {
+        this.stockStreamBroadcaster = stockStreamBroadcaster;
+    }
+
+    /**
+     * Endpoint GET /stocks/stream - Stream Server-Sent Events de alterações de estoque
+     * 
+     * Envia apenas estoques alterados no catálogo local (evento "stock"), produtos removidos
+     * ("removed") e cruzamentos do limite mínimo ("below-minimum" / "above-minimum").
+     * 
+     * @param lastEventId Header Last-Event-ID enviado pelo navegador ao reconectar
+     * @return Emitter SSE do assinante
+     */
+    @GetMapping(value = "/stocks/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStockChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        logger.info("GET /stocks/stream - Nova assinatura (Last-Event-ID: {})", lastEventId);
+        return stockStreamBroadcaster.subscribe(lastEventId);
+    }
+}
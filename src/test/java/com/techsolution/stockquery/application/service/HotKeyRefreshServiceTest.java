@@ -0,0 +1,59 @@
+package com.techsolution.stockquery.application.service;
+
+import com.techsolution.stockquery.domain.model.StockView;
+import com.techsolution.stockquery.infrastructure.cache.StockCache;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeDetector;
+import com.techsolution.stockquery.infrastructure.client.StockPeers;
+import com.techsolution.stockquery.infrastructure.hotkeys.HotKeyTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HotKeyRefreshService Tests")
+class HotKeyRefreshServiceTest {
+
+    @Mock
+    private StockQueryService stockQueryService;
+
+    @Test
+    @DisplayName("Deve recarregar apenas os produtos mais consultados que estão em cache perto de expirar")
+    void shouldRefreshOnlyHotCachedProductsCloseToExpiry() {
+        // Given - TTL de 1s no cache e recarga antecipada de 5s: toda entrada em cache está perto de expirar
+        HotKeyTracker hotKeys = new HotKeyTracker(10, 2);
+        StockCache stockCache = new StockCache(new StockChangeDetector(), 100, 1000);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        HotKeyRefreshService refreshService = new HotKeyRefreshService(hotKeys, stockCache,
+                new StockPeers(List.of(), "", 1, 0), stockQueryService, meterRegistry, true, 5000);
+        UUID hotCached = UUID.randomUUID();
+        UUID hotNotCached = UUID.randomUUID();
+        UUID coldCached = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            hotKeys.record(hotCached);
+            hotKeys.record(hotNotCached);
+        }
+        hotKeys.record(coldCached);
+        stockCache.put(new StockView(hotCached, "Café", 10, LocalDateTime.now()));
+        stockCache.put(new StockView(coldCached, "Sal", 3, LocalDateTime.now()));
+
+        // When
+        int refreshed = refreshService.refreshExpiring();
+
+        // Then
+        assertThat(refreshed).isEqualTo(1);
+        verify(stockQueryService).refreshOwned(hotCached);
+        verifyNoMoreInteractions(stockQueryService);
+        assertThat(meterRegistry.get("stock.hotkeys.refreshes").tag("result", "success").counter().count())
+                .isEqualTo(1);
+    }
+}
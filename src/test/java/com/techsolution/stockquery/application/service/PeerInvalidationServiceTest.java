@@ -0,0 +1,160 @@
+package com.techsolution.stockquery.application.service;
+
+import com.techsolution.stockquery.application.dto.CacheInvalidationBatchDTO;
+import com.techsolution.stockquery.application.dto.CacheInvalidationDTO;
+import com.techsolution.stockquery.application.dto.StockEventDTO;
+import com.techsolution.stockquery.domain.model.StockView;
+import com.techsolution.stockquery.infrastructure.cache.StockCache;
+import com.techsolution.stockquery.infrastructure.catalog.CatalogEntry;
+import com.techsolution.stockquery.infrastructure.catalog.StockCatalog;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeDetector;
+import com.techsolution.stockquery.infrastructure.client.PeerClient;
+import com.techsolution.stockquery.infrastructure.client.StockPeers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PeerInvalidationService Tests")
+class PeerInvalidationServiceTest {
+
+    private static final String SELF = "http://localhost:8082";
+    private static final String PEER = "http://localhost:8083";
+
+    @Mock
+    private PeerClient peerClient;
+
+    private StockCatalog stockCatalog;
+    private StockCache stockCache;
+    private StockEventIngestionService ingestionService;
+    private SimpleMeterRegistry meterRegistry;
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() {
+        StockChangeDetector changeDetector = new StockChangeDetector();
+        stockCatalog = new StockCatalog(changeDetector);
+        stockCache = new StockCache(changeDetector, 100, 30000);
+        ingestionService = new StockEventIngestionService(stockCatalog, stockCache, 100);
+        meterRegistry = new SimpleMeterRegistry();
+        productId = UUID.randomUUID();
+        stockCatalog.replaceAll(List.of(
+                new CatalogEntry(productId, "Produto 1", 15, LocalDateTime.now().minusMinutes(1))));
+    }
+
+    @Test
+    @DisplayName("Deve enviar às demais réplicas apenas a maior versão de cada produto, ignorando a própria URL")
+    void shouldSendCoalescedInvalidationsToOtherPeers() {
+        // Given
+        PeerInvalidationService service = service(10);
+        ingestionService.ingest(List.of(event(productId, 10, 1)));
+        ingestionService.ingest(List.of(event(productId, 8, 2)));
+
+        // When
+        service.flush();
+
+        // Then
+        ArgumentCaptor<CacheInvalidationBatchDTO> captor = ArgumentCaptor.forClass(CacheInvalidationBatchDTO.class);
+        verify(peerClient).sendInvalidations(eq(URI.create(PEER)), captor.capture());
+        verify(peerClient, never()).sendInvalidations(eq(URI.create(SELF)), any());
+        CacheInvalidationBatchDTO batch = captor.getValue();
+        assertThat(batch.getOrigin()).isEqualTo(SELF);
+        assertThat(batch.isInvalidateAll()).isFalse();
+        assertThat(batch.getInvalidations()).singleElement()
+                .satisfies(item -> assertThat(item.getVersion()).isEqualTo(2L));
+        assertThat(service.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve pedir limpeza completa quando a fila de invalidações enche")
+    void shouldRequestFullInvalidationWhenQueueOverflows() {
+        // Given
+        PeerInvalidationService service = service(1);
+        UUID otherId = UUID.randomUUID();
+        stockCache.put(new StockView(otherId, "Produto 2", 5, LocalDateTime.now()));
+        ingestionService.ingest(List.of(event(productId, 10, 1), event(otherId, 3, 1)));
+
+        // When
+        service.flush();
+
+        // Then
+        ArgumentCaptor<CacheInvalidationBatchDTO> captor = ArgumentCaptor.forClass(CacheInvalidationBatchDTO.class);
+        verify(peerClient).sendInvalidations(eq(URI.create(PEER)), captor.capture());
+        assertThat(captor.getValue().isInvalidateAll()).isTrue();
+        assertThat(meterRegistry.get("stock.peers.invalidations.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve contabilizar falha de envio sem propagar exceção")
+    void shouldCountFailureWhenPeerIsDown() {
+        // Given
+        PeerInvalidationService service = service(10);
+        doThrow(new RuntimeException("Connection refused")).when(peerClient).sendInvalidations(any(), any());
+        ingestionService.ingest(List.of(event(productId, 10, 1)));
+
+        // When
+        service.flush();
+
+        // Then
+        assertThat(meterRegistry.get("stock.peers.invalidations.failures").counter().count()).isEqualTo(1.0);
+        assertThat(service.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o cache local exceto produtos cuja versão já foi aplicada")
+    void shouldInvalidateLocalCacheUnlessVersionAlreadyApplied() {
+        // Given
+        PeerInvalidationService service = service(10);
+        UUID otherId = UUID.randomUUID();
+        stockCache.put(new StockView(productId, "Produto 1", 15, LocalDateTime.now()));
+        stockCache.put(new StockView(otherId, "Produto 2", 5, LocalDateTime.now()));
+        ingestionService.ingest(List.of(event(productId, 12, 3)));
+
+        // When
+        service.receive(new CacheInvalidationBatchDTO(PEER, false, List.of(
+                new CacheInvalidationDTO(productId, 3L),
+                new CacheInvalidationDTO(otherId, 7L))));
+
+        // Then
+        assertThat(stockCache.get(productId)).isPresent();
+        assertThat(stockCache.get(otherId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar lote enviado pela própria réplica")
+    void shouldIgnoreBatchFromSelf() {
+        // Given
+        PeerInvalidationService service = service(10);
+        stockCache.put(new StockView(productId, "Produto 1", 15, LocalDateTime.now()));
+
+        // When
+        service.receive(new CacheInvalidationBatchDTO(SELF + "/", true, List.of()));
+
+        // Then
+        assertThat(stockCache.size()).isEqualTo(1);
+    }
+
+    private PeerInvalidationService service(int queueCapacity) {
+        return new PeerInvalidationService(peerClient, stockCache, ingestionService,
+                new StockPeers(List.of(SELF, PEER), SELF, 100, 5000), meterRegistry, queueCapacity, 500);
+    }
+
+    private static StockEventDTO event(UUID productId, int quantity, long version) {
+        return new StockEventDTO(productId, quantity, version, LocalDateTime.now());
+    }
+}
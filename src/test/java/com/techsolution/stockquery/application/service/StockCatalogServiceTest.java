@@ -0,0 +1,146 @@
+package com.techsolution.stockquery.application.service;
+
+import com.techsolution.stockquery.domain.model.StockFilter;
+import com.techsolution.stockquery.domain.model.StockView;
+import com.techsolution.stockquery.infrastructure.cache.StockCache;
+import com.techsolution.stockquery.infrastructure.catalog.CatalogEntry;
+import com.techsolution.stockquery.infrastructure.catalog.StockCatalog;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeDetector;
+import com.techsolution.stockquery.infrastructure.client.PageResponse;
+import com.techsolution.stockquery.infrastructure.client.ProductDTO;
+import com.techsolution.stockquery.infrastructure.client.ProductServiceClient;
+import com.techsolution.stockquery.infrastructure.search.ProductNameSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockCatalogService Tests")
+class StockCatalogServiceTest {
+
+    @Mock
+    private StockQueryService stockQueryService;
+
+    @Mock
+    private ProductServiceClient productServiceClient;
+
+    private ProductNameSearchIndex productNameSearchIndex;
+    private StockCatalog stockCatalog;
+    private StockCatalogService stockCatalogService;
+
+    @BeforeEach
+    void setUp() {
+        StockChangeDetector changeDetector = new StockChangeDetector();
+        productNameSearchIndex = new ProductNameSearchIndex(changeDetector);
+        stockCatalog = new StockCatalog(changeDetector);
+        stockCatalogService = new StockCatalogService(stockQueryService, stockCatalog, productNameSearchIndex, true);
+    }
+
+    @Test
+    @DisplayName("Deve carregar o catálogo na primeira consulta filtrada")
+    void shouldLoadCatalogOnFirstFilteredQuery() {
+        // Given
+        when(stockQueryService.findAllStocks(0, 100)).thenReturn(List.of(
+                new StockView(UUID.randomUUID(), "Produto 1", 15, LocalDateTime.now()),
+                new StockView(UUID.randomUUID(), "Produto 2", 5, LocalDateTime.now())
+        ));
+
+        // When
+        PageResponse<StockView> first = stockCatalogService.findStocks(
+                new StockFilter(null, 9, null, null, false), 0, 20);
+        PageResponse<StockView> second = stockCatalogService.findStocks(
+                new StockFilter(10, null, null, null, false), 0, 20);
+
+        // Then
+        assertThat(first.getContent()).extracting(StockView::getProductName).containsExactly("Produto 2");
+        assertThat(second.getContent()).extracting(StockView::getProductName).containsExactly("Produto 1");
+        verify(stockQueryService, times(1)).findAllStocks(0, 100);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar atualização periódica quando desabilitada")
+    void shouldSkipScheduledRefreshWhenDisabled() {
+        // Given
+        StockCatalogService disabled = new StockCatalogService(stockQueryService, stockCatalog, productNameSearchIndex, false);
+
+        // When
+        disabled.scheduledRefresh();
+
+        // Then
+        verifyNoInteractions(stockQueryService);
+        assertThat(stockCatalog.isLoaded()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve manter catálogo anterior quando atualização periódica falha")
+    void shouldKeepPreviousCatalogWhenScheduledRefreshFails() {
+        // Given
+        when(stockQueryService.findAllStocks(0, 100))
+                .thenReturn(List.of(new StockView(UUID.randomUUID(), "Produto 1", 15, LocalDateTime.now())))
+                .thenThrow(new RuntimeException("Erro de conexão"));
+        stockCatalogService.refresh();
+
+        // When
+        stockCatalogService.scheduledRefresh();
+
+        // Then
+        assertThat(stockCatalog.size()).isEqualTo(1);
+        verify(stockQueryService, times(2)).findAllStocks(0, 100);
+    }
+
+    @Test
+    @DisplayName("Deve buscar por nome no índice após carregar o catálogo")
+    void shouldSearchByNameAfterLoadingCatalog() {
+        // Given
+        when(stockQueryService.findAllStocks(0, 100)).thenReturn(List.of(
+                new StockView(UUID.randomUUID(), "Açúcar Refinado", 15, LocalDateTime.now()),
+                new StockView(UUID.randomUUID(), "Café Torrado", 5, LocalDateTime.now())
+        ));
+
+        // When
+        List<StockView> result = stockCatalogService.searchByName("acucar", 20);
+
+        // Then
+        assertThat(result).extracting(StockView::getProductName).containsExactly("Açúcar Refinado");
+        verify(stockQueryService, times(1)).findAllStocks(0, 100);
+    }
+
+    @Test
+    @DisplayName("Deve manter evento recebido via push enquanto a página da carga completa estava em trânsito")
+    void shouldKeepPushedEventReceivedWhileCrawlPageWasInFlight() {
+        // Given - o evento chega depois da solicitação da página e antes de ela ser processada
+        StockChangeDetector changeDetector = new StockChangeDetector();
+        StockCatalog catalog = new StockCatalog(changeDetector);
+        StockQueryService queryService = new StockQueryService(productServiceClient,
+                new StockCache(changeDetector, 100, 60000));
+        StockCatalogService catalogService = new StockCatalogService(queryService, catalog,
+                new ProductNameSearchIndex(changeDetector), true);
+        UUID productId = UUID.randomUUID();
+        catalog.upsert(new CatalogEntry(productId, "Produto 1", 15, LocalDateTime.now().minusMinutes(1)));
+        ProductDTO staleProduct = new ProductDTO(productId, "Produto 1", null, new BigDecimal("10.00"), 15);
+        when(productServiceClient.getProducts(0, 100)).thenAnswer(invocation -> {
+            Thread.sleep(5);
+            catalog.updateQuantity(productId, 3, LocalDateTime.now());
+            return ResponseEntity.ok(new PageResponse<>(List.of(staleProduct), 0, 100, 1L, 1, true, true));
+        });
+
+        // When
+        catalogService.refresh();
+
+        // Then
+        assertThat(catalog.get(productId)).get()
+                .extracting(CatalogEntry::getQuantityAvailable).isEqualTo(3);
+    }
+}
@@ -0,0 +1,179 @@
+package com.techsolution.stockquery.application.service;
+
+import com.techsolution.stockquery.application.dto.StockEventBatchResultDTO;
+import com.techsolution.stockquery.application.dto.StockEventDTO;
+import com.techsolution.stockquery.domain.model.StockView;
+import com.techsolution.stockquery.infrastructure.cache.StockCache;
+import com.techsolution.stockquery.infrastructure.catalog.CatalogEntry;
+import com.techsolution.stockquery.infrastructure.catalog.StockCatalog;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeDetector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StockEventIngestionService Tests")
+class StockEventIngestionServiceTest {
+
+    private StockCatalog stockCatalog;
+    private StockCache stockCache;
+    private StockEventIngestionService ingestionService;
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() {
+        StockChangeDetector changeDetector = new StockChangeDetector();
+        stockCatalog = new StockCatalog(changeDetector);
+        stockCache = new StockCache(changeDetector, 100, 30000);
+        ingestionService = new StockEventIngestionService(stockCatalog, stockCache, 100);
+        productId = UUID.randomUUID();
+        stockCatalog.replaceAll(List.of(
+                new CatalogEntry(productId, "Produto 1", 15, LocalDateTime.now().minusMinutes(1))));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar evento ao catálogo e ao cache")
+    void shouldApplyEventToCatalogAndCache() {
+        // Given
+        stockCache.put(new StockView(productId, "Produto 1", 15, LocalDateTime.now()));
+
+        // When
+        StockEventBatchResultDTO result = ingestionService.ingest(List.of(event(productId, 4, 1)));
+
+        // Then
+        assertThat(result.getApplied()).isEqualTo(1);
+        assertThat(stockCatalog.get(productId).get().getQuantityAvailable()).isEqualTo(4);
+        assertThat(stockCache.get(productId).get().getQuantityAvailable()).isEqualTo(4);
+        assertThat(ingestionService.getAppliedVersion(productId)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar eventos duplicados e fora de ordem")
+    void shouldIgnoreDuplicateAndStaleEvents() {
+        // Given
+        ingestionService.ingest(List.of(event(productId, 8, 5)));
+
+        // When
+        StockEventBatchResultDTO duplicate = ingestionService.ingest(List.of(event(productId, 8, 5)));
+        StockEventBatchResultDTO stale = ingestionService.ingest(List.of(event(productId, 30, 3)));
+
+        // Then
+        assertThat(duplicate.getDuplicates()).isEqualTo(1);
+        assertThat(duplicate.getApplied()).isZero();
+        assertThat(stale.getStale()).isEqualTo(1);
+        assertThat(stockCatalog.get(productId).get().getQuantityAvailable()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar apenas a maior versão de cada produto dentro do lote")
+    void shouldApplyOnlyLatestVersionWithinBatch() {
+        // When
+        StockEventBatchResultDTO result = ingestionService.ingest(List.of(
+                event(productId, 9, 3), event(productId, 7, 2), event(productId, 9, 3), event(null, 1, 1)));
+
+        // Then
+        assertThat(result.getReceived()).isEqualTo(4);
+        assertThat(result.getApplied()).isEqualTo(1);
+        assertThat(result.getStale()).isEqualTo(1);
+        assertThat(result.getDuplicates()).isEqualTo(1);
+        assertThat(result.getInvalid()).isEqualTo(1);
+        assertThat(stockCatalog.get(productId).get().getQuantityAvailable()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("Deve reportar produtos desconhecidos sem registrar versão")
+    void shouldReportUnknownProducts() {
+        // Given
+        UUID unknownId = UUID.randomUUID();
+
+        // When
+        StockEventBatchResultDTO result = ingestionService.ingest(List.of(event(unknownId, 3, 1)));
+
+        // Then
+        assertThat(result.getUnknownProductIds()).containsExactly(unknownId);
+        assertThat(ingestionService.getAppliedVersion(unknownId)).isNull();
+    }
+
+    @Test
+    @DisplayName("Não deve sobrescrever evento com dados mais antigos de uma carga completa")
+    void shouldNotOverwriteEventWithOlderCrawlData() {
+        // Given - página lida antes do evento chegar
+        CatalogEntry crawled = new CatalogEntry(productId, "Produto 1", 15, LocalDateTime.now().minusSeconds(1));
+        ingestionService.ingest(List.of(event(productId, 2, 1)));
+
+        // When
+        stockCatalog.replaceAll(List.of(crawled));
+
+        // Then
+        assertThat(stockCatalog.get(productId).get().getQuantityAvailable()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar a maior versão quando lotes concorrentes atualizam o mesmo produto")
+    void shouldKeepHighestVersionUnderConcurrency() throws Exception {
+        // Given
+        List<StockEventDTO> events = new ArrayList<>();
+        for (int version = 1; version <= 1000; version++) {
+            events.add(event(productId, version, version));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        for (StockEventDTO event : events) {
+            executor.execute(() -> ingestionService.ingest(List.of(event)));
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(ingestionService.getAppliedVersion(productId)).isEqualTo(1000L);
+        assertThat(stockCatalog.get(productId).get().getQuantityAvailable()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote acima do tamanho máximo")
+    void shouldRejectOversizedBatch() {
+        // Given
+        List<StockEventDTO> events = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            events.add(event(UUID.randomUUID(), 1, 1));
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> ingestionService.ingest(events))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("excede o máximo");
+    }
+
+    @Test
+    @DisplayName("Deve descartar a versão de produto removido do catálogo e mantê-la para os demais")
+    void shouldPruneVersionsOfRemovedProducts() {
+        // Given
+        UUID removedId = UUID.randomUUID();
+        stockCatalog.upsert(new CatalogEntry(removedId, "Produto 2", 8, LocalDateTime.now().minusMinutes(1)));
+        ingestionService.ingest(List.of(event(productId, 4, 1), event(removedId, 3, 1)));
+        stockCatalog.remove(removedId);
+
+        // When
+        int pruned = ingestionService.pruneAppliedVersions();
+
+        // Then
+        assertThat(pruned).isEqualTo(1);
+        assertThat(ingestionService.getAppliedVersion(removedId)).isNull();
+        assertThat(ingestionService.getAppliedVersion(productId)).isEqualTo(1L);
+    }
+
+    private static StockEventDTO event(UUID productId, int quantity, long version) {
+        return new StockEventDTO(productId, quantity, version, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,136 @@
+package com.techsolution.stockquery.application.service;
+
+import com.techsolution.stockquery.domain.model.StockView;
+import com.techsolution.stockquery.infrastructure.bulkhead.StockBulkheads;
+import com.techsolution.stockquery.infrastructure.client.PageResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockExportService Tests")
+class StockExportServiceTest {
+
+    @Mock
+    private StockQueryService stockQueryService;
+
+    private StockExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new StockExportService(stockQueryService, StockBulkheads.unbounded(),
+                new SimpleMeterRegistry(), 2);
+        lenient().when(stockQueryService.getMinimumStockLimit()).thenReturn(10);
+    }
+
+    @Test
+    @DisplayName("Deve escrever todas as páginas em CSV com cabeçalho e campos escapados")
+    void shouldWriteAllPagesAsCsv() throws Exception {
+        // Given
+        UUID id = UUID.fromString("11111111-1111-1111-1111-111111111111");
+        LocalDateTime updated = LocalDateTime.of(2024, 1, 15, 10, 30);
+        when(stockQueryService.findStocksPaginated(0, 2)).thenReturn(page(0, 2, 3,
+                new StockView(id, "Café, Torrado \"Extra\"", 5, new BigDecimal("18.90"), updated),
+                new StockView(id, "=SOMA(A1)", 20, null, updated)));
+        when(stockQueryService.findStocksPaginated(1, 2)).thenReturn(page(1, 2, 3,
+                new StockView(id, "Açúcar", null, new BigDecimal("4.5"), null)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long[] announcedTotal = new long[1];
+
+        // When
+        long rows = exportService.exportCsv(total -> {
+            announcedTotal[0] = total;
+            return out;
+        }, false);
+
+        // Then
+        assertThat(rows).isEqualTo(3);
+        assertThat(announcedTotal[0]).isEqualTo(3);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("\uFEFF"
+                + "productId,productName,quantityAvailable,price,belowMinimum,lastUpdated\r\n"
+                + id + ",\"Café, Torrado \"\"Extra\"\"\",5,18.90,true,2024-01-15T10:30\r\n"
+                + id + ",'=SOMA(A1),20,,false,2024-01-15T10:30\r\n"
+                + id + ",Açúcar,,4.5,,\r\n");
+    }
+
+    @Test
+    @DisplayName("Deve comprimir a saída com gzip")
+    void shouldCompressWithGzip() throws Exception {
+        // Given
+        when(stockQueryService.findStocksPaginated(0, 2)).thenReturn(page(0, 1, 1,
+                new StockView(UUID.randomUUID(), "Produto", 15, new BigDecimal("1.00"), LocalDateTime.now())));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        exportService.exportCsv(total -> out, true);
+
+        // Then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            String csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(csv).contains("productId,productName").contains(",Produto,15,1.00,false,");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve parar de buscar páginas quando o cliente desconecta")
+    void shouldStopFetchingPagesWhenClientDisconnects() {
+        // Given
+        when(stockQueryService.findStocksPaginated(0, 2)).thenReturn(page(0, 5, 10,
+                new StockView(UUID.randomUUID(), "Produto", 1, null, LocalDateTime.now())));
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When / Then
+        assertThatThrownBy(() -> exportService.exportCsv(total -> disconnected, false))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+        verify(stockQueryService, times(1)).findStocksPaginated(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Não deve abrir a resposta quando a primeira página falha")
+    void shouldNotOpenOutputWhenFirstPageFails() {
+        // Given
+        when(stockQueryService.findStocksPaginated(0, 2)).thenThrow(new RuntimeException("Erro de conexão"));
+        StockExportService.CsvOutput output = mock(StockExportService.CsvOutput.class);
+
+        // When / Then
+        assertThatThrownBy(() -> exportService.exportCsv(output, false))
+                .isInstanceOf(RuntimeException.class);
+        verifyNoInteractions(output);
+    }
+
+    private static PageResponse<StockView> page(int page, int totalPages, long totalElements, StockView... stocks) {
+        return new PageResponse<>(List.of(stocks), page, 2, totalElements, totalPages,
+                page == 0, page == totalPages - 1);
+    }
+}
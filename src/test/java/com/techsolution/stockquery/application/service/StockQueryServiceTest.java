@@ -1,27 +1,55 @@
 package com.techsolution.stockquery.application.service;
 
 import com.techsolution.stockquery.domain.model.StockView;
+import com.techsolution.stockquery.infrastructure.bulkhead.StockBulkheads;
+import com.techsolution.stockquery.infrastructure.cache.StockCache;
+import com.techsolution.stockquery.infrastructure.catalog.CatalogEntry;
+import com.techsolution.stockquery.infrastructure.catalog.ProductExistenceFilter;
+import com.techsolution.stockquery.infrastructure.catalog.StockCatalog;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeDetector;
+import com.techsolution.stockquery.infrastructure.client.AdaptiveCrawlController;
 import com.techsolution.stockquery.infrastructure.client.PageResponse;
+import com.techsolution.stockquery.infrastructure.client.PeerClient;
+import com.techsolution.stockquery.infrastructure.client.ProductBatchLoader;
 import com.techsolution.stockquery.infrastructure.client.ProductDTO;
 import com.techsolution.stockquery.infrastructure.client.ProductServiceClient;
+import com.techsolution.stockquery.infrastructure.client.StockPeers;
+import com.techsolution.stockquery.infrastructure.deadline.DeadlineExceededException;
+import com.techsolution.stockquery.infrastructure.deadline.RequestDeadline;
+import com.techsolution.stockquery.infrastructure.hotkeys.HotKeyTracker;
+import feign.FeignException;
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,7 +59,9 @@ class StockQueryServiceTest {
     @Mock
     private ProductServiceClient productServiceClient;
 
-    @InjectMocks
+    @Mock
+    private PeerClient peerClient;
+
     private StockQueryService stockQueryService;
 
     private UUID productId1;
@@ -41,6 +71,8 @@ class StockQueryServiceTest {
 
     @BeforeEach
     void setUp() {
+        stockQueryService = new StockQueryService(productServiceClient,
+                new StockCache(new StockChangeDetector(), 100, 30000));
         productId1 = UUID.randomUUID();
         productId2 = UUID.randomUUID();
 
@@ -79,6 +111,146 @@ class StockQueryServiceTest {
         verify(productServiceClient, times(1)).getProductById(productId1);
     }
 
+    @Test
+    @DisplayName("Deve responder consultas repetidas pelo cache local")
+    void shouldServeRepeatedLookupFromCache() {
+        // Given
+        when(productServiceClient.getProductById(productId1)).thenReturn(ResponseEntity.ok(productDTO1));
+
+        // When
+        stockQueryService.findByProductId(productId1);
+        Optional<StockView> result = stockQueryService.findByProductId(productId1);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getQuantityAvailable()).isEqualTo(15);
+        verify(productServiceClient, times(1)).getProductById(productId1);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o cache local uma única vez por requisição quando o produto não está em cache")
+    void shouldReadLocalCacheOncePerLookupOnMiss() {
+        // Given
+        StockCache stockCache = spy(new StockCache(new StockChangeDetector(), 100, 30000));
+        StockQueryService service = new StockQueryService(productServiceClient, stockCache);
+        when(productServiceClient.getProductById(productId1)).thenReturn(ResponseEntity.ok(productDTO1));
+
+        // When
+        Optional<StockView> result = service.findByProductId(productId1);
+
+        // Then
+        assertThat(result).isPresent();
+        verify(stockCache, times(1)).get(productId1);
+    }
+
+    @Test
+    @DisplayName("Deve recarregar produto em cache com os dados atuais do product-service")
+    void shouldRefreshCachedProductFromProductService() {
+        // Given
+        ProductDTO updated = new ProductDTO(productId1, "Produto 1", "Descrição do Produto 1",
+                new BigDecimal("99.90"), 3);
+        when(productServiceClient.getProductById(productId1))
+                .thenReturn(ResponseEntity.ok(productDTO1), ResponseEntity.ok(updated));
+        stockQueryService.findByProductId(productId1);
+
+        // When
+        stockQueryService.refreshOwned(productId1);
+
+        // Then
+        assertThat(stockQueryService.findByProductId(productId1).get().getQuantityAvailable()).isEqualTo(3);
+        verify(productServiceClient, times(2)).getProductById(productId1);
+    }
+
+    @Test
+    @DisplayName("Deve repetir a consulta com o próprio prazo quando a consulta compartilhada expira pelo prazo de outra requisição")
+    void shouldRetryPointLookupWhenSharedLoadFailsByLeaderDeadline() throws Exception {
+        // Given - a primeira consulta (da requisição que a iniciou) falha pelo prazo dela
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(productServiceClient.getProductById(productId1)).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                leaderStarted.countDown();
+                Thread.sleep(100);
+                throw new DeadlineExceededException("Prazo da requisição esgotado");
+            }
+            return ResponseEntity.ok(productDTO1);
+        });
+
+        // When
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Optional<StockView>> leader = executor.submit(() -> stockQueryService.findByProductId(productId1));
+            leaderStarted.await(2, TimeUnit.SECONDS);
+            Future<Optional<StockView>> waiter = executor.submit(() -> stockQueryService.findByProductId(productId1));
+
+            // Then
+            assertThatThrownBy(leader::get).hasCauseInstanceOf(DeadlineExceededException.class);
+            assertThat(waiter.get()).isPresent();
+        }
+        verify(productServiceClient, times(2)).getProductById(productId1);
+    }
+
+    @Test
+    @DisplayName("Deve buscar na réplica dona do produto sem consultar o product-service")
+    void shouldFetchFromOwningPeer() {
+        // Given
+        StockPeers stockPeers = peers();
+        UUID remoteId = keyOwnedBy(stockPeers, true);
+        StockQueryService peerAware = peerAwareService(stockPeers);
+        when(peerClient.getStock(URI.create("http://localhost:8083"), remoteId))
+                .thenReturn(ResponseEntity.ok(new StockView(remoteId, "Produto Remoto", 7, LocalDateTime.now())));
+
+        // When
+        Optional<StockView> first = peerAware.findByProductId(remoteId);
+        Optional<StockView> second = peerAware.findByProductId(remoteId);
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(second.get().getQuantityAvailable()).isEqualTo(7);
+        verify(peerClient, times(1)).getStock(any(), any());
+        verifyNoInteractions(productServiceClient);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o product-service quando a réplica dona está indisponível")
+    void shouldFallBackToProductServiceWhenPeerIsDown() {
+        // Given
+        StockPeers stockPeers = peers();
+        UUID remoteId = keyOwnedBy(stockPeers, true);
+        StockQueryService peerAware = peerAwareService(stockPeers);
+        Request request = Request.create(Request.HttpMethod.GET, "http://localhost:8083", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        when(peerClient.getStock(any(), any())).thenThrow(new FeignException.ServiceUnavailable(
+                "Connection refused", request, null, Map.of()));
+        ProductDTO product = new ProductDTO(remoteId, "Produto Remoto", "Descrição", new BigDecimal("10.00"), 7);
+        when(productServiceClient.getProductById(remoteId)).thenReturn(ResponseEntity.ok(product));
+
+        // When
+        Optional<StockView> result = peerAware.findByProductId(remoteId);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(stockPeers.isDown(URI.create("http://localhost:8083"))).isTrue();
+        verify(productServiceClient, times(1)).getProductById(remoteId);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o product-service diretamente para produtos desta réplica")
+    void shouldQueryProductServiceForOwnedProducts() {
+        // Given
+        StockPeers stockPeers = peers();
+        UUID ownedId = keyOwnedBy(stockPeers, false);
+        StockQueryService peerAware = peerAwareService(stockPeers);
+        ProductDTO product = new ProductDTO(ownedId, "Produto Local", "Descrição", new BigDecimal("10.00"), 3);
+        when(productServiceClient.getProductById(ownedId)).thenReturn(ResponseEntity.ok(product));
+
+        // When
+        Optional<StockView> result = peerAware.findByProductId(ownedId);
+
+        // Then
+        assertThat(result).isPresent();
+        verifyNoInteractions(peerClient);
+    }
+
     @Test
     @DisplayName("Deve retornar Optional vazio quando produto não existe no product-service")
     void shouldReturnEmptyOptionalWhenProductNotFound() {
@@ -95,6 +267,50 @@ class StockQueryServiceTest {
         verify(productServiceClient, times(1)).getProductById(nonExistentId);
     }
 
+    @Test
+    @DisplayName("Deve tratar 404 do product-service como produto inexistente e lembrar o resultado")
+    void shouldCacheNotFoundAsNegativeResult() {
+        // Given
+        StockQueryService negativeCaching = new StockQueryService(productServiceClient,
+                new StockCache(new StockChangeDetector(), 100, 30000, 100, 5000));
+        UUID unknownId = UUID.randomUUID();
+        Request request = Request.create(Request.HttpMethod.GET, "http://localhost:8081/products/" + unknownId,
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        when(productServiceClient.getProductById(unknownId)).thenThrow(new FeignException.NotFound(
+                "Not Found", request, null, Map.of()));
+
+        // When
+        Optional<StockView> first = negativeCaching.findByProductId(unknownId);
+        Optional<StockView> second = negativeCaching.findByProductId(unknownId);
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(productServiceClient, times(1)).getProductById(unknownId);
+    }
+
+    @Test
+    @DisplayName("Deve responder vazio sem consulta remota para produto fora do catálogo carregado")
+    void shouldRejectProductsOutsideLoadedCatalog() {
+        // Given
+        StockChangeDetector changeDetector = new StockChangeDetector();
+        StockCatalog catalog = new StockCatalog(changeDetector);
+        catalog.replaceAll(List.of(new CatalogEntry(productId1, "Produto 1", 15, LocalDateTime.now())));
+        ProductExistenceFilter filter = new ProductExistenceFilter(catalog, new SimpleMeterRegistry(), true);
+        StockQueryService filtered = new StockQueryService(productServiceClient,
+                new StockCache(changeDetector, 100, 30000), peers(), peerClient,
+                StockBulkheads.unbounded(), filter, 0, AdaptiveCrawlController.fixed(1),
+                ProductBatchLoader.disabled(), HotKeyTracker.disabled());
+        UUID unknownId = UUID.randomUUID();
+
+        // When
+        Optional<StockView> result = filtered.findByProductId(unknownId);
+
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(productServiceClient, peerClient);
+    }
+
     @Test
     @DisplayName("Deve retornar Optional vazio quando resposta do product-service é null")
     void shouldReturnEmptyOptionalWhenResponseBodyIsNull() {
@@ -213,6 +429,88 @@ class StockQueryServiceTest {
         verify(productServiceClient, times(1)).getProducts(1, 20);
     }
 
+    @Test
+    @DisplayName("Deve buscar páginas em paralelo, limitado à janela configurada, preservando a ordem")
+    void shouldCrawlPagesConcurrentlyWithinWindow() {
+        // Given
+        StockQueryService parallel = new StockQueryService(productServiceClient,
+                new StockCache(new StockChangeDetector(), 100, 30000), peers(), peerClient,
+                StockBulkheads.unbounded(), ProductExistenceFilter.disabled(), 0, AdaptiveCrawlController.fixed(2),
+                ProductBatchLoader.disabled(), HotKeyTracker.disabled());
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(productServiceClient.getProducts(anyInt(), eq(1))).thenAnswer(invocation -> {
+            int page = invocation.getArgument(0);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            inFlight.decrementAndGet();
+            ProductDTO product = new ProductDTO(UUID.randomUUID(), "Produto " + page, null, null, page);
+            return ResponseEntity.ok(new PageResponse<>(List.of(product), page, 1, 6L, 6, page == 0, page == 5));
+        });
+
+        // When
+        List<StockView> result = parallel.findAllStocks(0, 1);
+
+        // Then
+        assertThat(result).extracting(StockView::getProductName)
+                .containsExactly("Produto 0", "Produto 1", "Produto 2", "Produto 3", "Produto 4", "Produto 5");
+        assertThat(maxInFlight.get()).isEqualTo(2);
+        verify(productServiceClient, times(6)).getProducts(anyInt(), eq(1));
+    }
+
+    @Test
+    @DisplayName("Deve converter a página inicial para o tamanho adaptativo, mantendo o mesmo deslocamento")
+    void shouldConvertStartPageToAdaptivePageSize() {
+        // Given - o controle adaptativo começa com páginas de 100
+        StockQueryService adaptive = new StockQueryService(productServiceClient,
+                new StockCache(new StockChangeDetector(), 100, 30000), peers(), peerClient,
+                StockBulkheads.unbounded(), ProductExistenceFilter.disabled(), 0,
+                new AdaptiveCrawlController(new SimpleMeterRegistry(), true, 1, 1, 1, 20, 100, 500, 0.5, 0),
+                ProductBatchLoader.disabled(), HotKeyTracker.disabled());
+        when(productServiceClient.getProducts(1, 100)).thenReturn(ResponseEntity.ok(
+                new PageResponse<>(List.of(productDTO1), 1, 100, 101L, 2, false, true)));
+        when(productServiceClient.getProducts(3, 20)).thenReturn(ResponseEntity.ok(
+                new PageResponse<>(List.of(productDTO2), 3, 20, 61L, 4, false, true)));
+
+        // When - deslocamento 100 (múltiplo de 100) e deslocamento 60 (não múltiplo)
+        List<StockView> converted = adaptive.findAllStocks(5, 20);
+        List<StockView> kept = adaptive.findAllStocks(3, 20);
+
+        // Then
+        assertThat(converted).extracting(StockView::getProductId).containsExactly(productDTO1.getId());
+        assertThat(kept).extracting(StockView::getProductId).containsExactly(productDTO2.getId());
+        verify(productServiceClient, never()).getProducts(5, 100);
+        verify(productServiceClient, never()).getProducts(5, 20);
+    }
+
+    @Test
+    @DisplayName("Deve limitar as páginas paralelas da varredura às vagas do bulkhead de varreduras")
+    void shouldLimitParallelCrawlPagesToCrawlBulkhead() {
+        // Given - janela de 4 páginas, mas apenas 2 vagas de varredura
+        StockBulkheads bulkheads = new StockBulkheads(new SimpleMeterRegistry(),
+                Integer.MAX_VALUE, 0, 0, Integer.MAX_VALUE, 0, 0, 2, 0, 0, Integer.MAX_VALUE, 0, 0);
+        StockQueryService limited = new StockQueryService(productServiceClient,
+                new StockCache(new StockChangeDetector(), 100, 30000), peers(), peerClient,
+                bulkheads, ProductExistenceFilter.disabled(), 0, AdaptiveCrawlController.fixed(4),
+                ProductBatchLoader.disabled(), HotKeyTracker.disabled());
+        AtomicInteger maxActive = new AtomicInteger();
+        when(productServiceClient.getProducts(anyInt(), eq(1))).thenAnswer(invocation -> {
+            int page = invocation.getArgument(0);
+            maxActive.accumulateAndGet(bulkheads.crawl().getActive(), Math::max);
+            Thread.sleep(20);
+            ProductDTO product = new ProductDTO(UUID.randomUUID(), "Produto " + page, null, null, page);
+            return ResponseEntity.ok(new PageResponse<>(List.of(product), page, 1, 6L, 6, page == 0, page == 5));
+        });
+
+        // When
+        List<StockView> result = limited.findAllStocks(0, 1);
+
+        // Then
+        assertThat(result).hasSize(6);
+        assertThat(maxActive.get()).isEqualTo(2);
+        assertThat(bulkheads.crawl().getActive()).isZero();
+    }
+
     @Test
     @DisplayName("Deve buscar todos os estoques quando há apenas uma página")
     void shouldFindAllStocksWithSinglePage() {
@@ -267,6 +565,124 @@ class StockQueryServiceTest {
         verify(productServiceClient, times(1)).getProducts(0, 20);
     }
 
+    @Test
+    @DisplayName("Deve compartilhar a varredura em andamento entre chamadas concorrentes")
+    void shouldShareInFlightCrawlBetweenConcurrentCallers() throws Exception {
+        // Given
+        CountDownLatch firstPageRequested = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PageResponse<ProductDTO> onlyPage = new PageResponse<>(List.of(productDTO1, productDTO2), 0, 20, 2L, 1, true, true);
+        when(productServiceClient.getProducts(0, 20)).thenAnswer(invocation -> {
+            firstPageRequested.countDown();
+            release.await(2, TimeUnit.SECONDS);
+            return ResponseEntity.ok(onlyPage);
+        });
+
+        // When
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<List<StockView>> leader = executor.submit(() -> stockQueryService.findAllStocks(0, 20));
+            firstPageRequested.await(2, TimeUnit.SECONDS);
+            List<Future<List<StockView>>> followers = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                followers.add(executor.submit(() -> stockQueryService.findAllStocks(0, 20)));
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            // Then
+            assertThat(leader.get()).hasSize(2);
+            for (Future<List<StockView>> follower : followers) {
+                assertThat(follower.get()).isSameAs(leader.get());
+            }
+        }
+        verify(productServiceClient, times(1)).getProducts(0, 20);
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar a varredura recém-concluída dentro da janela configurada")
+    void shouldReuseRecentCrawlWithinWindow() {
+        // Given
+        StockQueryService reusing = new StockQueryService(productServiceClient,
+                new StockCache(new StockChangeDetector(), 100, 30000), peers(), peerClient,
+                StockBulkheads.unbounded(), ProductExistenceFilter.disabled(), 60000, AdaptiveCrawlController.fixed(1),
+                ProductBatchLoader.disabled(), HotKeyTracker.disabled());
+        PageResponse<ProductDTO> onlyPage = new PageResponse<>(List.of(productDTO1), 0, 20, 1L, 1, true, true);
+        when(productServiceClient.getProducts(0, 20)).thenReturn(ResponseEntity.ok(onlyPage));
+
+        // When
+        List<StockView> first = reusing.findAllStocks(0, 20);
+        List<StockView> second = reusing.findAllStocks(0, 20);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(productServiceClient, times(1)).getProducts(0, 20);
+    }
+
+    @Test
+    @DisplayName("Deve descartar as varreduras guardadas após a janela de reutilização")
+    void shouldEvictRecentCrawlsAfterWindow() throws InterruptedException {
+        // Given
+        StockQueryService reusing = new StockQueryService(productServiceClient,
+                new StockCache(new StockChangeDetector(), 100, 30000), peers(), peerClient,
+                StockBulkheads.unbounded(), ProductExistenceFilter.disabled(), 1, AdaptiveCrawlController.fixed(1),
+                ProductBatchLoader.disabled(), HotKeyTracker.disabled());
+        when(productServiceClient.getProducts(anyInt(), eq(20))).thenAnswer(invocation -> ResponseEntity.ok(
+                new PageResponse<>(List.of(productDTO1), invocation.getArgument(0), 20, 1L, 1, true, true)));
+        reusing.findAllStocks(0, 20);
+        reusing.findAllStocks(1, 20);
+        Thread.sleep(5);
+
+        // When
+        reusing.findAllStocks(2, 20);
+
+        // Then
+        assertThat(reusing.recentCrawlCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve reutilizar varredura recente feita com outro tamanho de página")
+    void shouldNotReuseRecentCrawlWithDifferentPageSize() {
+        // Given
+        StockQueryService reusing = new StockQueryService(productServiceClient,
+                new StockCache(new StockChangeDetector(), 100, 30000), peers(), peerClient,
+                StockBulkheads.unbounded(), ProductExistenceFilter.disabled(), 60000, AdaptiveCrawlController.fixed(1),
+                ProductBatchLoader.disabled(), HotKeyTracker.disabled());
+        when(productServiceClient.getProducts(1, 20)).thenReturn(ResponseEntity.ok(
+                new PageResponse<>(List.of(productDTO1), 1, 20, 21L, 2, false, true)));
+        when(productServiceClient.getProducts(1, 50)).thenReturn(ResponseEntity.ok(
+                new PageResponse<>(List.of(productDTO2), 1, 50, 51L, 2, false, true)));
+
+        // When
+        List<StockView> small = reusing.findAllStocks(1, 20);
+        List<StockView> large = reusing.findAllStocks(1, 50);
+
+        // Then
+        assertThat(small).extracting(StockView::getProductId).containsExactly(productDTO1.getId());
+        assertThat(large).extracting(StockView::getProductId).containsExactly(productDTO2.getId());
+    }
+
+    @Test
+    @DisplayName("Deve interromper a busca de todas as páginas quando o prazo da requisição acaba")
+    void shouldStopCrawlingWhenDeadlineExpires() {
+        // Given
+        PageResponse<ProductDTO> firstPage = new PageResponse<>(List.of(productDTO1), 0, 1, 3L, 3, true, false);
+        // Leniente: com a JVM fria o prazo pode esgotar antes mesmo da primeira página
+        lenient().when(productServiceClient.getProducts(0, 1)).thenAnswer(invocation -> {
+            Thread.sleep(30);
+            return ResponseEntity.ok(firstPage);
+        });
+        RequestDeadline.start(10);
+
+        // When/Then
+        try {
+            assertThatThrownBy(() -> stockQueryService.findAllStocks(0, 1))
+                    .isInstanceOf(DeadlineExceededException.class);
+            verify(productServiceClient, never()).getProducts(1, 1);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
     @Test
     @DisplayName("Deve retornar lista vazia quando product-service retorna página sem conteúdo")
     void shouldReturnEmptyListWhenProductServiceReturnsEmptyPage() {
@@ -285,5 +701,24 @@ class StockQueryServiceTest {
         assertThat(result).isEmpty();
         verify(productServiceClient, times(1)).getProducts(0, 20);
     }
-}
 
+    private StockPeers peers() {
+        return new StockPeers(List.of("http://localhost:8082", "http://localhost:8083"),
+                "http://localhost:8082", 100, 5000);
+    }
+
+    private StockQueryService peerAwareService(StockPeers stockPeers) {
+        return new StockQueryService(productServiceClient,
+                new StockCache(new StockChangeDetector(), 100, 30000), stockPeers, peerClient,
+                StockBulkheads.unbounded(), ProductExistenceFilter.disabled(), 0, AdaptiveCrawlController.fixed(1),
+                ProductBatchLoader.disabled(), HotKeyTracker.disabled());
+    }
+
+    private static UUID keyOwnedBy(StockPeers stockPeers, boolean remote) {
+        UUID key;
+        do {
+            key = UUID.randomUUID();
+        } while (stockPeers.remoteOwnerOf(key).isPresent() != remote);
+        return key;
+    }
+}
@@ -0,0 +1,104 @@
+package com.techsolution.stockquery.application.service;
+
+import com.techsolution.stockquery.infrastructure.catalog.CatalogEntry;
+import com.techsolution.stockquery.infrastructure.catalog.StockCatalog;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeDetector;
+import com.techsolution.stockquery.infrastructure.snapshot.StockSnapshotStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockSnapshotService Tests")
+class StockSnapshotServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private StockCatalogService stockCatalogService;
+
+    private StockChangeDetector changeDetector;
+    private StockCatalog stockCatalog;
+    private StockSnapshotStore snapshotStore;
+    private StockSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        changeDetector = new StockChangeDetector();
+        stockCatalog = new StockCatalog(changeDetector);
+        snapshotStore = new StockSnapshotStore(tempDir.resolve("stock-snapshot.bin").toString());
+        snapshotService = new StockSnapshotService(
+                stockCatalog, stockCatalogService, snapshotStore, changeDetector, true, 0);
+    }
+
+    @Test
+    @DisplayName("Deve gravar o snapshot apenas quando o catálogo mudou")
+    void shouldPersistOnlyWhenCatalogChanged() throws Exception {
+        // Given
+        stockCatalog.replaceAll(List.of(entry("Produto 1", 15)));
+
+        // When
+        snapshotService.persist();
+        long firstWrite = Files.getLastModifiedTime(snapshotStore.getPath()).toMillis();
+        Files.delete(snapshotStore.getPath());
+        snapshotService.persist();
+
+        // Then - segunda chamada sem alterações não grava
+        assertThat(firstWrite).isPositive();
+        assertThat(snapshotStore.getPath()).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Deve restaurar o catálogo do snapshot e reconciliar em segundo plano")
+    void shouldRestoreCatalogAndReconcileInBackground() throws Exception {
+        // Given
+        CatalogEntry entry = entry("Produto 1", 15);
+        snapshotStore.write(List.of(entry, entry("Produto 2", 3)));
+        when(stockCatalogService.isRefreshEnabled()).thenReturn(true);
+
+        // When
+        boolean restored = snapshotService.restore();
+
+        // Then
+        assertThat(restored).isTrue();
+        assertThat(stockCatalog.isLoaded()).isTrue();
+        assertThat(stockCatalog.size()).isEqualTo(2);
+        assertThat(stockCatalog.get(entry.getProductId()).get().getQuantityAvailable()).isEqualTo(15);
+        verify(stockCatalogService).deferScheduledRefresh(anyLong());
+        verify(stockCatalogService, timeout(2000)).refresh();
+    }
+
+    @Test
+    @DisplayName("Deve partir a frio quando o snapshot está corrompido")
+    void shouldFallBackToColdStartWhenSnapshotIsCorrupt() throws Exception {
+        // Given
+        Files.write(snapshotStore.getPath(), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        // When
+        boolean restored = snapshotService.restore();
+
+        // Then
+        assertThat(restored).isFalse();
+        assertThat(stockCatalog.isLoaded()).isFalse();
+        verifyNoInteractions(stockCatalogService);
+    }
+
+    private CatalogEntry entry(String name, int quantity) {
+        return new CatalogEntry(UUID.randomUUID(), name, quantity, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,212 @@
+package com.techsolution.stockquery.application.service;
+
+import com.techsolution.stockquery.application.dto.StockViewDTO;
+import com.techsolution.stockquery.infrastructure.catalog.CatalogEntry;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeDetector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StockStreamBroadcaster Tests")
+class StockStreamBroadcasterTest {
+
+    private StockChangeDetector changeDetector;
+    private StockStreamBroadcaster broadcaster;
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() {
+        changeDetector = new StockChangeDetector(10);
+        broadcaster = new StockStreamBroadcaster(changeDetector, 8, 60000);
+        productId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    @Test
+    @DisplayName("Deve enviar estoque alterado e evento de cruzamento do mínimo")
+    void shouldSendChangedStockAndBelowMinimumCrossing() throws Exception {
+        // Given
+        CapturingEmitter emitter = new CapturingEmitter();
+        broadcaster.subscribe(emitter, null);
+
+        // When
+        changeDetector.publish(entry(15), entry(5));
+
+        // Then
+        emitter.awaitEvents(2);
+        assertThat(emitter.names()).containsExactly("stock", "below-minimum");
+        StockViewDTO dto = (StockViewDTO) emitter.events.get(0).data;
+        assertThat(dto.getQuantityAvailable()).isEqualTo(5);
+        assertThat(dto.getStockBelowMinimum()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve enviar evento de recuperação quando o estoque volta ao mínimo")
+    void shouldSendAboveMinimumWhenStockRecovers() throws Exception {
+        // Given
+        CapturingEmitter emitter = new CapturingEmitter();
+        broadcaster.subscribe(emitter, null);
+
+        // When
+        changeDetector.publish(entry(5), entry(12));
+
+        // Then
+        emitter.awaitEvents(2);
+        assertThat(emitter.names()).containsExactly("stock", "above-minimum");
+    }
+
+    @Test
+    @DisplayName("Deve retomar a partir do Last-Event-ID")
+    void shouldResumeFromLastEventId() throws Exception {
+        // Given - primeiro assinante recebe dois eventos
+        CapturingEmitter first = new CapturingEmitter();
+        broadcaster.subscribe(first, null);
+        changeDetector.publish(entry(20), entry(30));
+        first.awaitEvents(1);
+        String lastEventId = first.events.get(0).id;
+
+        UUID otherProduct = UUID.randomUUID();
+        changeDetector.publish(null, new CatalogEntry(otherProduct, "Outro", 50, LocalDateTime.now()));
+
+        // When - reconecta informando o último evento recebido
+        CapturingEmitter resumed = new CapturingEmitter();
+        broadcaster.subscribe(resumed, lastEventId);
+
+        // Then - recebe apenas o evento posterior
+        resumed.awaitEvents(1);
+        assertThat(resumed.names()).containsExactly("stock");
+        assertThat(((StockViewDTO) resumed.events.get(0).data).getProductId()).isEqualTo(otherProduct);
+    }
+
+    @Test
+    @DisplayName("Deve enviar resync quando o Last-Event-ID não pode ser retomado")
+    void shouldSendResyncForUnknownLastEventId() throws Exception {
+        // Given
+        CapturingEmitter emitter = new CapturingEmitter();
+
+        // When
+        broadcaster.subscribe(emitter, "outra-instancia-42");
+
+        // Then
+        emitter.awaitEvents(1);
+        assertThat(emitter.names()).containsExactly("resync");
+    }
+
+    @Test
+    @DisplayName("Deve coalescer eventos do mesmo produto para assinante atrasado")
+    void shouldCoalesceEventsForLaggingSubscriber() throws Exception {
+        // Given - eventos publicados antes da reconexão
+        CapturingEmitter first = new CapturingEmitter();
+        broadcaster.subscribe(first, null);
+        changeDetector.publish(entry(20), entry(21));
+        first.awaitEvents(1);
+        String lastEventId = first.events.get(0).id;
+        changeDetector.publish(entry(21), entry(22));
+        changeDetector.publish(entry(22), entry(23));
+        changeDetector.publish(entry(23), entry(24));
+
+        // When
+        CapturingEmitter resumed = new CapturingEmitter();
+        broadcaster.subscribe(resumed, lastEventId);
+
+        // Then - apenas o estado mais recente do produto é enviado
+        resumed.awaitEvents(1);
+        assertThat(resumed.names()).containsExactly("stock");
+        assertThat(((StockViewDTO) resumed.events.get(0).data).getQuantityAvailable()).isEqualTo(24);
+    }
+
+    @Test
+    @DisplayName("Deve enviar resync quando o assinante fica mais atrasado que o buffer")
+    void shouldSendResyncWhenSubscriberFallsBehindBuffer() throws Exception {
+        // Given
+        CapturingEmitter first = new CapturingEmitter();
+        broadcaster.subscribe(first, null);
+        changeDetector.publish(entry(20), entry(21));
+        first.awaitEvents(1);
+        String lastEventId = first.events.get(0).id;
+        for (int i = 0; i < 10; i++) {
+            changeDetector.publish(null, new CatalogEntry(UUID.randomUUID(), "Produto " + i, 50, null));
+        }
+
+        // When
+        CapturingEmitter resumed = new CapturingEmitter();
+        broadcaster.subscribe(resumed, lastEventId);
+
+        // Then
+        resumed.awaitEvents(1);
+        assertThat(resumed.names()).containsExactly("resync");
+    }
+
+    private CatalogEntry entry(int quantity) {
+        return new CatalogEntry(productId, "Produto 1", quantity, LocalDateTime.now());
+    }
+
+    /**
+     * Emitter que captura os eventos enviados em vez de escrevê-los em uma resposta HTTP
+     */
+    private static class CapturingEmitter extends SseEmitter {
+        private final List<CapturedEvent> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            Set<ResponseBodyEmitter.DataWithMediaType> parts = builder.build();
+            StringBuilder text = new StringBuilder();
+            Object data = null;
+            for (ResponseBodyEmitter.DataWithMediaType part : parts) {
+                if (part.getData() instanceof String value) {
+                    text.append(value);
+                } else {
+                    data = part.getData();
+                }
+            }
+            String raw = text.toString();
+            if (raw.contains("event:")) {
+                events.add(new CapturedEvent(field(raw, "id:"), field(raw, "event:"), data));
+            }
+        }
+
+        private static String field(String raw, String prefix) {
+            for (String line : raw.split("\n")) {
+                if (line.startsWith(prefix)) {
+                    return line.substring(prefix.length());
+                }
+            }
+            return null;
+        }
+
+        List<String> names() {
+            return events.stream().map(event -> event.name).toList();
+        }
+
+        void awaitEvents(int count) throws InterruptedException {
+            await(list -> list.size() >= count);
+            Thread.sleep(50);
+        }
+
+        private void await(Predicate<List<CapturedEvent>> condition) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 2000;
+            while (!condition.test(events) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    private record CapturedEvent(String id, String name, Object data) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.techsolution.stockquery.application.service;
+
+import com.techsolution.stockquery.application.dto.StockQuantityBucketDTO;
+import com.techsolution.stockquery.application.dto.StockSummaryDTO;
+import com.techsolution.stockquery.infrastructure.catalog.CatalogEntry;
+import com.techsolution.stockquery.infrastructure.catalog.StockCatalog;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeDetector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StockSummaryService Tests")
+class StockSummaryServiceTest {
+
+    private StockCatalog stockCatalog;
+    private StockSummaryService summaryService;
+
+    @BeforeEach
+    void setUp() {
+        StockChangeDetector changeDetector = new StockChangeDetector(10);
+        stockCatalog = new StockCatalog(changeDetector);
+        summaryService = new StockSummaryService(stockCatalog, changeDetector, new int[]{0, 9, 99});
+    }
+
+    @Test
+    @DisplayName("Deve somar produtos, unidades e valor do inventário ao carregar o catálogo")
+    void shouldAggregateLoadedCatalog() {
+        // Given
+        stockCatalog.replaceAll(List.of(
+                entry(0, "10.00"),
+                entry(5, "0.10"),
+                entry(150, "19.99"),
+                entry(null, "5.00")));
+
+        // When
+        StockSummaryDTO summary = summaryService.getSummary();
+
+        // Then
+        assertThat(summary.getProductCount()).isEqualTo(4);
+        assertThat(summary.getTotalUnits()).isEqualTo(155);
+        assertThat(summary.getBelowMinimumCount()).isEqualTo(2);
+        assertThat(summary.getProductsWithoutQuantity()).isEqualTo(1);
+        assertThat(summary.getInventoryValue()).isEqualByComparingTo("2999.00");
+        assertThat(summary.getCatalogLoaded()).isTrue();
+        assertThat(summary.getQuantityHistogram()).extracting(StockQuantityBucketDTO::getCount)
+                .containsExactly(1L, 1L, 0L, 1L);
+        assertThat(summary.getQuantityHistogram().get(3).getFrom()).isEqualTo(100);
+        assertThat(summary.getQuantityHistogram().get(3).getTo()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve atualizar os totais incrementalmente quando quantidade e preço mudam")
+    void shouldUpdateIncrementally() {
+        // Given
+        CatalogEntry product = entry(20, "2.50");
+        stockCatalog.replaceAll(List.of(product));
+
+        // When
+        stockCatalog.updateQuantity(product.getProductId(), 3, LocalDateTime.now());
+        StockSummaryDTO afterQuantity = summaryService.getSummary();
+        stockCatalog.upsert(new CatalogEntry(product.getProductId(), "Produto", 3, 400L, LocalDateTime.now()));
+        StockSummaryDTO afterPrice = summaryService.getSummary();
+
+        // Then
+        assertThat(afterQuantity.getTotalUnits()).isEqualTo(3);
+        assertThat(afterQuantity.getBelowMinimumCount()).isEqualTo(1);
+        assertThat(afterQuantity.getInventoryValue()).isEqualByComparingTo("7.50");
+        assertThat(afterPrice.getInventoryValue()).isEqualByComparingTo("12.00");
+        assertThat(afterPrice.getProductCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve retirar a contribuição do produto removido")
+    void shouldSubtractRemovedProduct() {
+        // Given
+        CatalogEntry kept = entry(50, "1.00");
+        CatalogEntry removed = entry(5, null);
+        stockCatalog.replaceAll(List.of(kept, removed));
+
+        // When
+        stockCatalog.remove(removed.getProductId());
+        StockSummaryDTO summary = summaryService.getSummary();
+
+        // Then
+        assertThat(summary.getProductCount()).isEqualTo(1);
+        assertThat(summary.getTotalUnits()).isEqualTo(50);
+        assertThat(summary.getBelowMinimumCount()).isZero();
+        assertThat(summary.getProductsWithoutPrice()).isZero();
+        assertThat(summary.getInventoryValue()).isEqualByComparingTo("50.00");
+    }
+
+    @Test
+    @DisplayName("Deve manter o valor exato igual ao recálculo completo após muitas alterações")
+    void shouldMatchFullRecomputationAfterManyChanges() {
+        // Given
+        Random random = new Random(42);
+        List<CatalogEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            entries.add(entry(random.nextInt(1000), BigDecimal.valueOf(random.nextInt(100000), 2).toPlainString()));
+        }
+        stockCatalog.replaceAll(entries);
+
+        // When
+        for (int i = 0; i < 2000; i++) {
+            CatalogEntry target = entries.get(random.nextInt(entries.size()));
+            stockCatalog.updateQuantity(target.getProductId(), random.nextInt(1000), LocalDateTime.now());
+        }
+
+        // Then
+        BigDecimal expected = stockCatalog.snapshot().stream()
+                .map(e -> e.getPrice().multiply(BigDecimal.valueOf(e.getQuantityAvailable())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long expectedUnits = stockCatalog.snapshot().stream().mapToLong(CatalogEntry::getQuantityAvailable).sum();
+        StockSummaryDTO summary = summaryService.getSummary();
+        assertThat(summary.getInventoryValue()).isEqualByComparingTo(expected);
+        assertThat(summary.getTotalUnits()).isEqualTo(expectedUnits);
+    }
+
+    private static CatalogEntry entry(Integer quantity, String price) {
+        return new CatalogEntry(UUID.randomUUID(), "Produto", quantity,
+                price == null ? null : CatalogEntry.toCents(new BigDecimal(price)), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,135 @@
+package com.techsolution.stockquery.application.service;
+
+import com.techsolution.stockquery.domain.model.StockView;
+import com.techsolution.stockquery.infrastructure.catalog.CatalogEntry;
+import com.techsolution.stockquery.infrastructure.catalog.StockCatalog;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeDetector;
+import com.techsolution.stockquery.infrastructure.client.PageResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockWarmupService Tests")
+class StockWarmupServiceTest {
+
+    @Mock
+    private StockQueryService stockQueryService;
+
+    @Mock
+    private StockCatalogService stockCatalogService;
+
+    private StockCatalog stockCatalog;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        stockCatalog = new StockCatalog(new StockChangeDetector());
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Deve carregar todas as páginas do catálogo e concluir o warm-up")
+    void shouldLoadAllCatalogPages() {
+        // Given
+        for (int page = 0; page < 3; page++) {
+            when(stockQueryService.findStocksPaginated(page, 100)).thenReturn(page(page, 3));
+        }
+        StockWarmupService warmup = service(List.of(), 100, 30000);
+
+        // When
+        assertThat(warmup.isFinished()).isFalse();
+        warmup.warmUp();
+
+        // Then
+        assertThat(warmup.getState()).isEqualTo(StockWarmupService.State.COMPLETED);
+        verify(stockCatalogService).load(argThat(stocks -> stocks.size() == 3));
+        assertThat(meterRegistry.get("stock.warmup.items.loaded").gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("stock.warmup.completed").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve pré-carregar apenas os N produtos mais acessados")
+    void shouldPreloadTopNHotProducts() {
+        // Given
+        List<UUID> hotIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(stockQueryService.findByProductId(any())).thenReturn(Optional.empty());
+        stockCatalog.replaceAll(List.of());
+        StockWarmupService warmup = service(hotIds, 2, 30000);
+
+        // When
+        warmup.warmUp();
+
+        // Then
+        verify(stockQueryService).findByProductId(hotIds.get(0));
+        verify(stockQueryService).findByProductId(hotIds.get(1));
+        verify(stockQueryService, never()).findByProductId(hotIds.get(2));
+        verify(stockQueryService, never()).findStocksPaginated(anyInt(), anyInt());
+        assertThat(warmup.getTotalItems()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Não deve carregar catálogo parcial quando alguma página falha")
+    void shouldNotLoadPartialCatalogWhenPageFails() {
+        // Given
+        when(stockQueryService.findStocksPaginated(0, 100)).thenReturn(page(0, 2));
+        when(stockQueryService.findStocksPaginated(1, 100)).thenThrow(new RuntimeException("Erro de conexão"));
+        StockWarmupService warmup = service(List.of(), 100, 30000);
+
+        // When
+        warmup.warmUp();
+
+        // Then
+        assertThat(warmup.isFinished()).isTrue();
+        verify(stockCatalogService, never()).load(anyList());
+        assertThat(meterRegistry.get("stock.warmup.items.failed").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve liberar readiness quando o warm-up atinge o tempo limite")
+    void shouldFinishWhenTimeoutIsReached() {
+        // Given
+        UUID slowId = UUID.randomUUID();
+        when(stockQueryService.findByProductId(slowId)).thenAnswer(invocation -> {
+            Thread.sleep(5000);
+            return Optional.empty();
+        });
+        stockCatalog.replaceAll(List.of(new CatalogEntry(UUID.randomUUID(), "Produto", 1, LocalDateTime.now())));
+        StockWarmupService warmup = service(List.of(slowId), 100, 100);
+
+        // When
+        long start = System.currentTimeMillis();
+        warmup.warmUp();
+
+        // Then
+        assertThat(System.currentTimeMillis() - start).isLessThan(3000);
+        assertThat(warmup.getState()).isEqualTo(StockWarmupService.State.TIMED_OUT);
+        assertThat(warmup.isFinished()).isTrue();
+    }
+
+    private StockWarmupService service(List<UUID> hotIds, int topN, long timeoutMs) {
+        return new StockWarmupService(stockQueryService, stockCatalogService, stockCatalog, meterRegistry,
+                true, true, hotIds, topN, 4, timeoutMs);
+    }
+
+    private static PageResponse<StockView> page(int page, int totalPages) {
+        StockView stock = new StockView(UUID.randomUUID(), "Produto " + page, 10, LocalDateTime.now());
+        return new PageResponse<>(List.of(stock), page, 100, (long) totalPages, totalPages,
+                page == 0, page == totalPages - 1);
+    }
+}
@@ -0,0 +1,102 @@
+package com.techsolution.stockquery.infrastructure.bulkhead;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Bulkhead Tests")
+class BulkheadTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        release = new CountDownLatch(1);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar na hora quando as vagas e a fila estão ocupadas")
+    void shouldRejectWhenFullAndQueueIsFull() throws Exception {
+        // Given
+        Bulkhead crawl = new Bulkhead("crawl", 1, 0, 1000, meterRegistry);
+        CompletableFuture<String> running = occupy(crawl);
+
+        // When & Then
+        assertThatThrownBy(() -> crawl.execute(() -> "outra"))
+                .isInstanceOf(BulkheadFullException.class)
+                .satisfies(e -> assertThat(((BulkheadFullException) e).getBulkhead()).isEqualTo("crawl"));
+        assertThat(meterRegistry.get("stock.bulkhead.rejections").tag("bulkhead", "crawl").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("stock.bulkhead.saturation").tag("bulkhead", "crawl").gauge().value())
+                .isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(2, TimeUnit.SECONDS)).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("Deve executar chamada da fila quando uma vaga é liberada")
+    void shouldRunQueuedCallWhenPermitIsReleased() throws Exception {
+        // Given
+        Bulkhead page = new Bulkhead("page", 1, 1, 5000, meterRegistry);
+        CompletableFuture<String> running = occupy(page);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> page.execute(() -> "fila"));
+        while (page.getWaiting() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        release.countDown();
+
+        // Then
+        assertThat(running.get(2, TimeUnit.SECONDS)).isEqualTo("ok");
+        assertThat(queued.get(2, TimeUnit.SECONDS)).isEqualTo("fila");
+        assertThat(page.getActive()).isZero();
+    }
+
+    @Test
+    @DisplayName("Bulkhead saturado não deve afetar outro bulkhead")
+    void shouldIsolateBulkheads() throws Exception {
+        // Given
+        Bulkhead crawl = new Bulkhead("crawl", 1, 0, 0, meterRegistry);
+        Bulkhead point = new Bulkhead("point", 1, 0, 0, meterRegistry);
+        CompletableFuture<String> running = occupy(crawl);
+
+        // When
+        String result = point.execute(() -> "pontual");
+
+        // Then
+        assertThat(result).isEqualTo("pontual");
+        release.countDown();
+        running.get(2, TimeUnit.SECONDS);
+    }
+
+    private CompletableFuture<String> occupy(Bulkhead bulkhead) {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> bulkhead.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "ok";
+        }));
+        try {
+            started.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return future;
+    }
+}
@@ -0,0 +1,57 @@
+package com.techsolution.stockquery.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConsistentHashRing Tests")
+class ConsistentHashRingTest {
+
+    private static final List<String> NODES = List.of("http://a:8082", "http://b:8082", "http://c:8082");
+
+    @Test
+    @DisplayName("Deve distribuir as chaves de forma aproximadamente uniforme entre os nós")
+    void shouldDistributeKeysEvenly() {
+        // Given
+        ConsistentHashRing<String> ring = new ConsistentHashRing<>(NODES, 100);
+        Map<String, Integer> counts = new HashMap<>();
+
+        // When
+        for (int i = 0; i < 30000; i++) {
+            counts.merge(ring.ownerOf(UUID.randomUUID()), 1, Integer::sum);
+        }
+
+        // Then
+        assertThat(counts).hasSize(3);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(7000, 13000));
+    }
+
+    @Test
+    @DisplayName("Deve mover apenas as chaves do nó removido")
+    void shouldOnlyMoveKeysOfRemovedNode() {
+        // Given
+        ConsistentHashRing<String> full = new ConsistentHashRing<>(NODES, 100);
+        ConsistentHashRing<String> reduced = new ConsistentHashRing<>(NODES.subList(0, 2), 100);
+
+        // When & Then
+        for (int i = 0; i < 5000; i++) {
+            UUID key = UUID.randomUUID();
+            String owner = full.ownerOf(key);
+            if (!owner.equals("http://c:8082")) {
+                assertThat(reduced.ownerOf(key)).isEqualTo(owner);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar null quando o anel está vazio")
+    void shouldReturnNullWhenEmpty() {
+        assertThat(new ConsistentHashRing<String>(List.of(), 100).ownerOf(UUID.randomUUID())).isNull();
+    }
+}
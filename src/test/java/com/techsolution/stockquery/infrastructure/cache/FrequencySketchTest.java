@@ -0,0 +1,54 @@
+package com.techsolution.stockquery.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FrequencySketch Tests")
+class FrequencySketchTest {
+
+    @Test
+    @DisplayName("Deve estimar a frequência de cada produto limitada a 15")
+    void shouldEstimateFrequencyUpToMaximum() {
+        // Given
+        FrequencySketch sketch = new FrequencySketch(1000);
+        UUID frequent = UUID.randomUUID();
+        UUID rare = UUID.randomUUID();
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            sketch.increment(frequent);
+        }
+        sketch.increment(rare);
+        sketch.increment(rare);
+
+        // Then
+        assertThat(sketch.frequency(frequent)).isEqualTo(15);
+        assertThat(sketch.frequency(rare)).isEqualTo(2);
+        assertThat(sketch.frequency(UUID.randomUUID())).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir as frequências pela metade a cada período de amostragem")
+    void shouldHalveFrequenciesWhenSamplePeriodEnds() {
+        // Given - capacidade 10: envelhecimento a cada 100 incrementos
+        FrequencySketch sketch = new FrequencySketch(10);
+        UUID product = UUID.randomUUID();
+        for (int i = 0; i < 8; i++) {
+            sketch.increment(product);
+        }
+        int beforeAging = sketch.frequency(product);
+
+        // When
+        for (int i = 0; i < 92; i++) {
+            sketch.increment(UUID.randomUUID());
+        }
+
+        // Then
+        assertThat(beforeAging).isEqualTo(8);
+        assertThat(sketch.frequency(product)).isBetween(4, 5);
+    }
+}
@@ -0,0 +1,70 @@
+package com.techsolution.stockquery.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("Deve executar uma única carga para chamadas concorrentes da mesma chave")
+    void shouldCoalesceConcurrentLoads() throws Exception {
+        // Given
+        SingleFlight<UUID, String> singleFlight = new SingleFlight<>();
+        UUID key = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> first = executor.submit(() -> singleFlight.execute(key, () -> {
+                loads.incrementAndGet();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "valor";
+            }));
+            while (singleFlight.inFlightCount() == 0) {
+                Thread.onSpinWait();
+            }
+            Future<String> second = executor.submit(() -> singleFlight.execute(key, () -> {
+                loads.incrementAndGet();
+                return "outro";
+            }));
+            Thread.sleep(50);
+            release.countDown();
+
+            // Then
+            assertThat(first.get()).isEqualTo("valor");
+            assertThat(second.get()).isEqualTo("valor");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve propagar a exceção da carga e permitir nova tentativa")
+    void shouldPropagateFailureAndAllowRetry() {
+        // Given
+        SingleFlight<UUID, String> singleFlight = new SingleFlight<>();
+        UUID key = UUID.randomUUID();
+
+        // When & Then
+        assertThatThrownBy(() -> singleFlight.execute(key, () -> {
+            throw new IllegalStateException("Erro de conexão");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.execute(key, () -> "valor")).isEqualTo("valor");
+    }
+}
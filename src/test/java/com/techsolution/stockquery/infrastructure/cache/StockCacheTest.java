@@ -0,0 +1,286 @@
+package com.techsolution.stockquery.infrastructure.cache;
+
+import com.techsolution.stockquery.domain.model.StockView;
+import com.techsolution.stockquery.infrastructure.catalog.CatalogEntry;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeDetector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StockCache Tests")
+class StockCacheTest {
+
+    private AtomicLong clock;
+    private StockCache stockCache;
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        stockCache = new StockCache(100, 1000, clock::get);
+        productId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Deve expirar entradas após o TTL")
+    void shouldExpireEntriesAfterTtl() {
+        // Given
+        stockCache.put(stock(productId, 15));
+
+        // When
+        boolean presentBeforeTtl = stockCache.get(productId).isPresent();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1001));
+
+        // Then
+        assertThat(presentBeforeTtl).isTrue();
+        assertThat(stockCache.get(productId)).isEmpty();
+        assertThat(stockCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve descartar a entrada menos usada quando o limite é atingido")
+    void shouldEvictLeastRecentlyUsedEntry() {
+        // Given - 1 entrada por segmento
+        StockCache small = new StockCache(1, 1000, clock::get);
+        UUID first = UUID.randomUUID();
+        UUID second = sameSegmentAs(first);
+        small.put(stock(first, 1));
+
+        // When
+        small.put(stock(second, 2));
+
+        // Then
+        assertThat(small.get(first)).isEmpty();
+        assertThat(small.get(second)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Deve informar o tempo restante sem alterar a ordem de descarte")
+    void shouldReportRemainingTtlWithoutTouchingEvictionOrder() {
+        // Given - 2 entradas por segmento
+        StockCache small = new StockCache(32, 1000, clock::get);
+        UUID first = UUID.randomUUID();
+        UUID second = sameSegmentAs(first);
+        UUID third = sameSegmentAs(first);
+        small.put(stock(first, 1));
+        small.put(stock(second, 2));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(400));
+
+        // When
+        long remainingMs = small.remainingTtlMillis(first).orElseThrow();
+        small.put(stock(third, 3));
+
+        // Then
+        assertThat(remainingMs).isEqualTo(600);
+        assertThat(small.get(first)).isEmpty();
+        assertThat(small.get(second)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Deve atualizar quantidade apenas de produtos presentes no cache")
+    void shouldUpdateQuantityOnlyForCachedProducts() {
+        // Given
+        stockCache.put(stock(productId, 15));
+
+        // When
+        boolean updated = stockCache.updateQuantity(productId, 3, LocalDateTime.now());
+        boolean missing = stockCache.updateQuantity(UUID.randomUUID(), 3, LocalDateTime.now());
+
+        // Then
+        assertThat(updated).isTrue();
+        assertThat(missing).isFalse();
+        assertThat(stockCache.get(productId).get().getQuantityAvailable()).isEqualTo(3);
+        assertThat(stockCache.get(productId).get().getProductName()).isEqualTo("Produto 1");
+    }
+
+    @Test
+    @DisplayName("Deve acompanhar eventos de alteração sem admitir produtos novos")
+    void shouldFollowChangeEventsWithoutAdmittingNewProducts() {
+        // Given
+        StockChangeDetector changeDetector = new StockChangeDetector();
+        StockCache subscribed = new StockCache(changeDetector, 100, 1000);
+        subscribed.put(stock(productId, 15));
+        UUID other = UUID.randomUUID();
+
+        // When
+        changeDetector.publish(entry(productId, 15), entry(productId, 7));
+        changeDetector.publish(null, entry(other, 20));
+
+        // Then
+        assertThat(subscribed.get(productId).get().getQuantityAvailable()).isEqualTo(7);
+        assertThat(subscribed.get(other)).isEmpty();
+
+        // When - produto removido do catálogo
+        changeDetector.publish(entry(productId, 7), null);
+
+        // Then
+        assertThat(subscribed.get(productId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve lembrar produtos inexistentes pelo TTL do cache negativo")
+    void shouldRememberMissingProductsUntilNegativeTtl() {
+        // Given
+        StockCache negative = new StockCache(100, 1000, 100, 200, clock::get);
+        negative.putMissing(productId);
+
+        // When
+        boolean missingBeforeTtl = negative.isMissing(productId);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(201));
+
+        // Then
+        assertThat(missingBeforeTtl).isTrue();
+        assertThat(negative.isMissing(productId)).isFalse();
+        assertThat(negative.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve esquecer a inexistência quando o produto aparece")
+    void shouldClearMissingMarkWhenProductAppears() {
+        // Given
+        StockChangeDetector changeDetector = new StockChangeDetector();
+        StockCache negative = new StockCache(changeDetector, 100, 1000, 100, 60000);
+        UUID created = UUID.randomUUID();
+        UUID pushed = UUID.randomUUID();
+        negative.putMissing(productId);
+        negative.putMissing(created);
+        negative.putMissing(pushed);
+
+        // When
+        negative.put(stock(productId, 3));
+        changeDetector.publish(null, entry(created, 20));
+        negative.updateQuantity(pushed, 5, LocalDateTime.now());
+
+        // Then
+        assertThat(negative.isMissing(productId)).isFalse();
+        assertThat(negative.isMissing(created)).isFalse();
+        assertThat(negative.isMissing(pushed)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve manter os produtos procurados com frequência durante varredura de IDs novos")
+    void shouldKeepFrequentProductsDuringScanWithAdmission() {
+        // Given - 100 entradas por segmento, todas ocupadas por produtos consultados várias vezes
+        StockCache admission = new StockCache(1600, 60000, 0, 0, true, clock::get);
+        StockCache lru = new StockCache(1600, 60000, 0, 0, false, clock::get);
+        List<UUID> hot = randomIds(1600);
+        for (StockCache cache : List.of(admission, lru)) {
+            for (int round = 0; round < 5; round++) {
+                hot.forEach(id -> access(cache, id));
+            }
+        }
+        long cachedBeforeScan = hot.stream().filter(id -> admission.get(id).isPresent()).count();
+
+        // When - varredura: 16000 IDs consultados uma única vez
+        for (UUID scanned : randomIds(16000)) {
+            access(admission, scanned);
+            access(lru, scanned);
+        }
+
+        // Then
+        assertThat(hot.stream().filter(id -> admission.get(id).isPresent()).count())
+                .isGreaterThanOrEqualTo(cachedBeforeScan * 95 / 100);
+        assertThat(hot.stream().filter(id -> lru.get(id).isPresent()).count()).isZero();
+        assertThat(admission.getAdmissionRejections()).isGreaterThan(15000);
+        assertThat(admission.size()).isEqualTo(lru.size());
+    }
+
+    @Test
+    @DisplayName("Deve ter taxa de acerto maior que o LRU em trace Zipf com varreduras")
+    void shouldOutperformLruOnZipfTraceWithScans() {
+        // Given - 20000 produtos com popularidade Zipf (s = 0.9), cache de 1000 entradas e 20% de
+        // consultas a IDs únicos (varreduras, bots)
+        List<UUID> products = randomIds(20000);
+        double[] cumulative = zipfCumulative(products.size(), 0.9);
+        Random random = new Random(42);
+        StockCache admission = new StockCache(1000, 60000, 0, 0, true, clock::get);
+        StockCache lru = new StockCache(1000, 60000, 0, 0, false, clock::get);
+        int admissionHits = 0;
+        int lruHits = 0;
+        int requests = 200000;
+
+        // When
+        for (int i = 0; i < requests; i++) {
+            UUID id = random.nextDouble() < 0.2
+                    ? UUID.randomUUID()
+                    : products.get(rank(cumulative, random.nextDouble()));
+            admissionHits += access(admission, id) ? 1 : 0;
+            lruHits += access(lru, id) ? 1 : 0;
+        }
+
+        // Then - medido: ~0.43 (TinyLFU) contra ~0.35 (LRU)
+        double admissionHitRate = (double) admissionHits / requests;
+        double lruHitRate = (double) lruHits / requests;
+        assertThat(admissionHitRate).isGreaterThan(lruHitRate + 0.05);
+    }
+
+    /**
+     * Consulta como o serviço: em caso de falta, busca e guarda o produto
+     *
+     * @return {@code true} quando a consulta foi atendida pelo cache
+     */
+    private static boolean access(StockCache cache, UUID id) {
+        if (cache.get(id).isPresent()) {
+            return true;
+        }
+        cache.put(stock(id, 1));
+        return false;
+    }
+
+    private static List<UUID> randomIds(int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        return ids;
+    }
+
+    private static double[] zipfCumulative(int size, double exponent) {
+        double[] cumulative = new double[size];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static int rank(double[] cumulative, double sample) {
+        int index = Arrays.binarySearch(cumulative, sample);
+        return Math.min(cumulative.length - 1, index >= 0 ? index : -index - 1);
+    }
+
+    private UUID sameSegmentAs(UUID productId) {
+        StockCache probe = new StockCache(1, 1000, clock::get);
+        probe.put(stock(productId, 0));
+        while (true) {
+            UUID candidate = UUID.randomUUID();
+            probe.put(stock(candidate, 0));
+            if (probe.get(productId).isEmpty()) {
+                return candidate;
+            }
+        }
+    }
+
+    private static StockView stock(UUID productId, int quantity) {
+        return new StockView(productId, "Produto 1", quantity, LocalDateTime.now());
+    }
+
+    private static CatalogEntry entry(UUID productId, int quantity) {
+        return new CatalogEntry(productId, "Produto 1", quantity, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,232 @@
+package com.techsolution.stockquery.infrastructure.catalog;
+
+import com.techsolution.stockquery.domain.model.StockFilter;
+import com.techsolution.stockquery.domain.model.StockSort;
+import com.techsolution.stockquery.domain.model.StockView;
+import com.techsolution.stockquery.infrastructure.client.PageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StockCatalog Tests")
+class StockCatalogTest {
+
+    private static final int MINIMUM_STOCK_LIMIT = 10;
+
+    private StockCatalog stockCatalog;
+    private CatalogEntry caneta;
+    private CatalogEntry cadeira;
+    private CatalogEntry mesa;
+    private CatalogEntry lapis;
+
+    @BeforeEach
+    void setUp() {
+        stockCatalog = new StockCatalog(new StockChangeDetector());
+        caneta = entry("Caneta Azul", 5);
+        cadeira = entry("Cadeira Ergonômica", 40);
+        mesa = entry("Mesa de Escritório", 12);
+        lapis = entry("Lápis Preto", 0);
+        stockCatalog.replaceAll(List.of(caneta, cadeira, mesa, lapis));
+    }
+
+    @Test
+    @DisplayName("Deve filtrar por faixa de quantidade e reportar total filtrado")
+    void shouldFilterByQuantityRange() {
+        // When
+        PageResponse<StockView> result = stockCatalog.find(
+                new StockFilter(5, 20, null, null, false), 0, 20);
+
+        // Then
+        assertThat(result.getContent()).extracting(StockView::getProductName)
+                .containsExactly("Caneta Azul", "Mesa de Escritório");
+        assertThat(result.getTotalElements()).isEqualTo(2L);
+        assertThat(result.getTotalPages()).isEqualTo(1);
+        assertThat(result.getFirst()).isTrue();
+        assertThat(result.getLast()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve filtrar estoques abaixo do mínimo")
+    void shouldFilterBelowMinimum() {
+        // Given
+        StockFilter filter = StockFilter.of(null, null, true, null, null, MINIMUM_STOCK_LIMIT);
+
+        // When
+        PageResponse<StockView> result = stockCatalog.find(filter, 0, 20);
+
+        // Then
+        assertThat(result.getContent()).extracting(StockView::getProductName)
+                .containsExactly("Lápis Preto", "Caneta Azul");
+        assertThat(result.getTotalElements()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Deve filtrar por prefixo de nome ignorando maiúsculas e acentos")
+    void shouldFilterByNamePrefixIgnoringCaseAndAccents() {
+        // When
+        PageResponse<StockView> result = stockCatalog.find(
+                new StockFilter(null, null, "CA", null, false), 0, 20);
+        PageResponse<StockView> accentResult = stockCatalog.find(
+                new StockFilter(null, null, "lapis", null, false), 0, 20);
+
+        // Then
+        assertThat(result.getContent()).extracting(StockView::getProductName)
+                .containsExactly("Cadeira Ergonômica", "Caneta Azul");
+        assertThat(accentResult.getContent()).extracting(StockView::getProductName)
+                .containsExactly("Lápis Preto");
+    }
+
+    @Test
+    @DisplayName("Deve combinar prefixo de nome com ordenação por quantidade decrescente")
+    void shouldCombineNamePrefixWithQuantitySort() {
+        // When
+        PageResponse<StockView> result = stockCatalog.find(
+                new StockFilter(null, null, "ca", StockSort.QUANTITY_AVAILABLE, true), 0, 20);
+
+        // Then
+        assertThat(result.getContent()).extracting(StockView::getQuantityAvailable)
+                .containsExactly(40, 5);
+    }
+
+    @Test
+    @DisplayName("Deve paginar por quantidade dentro do prefixo de nome respeitando a faixa de quantidade")
+    void shouldPaginateNamePrefixSortedByQuantityWithinRange() {
+        // When
+        PageResponse<StockView> firstPage = stockCatalog.find(
+                new StockFilter(1, null, "ca", StockSort.QUANTITY_AVAILABLE, false), 0, 1);
+        PageResponse<StockView> secondPage = stockCatalog.find(
+                new StockFilter(1, null, "ca", StockSort.QUANTITY_AVAILABLE, false), 1, 1);
+
+        // Then
+        assertThat(firstPage.getContent()).extracting(StockView::getQuantityAvailable).containsExactly(5);
+        assertThat(firstPage.getTotalElements()).isEqualTo(2L);
+        assertThat(secondPage.getContent()).extracting(StockView::getQuantityAvailable).containsExactly(40);
+        assertThat(secondPage.getLast()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve paginar resultado filtrado com totais corretos")
+    void shouldPaginateFilteredResult() {
+        // When
+        PageResponse<StockView> firstPage = stockCatalog.find(
+                new StockFilter(0, null, null, StockSort.PRODUCT_NAME, false), 0, 3);
+        PageResponse<StockView> secondPage = stockCatalog.find(
+                new StockFilter(0, null, null, StockSort.PRODUCT_NAME, false), 1, 3);
+
+        // Then
+        assertThat(firstPage.getContent()).extracting(StockView::getProductName)
+                .containsExactly("Cadeira Ergonômica", "Caneta Azul", "Lápis Preto");
+        assertThat(firstPage.getTotalElements()).isEqualTo(4L);
+        assertThat(firstPage.getTotalPages()).isEqualTo(2);
+        assertThat(firstPage.getLast()).isFalse();
+        assertThat(secondPage.getContent()).extracting(StockView::getProductName)
+                .containsExactly("Mesa de Escritório");
+        assertThat(secondPage.getLast()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve reindexar produto quando a quantidade muda")
+    void shouldReindexWhenQuantityChanges() {
+        // When
+        stockCatalog.upsert(new CatalogEntry(caneta.getProductId(), "Caneta Azul", 50, LocalDateTime.now()));
+        PageResponse<StockView> result = stockCatalog.find(
+                new StockFilter(30, null, null, StockSort.QUANTITY_AVAILABLE, false), 0, 20);
+
+        // Then
+        assertThat(result.getContent()).extracting(StockView::getProductName)
+                .containsExactly("Cadeira Ergonômica", "Caneta Azul");
+        assertThat(stockCatalog.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Deve remover produtos ausentes em uma nova carga completa")
+    void shouldRemoveProductsMissingFromNewSnapshot() {
+        // When
+        stockCatalog.replaceAll(List.of(caneta, mesa));
+
+        // Then
+        assertThat(stockCatalog.size()).isEqualTo(2);
+        assertThat(stockCatalog.get(cadeira.getProductId())).isEmpty();
+        assertThat(stockCatalog.find(new StockFilter(null, null, "cad", null, false), 0, 20)
+                .getTotalElements()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve retornar página vazia quando a faixa de quantidade é vazia")
+    void shouldReturnEmptyPageForEmptyRange() {
+        // Given - abaixo do mínimo, mas com quantidade mínima acima do limite
+        StockFilter filter = StockFilter.of(20, null, true, null, null, MINIMUM_STOCK_LIMIT);
+
+        // When
+        PageResponse<StockView> result = stockCatalog.find(filter, 0, 20);
+
+        // Then
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getTotalElements()).isZero();
+        assertThat(result.getTotalPages()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve reindexar por nome a troca para um nome com o mesmo hash")
+    void shouldReindexRenameWithSameNameHash() {
+        // Given - "Aa" e "BB" têm o mesmo String.hashCode
+        UUID productId = UUID.randomUUID();
+        stockCatalog.upsert(new CatalogEntry(productId, "Aa", 7, LocalDateTime.now().minusMinutes(1)));
+
+        // When
+        stockCatalog.upsert(new CatalogEntry(productId, "BB", 7, LocalDateTime.now()));
+
+        // Then
+        PageResponse<StockView> result = stockCatalog.find(
+                new StockFilter(null, null, "bb", StockSort.PRODUCT_NAME, false), 0, 20);
+        assertThat(result.getContent()).extracting(StockView::getProductId).containsExactly(productId);
+    }
+
+    @Test
+    @DisplayName("Deve publicar as alterações de um mesmo produto na ordem em que foram aplicadas")
+    void shouldPublishChangesInOrderPerProduct() throws InterruptedException {
+        // Given - duas threads alterando a quantidade do mesmo produto
+        StockChangeDetector changeDetector = new StockChangeDetector();
+        StockCatalog catalog = new StockCatalog(changeDetector);
+        UUID productId = UUID.randomUUID();
+        catalog.upsert(new CatalogEntry(productId, "Borracha", 0, LocalDateTime.now()));
+        List<StockChangeEvent> events = Collections.synchronizedList(new ArrayList<>());
+        changeDetector.subscribe(events::add);
+        int updatesPerThread = 2_000;
+        Thread[] writers = new Thread[2];
+        for (int w = 0; w < writers.length; w++) {
+            int offset = w;
+            writers[w] = Thread.ofPlatform().start(() -> {
+                for (int i = 1; i <= updatesPerThread; i++) {
+                    catalog.updateQuantity(productId, i * 2 + offset, LocalDateTime.now());
+                }
+            });
+        }
+
+        // When
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        // Then - cada evento parte do estado publicado pelo anterior
+        List<StockChangeEvent> published = List.copyOf(events);
+        for (int i = 1; i < published.size(); i++) {
+            assertThat(published.get(i).getPrevious().getQuantityAvailable())
+                    .isEqualTo(published.get(i - 1).getCurrent().getQuantityAvailable());
+        }
+        assertThat(published.getLast().getCurrent().getQuantityAvailable())
+                .isEqualTo(catalog.get(productId).orElseThrow().getQuantityAvailable());
+    }
+
+    private CatalogEntry entry(String name, int quantity) {
+        return new CatalogEntry(UUID.randomUUID(), name, quantity, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,132 @@
+package com.techsolution.stockquery.infrastructure.catalog;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StockChangeDetector Tests")
+class StockChangeDetectorTest {
+
+    private StockChangeDetector changeDetector;
+    private List<StockChangeEvent> received;
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() {
+        changeDetector = new StockChangeDetector(10);
+        received = new ArrayList<>();
+        changeDetector.subscribe(received::add);
+        productId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Deve classificar produto novo abaixo do mínimo")
+    void shouldClassifyNewProductBelowMinimum() {
+        // When
+        StockChangeEvent event = changeDetector.publish(null, entry("Produto 1", 3));
+
+        // Then
+        assertThat(event.getTypes()).containsExactlyInAnyOrder(StockChangeType.ADDED, StockChangeType.BELOW_MINIMUM);
+        assertThat(received).containsExactly(event);
+    }
+
+    @Test
+    @DisplayName("Deve classificar remoção de produto")
+    void shouldClassifyRemoval() {
+        // Given
+        CatalogEntry previous = entry("Produto 1", 30);
+
+        // When
+        StockChangeEvent event = changeDetector.publish(previous, null);
+
+        // Then
+        assertThat(event.getTypes()).containsExactly(StockChangeType.REMOVED);
+        assertThat(event.getProductId()).isEqualTo(productId);
+    }
+
+    @Test
+    @DisplayName("Deve classificar queda abaixo do mínimo e recuperação")
+    void shouldClassifyMinimumCrossings() {
+        // When
+        StockChangeEvent below = changeDetector.publish(entry("Produto 1", 15), entry("Produto 1", 5));
+        StockChangeEvent recovered = changeDetector.publish(entry("Produto 1", 5), entry("Produto 1", 10));
+
+        // Then
+        assertThat(below.getTypes())
+                .containsExactlyInAnyOrder(StockChangeType.QUANTITY_CHANGED, StockChangeType.BELOW_MINIMUM);
+        assertThat(recovered.getTypes())
+                .containsExactlyInAnyOrder(StockChangeType.QUANTITY_CHANGED, StockChangeType.RECOVERED);
+        assertThat(recovered.getSequence()).isGreaterThan(below.getSequence());
+    }
+
+    @Test
+    @DisplayName("Deve classificar alteração de nome sem mudança de quantidade")
+    void shouldClassifyDetailsChange() {
+        // When
+        StockChangeEvent event = changeDetector.publish(entry("Produto 1", 20), entry("Produto Um", 20));
+
+        // Then
+        assertThat(event.getTypes()).containsExactly(StockChangeType.DETAILS_CHANGED);
+    }
+
+    @Test
+    @DisplayName("Deve detectar troca de nome mesmo quando os nomes têm o mesmo hash")
+    void shouldDetectRenameWithSameNameHash() {
+        // Given - "Aa" e "BB" têm o mesmo String.hashCode, logo a mesma impressão digital
+        CatalogEntry previous = entry("Aa", 20);
+        CatalogEntry current = entry("BB", 20);
+
+        // When
+        StockChangeEvent event = changeDetector.publish(previous, current);
+
+        // Then
+        assertThat(previous.getFingerprint()).isEqualTo(current.getFingerprint());
+        assertThat(event).isNotNull();
+        assertThat(event.getTypes()).containsExactly(StockChangeType.DETAILS_CHANGED);
+    }
+
+    @Test
+    @DisplayName("Não deve publicar evento quando apenas a data de atualização muda")
+    void shouldNotPublishWhenFingerprintIsUnchanged() {
+        // Given
+        CatalogEntry previous = new CatalogEntry(productId, "Produto 1", 20, LocalDateTime.now().minusMinutes(5));
+        CatalogEntry current = new CatalogEntry(productId, "Produto 1", 20, LocalDateTime.now());
+
+        // When
+        StockChangeEvent event = changeDetector.publish(previous, current);
+
+        // Then
+        assertThat(event).isNull();
+        assertThat(changeDetector.hasChanged(previous, current)).isFalse();
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve continuar notificando assinantes quando um deles falha")
+    void shouldKeepNotifyingWhenListenerFails() {
+        // Given
+        List<StockChangeEvent> afterFailure = new ArrayList<>();
+        changeDetector.subscribe(event -> {
+            throw new IllegalStateException("Falha no assinante");
+        });
+        changeDetector.subscribe(afterFailure::add);
+
+        // When
+        changeDetector.publish(null, entry("Produto 1", 20));
+
+        // Then
+        assertThat(received).hasSize(1);
+        assertThat(afterFailure).hasSize(1);
+    }
+
+    private CatalogEntry entry(String name, int quantity) {
+        return new CatalogEntry(productId, name, quantity, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,125 @@
+package com.techsolution.stockquery.infrastructure.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AdaptiveConcurrencyLimiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(900);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Deve aumentar o limite enquanto as respostas são rápidas e o limite está em uso")
+    void shouldIncreaseLimitOnFastResponses() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 0, 0);
+
+        // When - mantém o limite ocupado e conclui uma chamada por vez
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire();
+        }
+        for (int i = 0; i < 40; i++) {
+            limiter.release(FAST, false);
+            limiter.acquire();
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isGreaterThan(4);
+        assertThat(meterRegistry.get("stock.upstream.limit").gauge().value()).isEqualTo(limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite ao observar erro ou latência alta, respeitando o mínimo")
+    void shouldDecreaseLimitOnDropsAndSlowResponses() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(20, 0, 0);
+
+        // When
+        limiter.acquire();
+        limiter.release(FAST, true);
+        int afterDrop = limiter.getLimit();
+        limiter.acquire();
+        limiter.release(SLOW, false);
+        int afterSlow = limiter.getLimit();
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire();
+            limiter.release(FAST, true);
+        }
+
+        // Then
+        assertThat(afterDrop).isEqualTo(18);
+        assertThat(afterSlow).isLessThan(afterDrop);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar imediatamente quando o limite foi atingido e não há fila")
+    void shouldRejectWhenLimitReachedWithoutQueue() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 0, 0);
+        limiter.acquire();
+        limiter.acquire();
+
+        // When & Then
+        assertThatThrownBy(limiter::acquire).isInstanceOf(ConcurrencyLimitExceededException.class);
+        assertThat(meterRegistry.get("stock.upstream.rejections").counter().count()).isEqualTo(1.0);
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve liberar chamada em espera quando uma vaga é devolvida")
+    void shouldAdmitQueuedCallWhenPermitIsReleased() throws Exception {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 5000);
+        limiter.acquire();
+        limiter.acquire();
+        CompletableFuture<Void> queued = CompletableFuture.runAsync(limiter::acquire);
+        while (limiter.getWaiting() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        limiter.release(FAST, false);
+
+        // Then
+        queued.get(2, TimeUnit.SECONDS);
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getWaiting()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar chamada em espera quando o tempo de fila se esgota")
+    void shouldRejectQueuedCallAfterTimeout() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 50);
+        limiter.acquire();
+        limiter.acquire();
+
+        // When & Then
+        long start = System.nanoTime();
+        assertThatThrownBy(limiter::acquire).isInstanceOf(ConcurrencyLimitExceededException.class);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(40));
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, int maxQueue, long queueTimeoutMs) {
+        return new AdaptiveConcurrencyLimiter(meterRegistry, true, initialLimit, 2, 200, 500, 0.9,
+                maxQueue, queueTimeoutMs);
+    }
+}
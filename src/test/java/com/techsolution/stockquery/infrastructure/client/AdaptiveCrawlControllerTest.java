@@ -0,0 +1,129 @@
+package com.techsolution.stockquery.infrastructure.client;
+
+import com.techsolution.stockquery.infrastructure.deadline.DeadlineExceededException;
+import com.techsolution.stockquery.infrastructure.deadline.RequestDeadline;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import feign.RetryableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveCrawlController Tests")
+class AdaptiveCrawlControllerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(900);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveCrawlController controller;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        controller = new AdaptiveCrawlController(meterRegistry, true, 2, 1, 8, 20, 100, 500, 0.5, 1000);
+    }
+
+    @Test
+    @DisplayName("Deve aumentar a concorrência com páginas rápidas e reduzir após erro 503, aplicando intervalo")
+    void shouldGrowOnFastPagesAndBackOffOnOverload() {
+        // Given
+        for (int i = 0; i < 30; i++) {
+            controller.onPageSuccess(FAST);
+        }
+        int grown = controller.concurrency();
+
+        // When
+        controller.onPageFailure(FAST, feignError(503));
+
+        // Then
+        assertThat(grown).isGreaterThan(2);
+        assertThat(controller.concurrency()).isEqualTo(grown / 2);
+        assertThat(controller.pacingNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(meterRegistry.get("stock.crawl.backoffs").tag("reason", "error").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("stock.crawl.concurrency").gauge().value()).isEqualTo(controller.concurrency());
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o tamanho de página após páginas lentas e aumentá-lo quando voltam a ser rápidas")
+    void shouldAdaptPageSizeBetweenCrawls() {
+        // Given
+        controller.onPageSuccess(SLOW);
+
+        // When
+        int afterSlow = controller.pageSizeForCrawl(20);
+        int unchanged = controller.pageSizeForCrawl(20);
+        for (int i = 0; i < 20; i++) {
+            controller.onPageSuccess(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        int afterFast = controller.pageSizeForCrawl(20);
+
+        // Then
+        assertThat(afterSlow).isEqualTo(50);
+        assertThat(unchanged).isEqualTo(50);
+        assertThat(afterFast).isEqualTo(100);
+        assertThat(controller.concurrency()).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get("stock.crawl.page.size").gauge().value()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar falhas que não indicam sobrecarga e manter valores fixos quando desabilitado")
+    void shouldIgnoreNonOverloadFailuresAndKeepFixedBehaviour() {
+        // Given
+        AdaptiveCrawlController fixed = AdaptiveCrawlController.fixed(3);
+
+        // When
+        controller.onPageFailure(FAST, feignError(404));
+        fixed.onPageFailure(FAST, feignError(503));
+        fixed.onPageSuccess(SLOW);
+
+        // Then
+        assertThat(controller.concurrency()).isEqualTo(2);
+        assertThat(controller.pacingNanos()).isZero();
+        assertThat(fixed.concurrency()).isEqualTo(3);
+        assertThat(fixed.pacingNanos()).isZero();
+        assertThat(fixed.pageSizeForCrawl(250)).isEqualTo(100);
+        assertThat(fixed.pageSizeForCrawl(7)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Não deve desacelerar a varredura quando a falha se deve ao prazo da requisição")
+    void shouldIgnoreFailuresCausedByRequestDeadline() {
+        // Given - timeout de I/O (encurtado para o tempo restante) com o prazo já esgotado
+        RequestDeadline.start(0);
+        RetryableException timeout = new RetryableException(-1, "Read timed out", Request.HttpMethod.GET,
+                new SocketTimeoutException("Read timed out"), (Long) null, request());
+
+        // When
+        try {
+            controller.onPageFailure(FAST, timeout);
+            controller.onPageFailure(FAST, new DeadlineExceededException("Prazo esgotado"));
+        } finally {
+            RequestDeadline.clear();
+        }
+
+        // Then
+        assertThat(controller.concurrency()).isEqualTo(2);
+        assertThat(controller.pacingNanos()).isZero();
+        assertThat(AdaptiveCrawlController.isOverload(timeout)).isTrue();
+    }
+
+    private static Request request() {
+        return Request.create(Request.HttpMethod.GET, "http://product-service/products?page=0&size=100",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+    }
+
+    private static FeignException feignError(int status) {
+        return FeignException.errorStatus("ProductServiceClient#getProducts(Integer,Integer)",
+                Response.builder().status(status).reason("erro").request(request()).headers(Map.of()).build());
+    }
+}
@@ -0,0 +1,86 @@
+package com.techsolution.stockquery.infrastructure.client;
+
+import com.techsolution.stockquery.infrastructure.deadline.DeadlineCapability;
+import com.techsolution.stockquery.infrastructure.deadline.DeadlineExceededException;
+import com.techsolution.stockquery.infrastructure.deadline.RequestDeadline;
+import feign.Client;
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConcurrencyLimiterCapability Tests")
+class ConcurrencyLimiterCapabilityTest {
+
+    private final Request.Options configured = new Request.Options(2, TimeUnit.SECONDS, 10, TimeUnit.SECONDS, true);
+    private final Request request = Request.create(Request.HttpMethod.GET, "http://localhost:8081/products",
+            Map.of(), null, StandardCharsets.UTF_8, null);
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    @DisplayName("Não deve reduzir o limite quando o timeout foi encurtado por um prazo de 1ms")
+    void shouldNotLowerLimitOnTimeoutCausedByRequestDeadline() {
+        // Given - o cliente HTTP esgota o timeout recebido (o tempo restante do prazo)
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        Client timingOut = (req, options) -> {
+            sleep(options.readTimeoutMillis());
+            throw new SocketTimeoutException("Read timed out");
+        };
+        Client limiterOutside = new ConcurrencyLimiterCapability(limiter).enrich(new DeadlineCapability().enrich(timingOut));
+        Client limiterInside = new DeadlineCapability().enrich(new ConcurrencyLimiterCapability(limiter).enrich(timingOut));
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            RequestDeadline.start(1);
+            Client client = i % 2 == 0 ? limiterOutside : limiterInside;
+            assertThatThrownBy(() -> client.execute(request, configured))
+                    .isInstanceOf(DeadlineExceededException.class);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(20);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite quando o timeout dispara sem prazo na requisição")
+    void shouldLowerLimitOnTimeoutWithoutDeadline() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        Client client = new ConcurrencyLimiterCapability(limiter).enrich((Client) (req, options) -> {
+            throw new SocketTimeoutException("Read timed out");
+        });
+
+        // When
+        assertThatThrownBy(() -> client.execute(request, configured)).isInstanceOf(SocketTimeoutException.class);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(18);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private AdaptiveConcurrencyLimiter limiter() {
+        return new AdaptiveConcurrencyLimiter(new SimpleMeterRegistry(), true, 20, 2, 200, 500, 0.9, 0, 0);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis + 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.techsolution.stockquery.infrastructure.client;
+
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ProductBatchLoader Tests")
+class ProductBatchLoaderTest {
+
+    private final ProductServiceClient productServiceClient = mock(ProductServiceClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ProductBatchLoader batchLoader;
+
+    @AfterEach
+    void tearDown() {
+        batchLoader.close();
+    }
+
+    @Test
+    @DisplayName("Deve combinar consultas simultâneas em uma chamada e devolver 404 aos IDs ausentes")
+    void shouldCombineConcurrentLookupsIntoSingleBatch() throws Exception {
+        // Given
+        batchLoader = new ProductBatchLoader(productServiceClient, meterRegistry, true, 200, 10);
+        UUID cafeId = UUID.randomUUID();
+        UUID arrozId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        when(productServiceClient.getProductsByIds(anyList()))
+                .thenReturn(ResponseEntity.ok(List.of(product(arrozId, "Arroz"), product(cafeId, "Café"))));
+
+        // When
+        List<Future<ResponseEntity<ProductDTO>>> results;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results = List.of(
+                    executor.submit(() -> batchLoader.load(cafeId)),
+                    executor.submit(() -> batchLoader.load(arrozId)),
+                    executor.submit(() -> batchLoader.load(missingId)),
+                    executor.submit(() -> batchLoader.load(cafeId)));
+        }
+
+        // Then
+        assertThat(results.get(0).get().getBody().getName()).isEqualTo("Café");
+        assertThat(results.get(1).get().getBody().getName()).isEqualTo("Arroz");
+        assertThat(results.get(2).get().getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(results.get(3).get().getBody().getId()).isEqualTo(cafeId);
+        verify(productServiceClient, times(1)).getProductsByIds(anyList());
+        assertThat(meterRegistry.get("stock.batch.size").summary().totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve enviar o lote ao atingir o tamanho máximo sem esperar a janela")
+    void shouldSendBatchWhenFull() throws Exception {
+        // Given
+        batchLoader = new ProductBatchLoader(productServiceClient, meterRegistry, true, 60000, 2);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(productServiceClient.getProductsByIds(anyList()))
+                .thenReturn(ResponseEntity.ok(List.of(product(first, "Feijão"), product(second, "Açúcar"))));
+
+        // When
+        ResponseEntity<ProductDTO> firstResult;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<ResponseEntity<ProductDTO>> pending = executor.submit(() -> batchLoader.load(first));
+            ResponseEntity<ProductDTO> secondResult = batchLoader.load(second);
+            firstResult = pending.get(5, TimeUnit.SECONDS);
+            assertThat(secondResult.getBody().getName()).isEqualTo("Açúcar");
+        }
+
+        // Then
+        assertThat(firstResult.getBody().getName()).isEqualTo("Feijão");
+    }
+
+    @Test
+    @DisplayName("Deve voltar às consultas individuais quando o product-service não oferece o endpoint de lote")
+    void shouldFallBackToSingleLookupsWhenBatchEndpointIsMissing() throws Exception {
+        // Given
+        batchLoader = new ProductBatchLoader(productServiceClient, meterRegistry, true, 1, 10);
+        UUID productId = UUID.randomUUID();
+        when(productServiceClient.getProductsByIds(anyList())).thenThrow(feignError(404));
+        when(productServiceClient.getProductById(productId)).thenReturn(ResponseEntity.ok(product(productId, "Leite")));
+
+        // When
+        ResponseEntity<ProductDTO> response = batchLoader.load(productId);
+
+        // Then
+        assertThat(response.getBody().getName()).isEqualTo("Leite");
+        assertThat(batchLoader.isEnabled()).isFalse();
+        assertThat(meterRegistry.get("stock.batch.fallbacks").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve voltar às consultas individuais quando /products/batch é recusado como ID inválido (400)")
+    void shouldFallBackToSingleLookupsWhenBatchPathIsRejectedAsBadRequest() throws Exception {
+        // Given
+        batchLoader = new ProductBatchLoader(productServiceClient, meterRegistry, true, 1, 10);
+        UUID productId = UUID.randomUUID();
+        when(productServiceClient.getProductsByIds(anyList())).thenThrow(feignError(400));
+        when(productServiceClient.getProductById(productId)).thenReturn(ResponseEntity.ok(product(productId, "Café")));
+
+        // When
+        ResponseEntity<ProductDTO> response = batchLoader.load(productId);
+
+        // Then
+        assertThat(response.getBody().getName()).isEqualTo("Café");
+        assertThat(batchLoader.isEnabled()).isFalse();
+        assertThat(meterRegistry.get("stock.batch.fallbacks").counter().count()).isEqualTo(1);
+    }
+
+    private static ProductDTO product(UUID id, String name) {
+        ProductDTO product = new ProductDTO();
+        product.setId(id);
+        product.setName(name);
+        product.setQuantityInStock(10);
+        product.setPrice(new BigDecimal("9.90"));
+        return product;
+    }
+
+    private static FeignException feignError(int status) {
+        Request request = Request.create(Request.HttpMethod.GET, "http://product-service/products/batch",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        return FeignException.errorStatus("ProductServiceClient#getProductsByIds(List)",
+                Response.builder().status(status).reason("erro").request(request).headers(Map.of()).build());
+    }
+}
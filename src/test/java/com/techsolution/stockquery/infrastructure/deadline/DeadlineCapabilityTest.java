@@ -0,0 +1,107 @@
+package com.techsolution.stockquery.infrastructure.deadline;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DeadlineCapability Tests")
+class DeadlineCapabilityTest {
+
+    private final Request.Options configured = new Request.Options(2, TimeUnit.SECONDS, 10, TimeUnit.SECONDS, true);
+    private final Request request = Request.create(Request.HttpMethod.GET, "http://localhost:8081/products",
+            Map.of(), null, StandardCharsets.UTF_8, null);
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    @DisplayName("Deve usar o tempo restante do prazo como timeout e enviá-lo no header")
+    void shouldPropagateRemainingTimeToCall() throws Exception {
+        // Given
+        AtomicReference<Request.Options> usedOptions = new AtomicReference<>();
+        AtomicReference<Request> sentRequest = new AtomicReference<>();
+        Client client = new DeadlineCapability().enrich((Client) (req, options) -> {
+            sentRequest.set(req);
+            usedOptions.set(options);
+            return ok(req);
+        });
+        RequestDeadline.start(500);
+
+        // When
+        client.execute(request, configured);
+
+        // Then
+        assertThat(usedOptions.get().readTimeoutMillis()).isBetween(1, 500);
+        assertThat(usedOptions.get().connectTimeoutMillis()).isBetween(1, 500);
+        assertThat(sentRequest.get().headers().get(RequestDeadline.HEADER)).singleElement()
+                .satisfies(value -> assertThat(Long.parseLong(value)).isBetween(1L, 500L));
+    }
+
+    @Test
+    @DisplayName("Deve manter o timeout configurado quando não há prazo na thread")
+    void shouldKeepConfiguredTimeoutWithoutDeadline() throws Exception {
+        // Given
+        AtomicReference<Request.Options> usedOptions = new AtomicReference<>();
+        Client client = new DeadlineCapability().enrich((Client) (req, options) -> {
+            usedOptions.set(options);
+            return ok(req);
+        });
+
+        // When
+        client.execute(request, configured);
+
+        // Then
+        assertThat(usedOptions.get()).isSameAs(configured);
+    }
+
+    @Test
+    @DisplayName("Não deve iniciar chamada com o prazo esgotado")
+    void shouldNotStartCallAfterDeadline() {
+        // Given
+        Client client = new DeadlineCapability().enrich((Client) (req, options) -> {
+            throw new AssertionError("Chamada não deveria ser feita");
+        });
+        RequestDeadline.start(0);
+
+        // When & Then
+        assertThatThrownBy(() -> client.execute(request, configured))
+                .isInstanceOf(DeadlineExceededException.class);
+    }
+
+    @Test
+    @DisplayName("Deve converter timeout de leitura causado pelo prazo em DeadlineExceededException")
+    void shouldTranslateTimeoutCausedByDeadline() {
+        // Given
+        Client client = new DeadlineCapability().enrich((Client) (req, options) -> {
+            try {
+                Thread.sleep(options.readTimeoutMillis() + 20L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new SocketTimeoutException("Read timed out");
+        });
+        RequestDeadline.start(30);
+
+        // When & Then
+        assertThatThrownBy(() -> client.execute(request, configured))
+                .isInstanceOf(DeadlineExceededException.class);
+    }
+
+    private static Response ok(Request req) {
+        return Response.builder().request(req).status(200).headers(Map.of()).build();
+    }
+}
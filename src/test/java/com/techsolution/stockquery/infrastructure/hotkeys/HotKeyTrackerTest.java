@@ -0,0 +1,96 @@
+package com.techsolution.stockquery.infrastructure.hotkeys;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HotKeyTracker Tests")
+class HotKeyTrackerTest {
+
+    @Test
+    @DisplayName("Deve encontrar os produtos mais consultados com poucos contadores em meio a IDs únicos")
+    void shouldFindHeavyHittersWithBoundedCounters() {
+        // Given - 5 produtos com 10% das consultas cada e 50% de IDs consultados uma única vez
+        HotKeyTracker tracker = new HotKeyTracker(50, 5);
+        List<UUID> hot = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            hot.add(UUID.randomUUID());
+        }
+        Random random = new Random(7);
+
+        // When
+        for (int i = 0; i < 20000; i++) {
+            tracker.record(random.nextBoolean() ? hot.get(random.nextInt(hot.size())) : UUID.randomUUID());
+        }
+
+        // Then
+        List<HotKey> top = tracker.topK();
+        assertThat(top).extracting(HotKey::getProductId).containsExactlyInAnyOrderElementsOf(hot);
+        assertThat(top).allSatisfy(hotKey -> assertThat(hotKey.getCount() - hotKey.getError()).isGreaterThan(1500));
+        assertThat(tracker.getTrackedKeys()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir as contagens pela metade e esquecer produtos que deixaram de ser consultados")
+    void shouldDecayCountsAndForgetColdProducts() {
+        // Given
+        HotKeyTracker tracker = new HotKeyTracker(10, 3);
+        UUID frequent = UUID.randomUUID();
+        UUID once = UUID.randomUUID();
+        for (int i = 0; i < 8; i++) {
+            tracker.record(frequent);
+        }
+        tracker.record(once);
+
+        // When
+        tracker.decay();
+
+        // Then
+        assertThat(tracker.topK()).extracting(HotKey::getProductId).containsExactly(frequent);
+        assertThat(tracker.topK().get(0).getCount()).isEqualTo(4);
+        assertThat(tracker.getTrackedKeys()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve somar corretamente as consultas de várias threads e juntar o top-K de todas as faixas")
+    void shouldMergeTopKAcrossStripesUnderConcurrency() throws InterruptedException {
+        // Given - 10 produtos com contagens distintas, consultados por 4 threads em meio a IDs únicos
+        HotKeyTracker tracker = new HotKeyTracker(1000, 10);
+        List<UUID> hot = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            hot.add(UUID.randomUUID());
+        }
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = Thread.ofPlatform().start(() -> {
+                for (int k = 0; k < hot.size(); k++) {
+                    for (int i = 0; i < 100 * (k + 1); i++) {
+                        tracker.record(hot.get(k));
+                        tracker.record(UUID.randomUUID());
+                    }
+                }
+            });
+        }
+
+        // When
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then - do mais consultado (4000) ao menos consultado (400), sem perder contagens
+        List<HotKey> top = tracker.topK();
+        assertThat(top).extracting(HotKey::getProductId).containsExactlyElementsOf(hot.reversed());
+        assertThat(top).allSatisfy(hotKey -> {
+            long exact = 400L * (hot.indexOf(hotKey.getProductId()) + 1);
+            assertThat(hotKey.getCount()).isGreaterThanOrEqualTo(exact);
+            assertThat(hotKey.getCount() - hotKey.getError()).isLessThanOrEqualTo(exact);
+        });
+        assertThat(tracker.getTrackedKeys()).isEqualTo(1000);
+    }
+}
@@ -0,0 +1,104 @@
+package com.techsolution.stockquery.infrastructure.jfr;
+
+import com.techsolution.stockquery.domain.model.StockView;
+import com.techsolution.stockquery.infrastructure.cache.StockCache;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeDetector;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JfrRecordings Tests")
+class JfrRecordingsTest {
+
+    @TempDir
+    Path directory;
+
+    private JfrRecordings jfrRecordings;
+
+    @BeforeEach
+    void setUp() {
+        jfrRecordings = new JfrRecordings(directory.toString(), 60, 600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jfrRecordings.close();
+    }
+
+    @Test
+    @DisplayName("Deve registrar eventos de chamadas, varreduras e cache na gravação iniciada")
+    void shouldRecordDomainEventsDuringRecording() throws Exception {
+        // Given
+        UUID productId = UUID.randomUUID();
+        Map<String, Object> started = jfrRecordings.start(60L, "default");
+        Client client = new JfrCapability().enrich((Client) (request, options) -> Response.builder()
+                .status(200).request(request).headers(Map.of()).body("{\"id\":1}", StandardCharsets.UTF_8).build());
+        StockCache stockCache = new StockCache(new StockChangeDetector(), 100, 30000);
+        stockCache.put(new StockView(productId, "Café", 10, LocalDateTime.now()));
+
+        // When
+        client.execute(Request.create(Request.HttpMethod.GET, "http://product-service/products/" + productId,
+                Map.of(), null, StandardCharsets.UTF_8, null), new Request.Options());
+        CatalogCrawlEvent.commit(CatalogCrawlEvent.begin(0, 100), 3, 250, true);
+        stockCache.get(productId);
+        stockCache.get(UUID.randomUUID());
+        Path dump = jfrRecordings.dump((Long) started.get("id")).orElseThrow();
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        RecordedEvent call = single(events, "com.techsolution.stockquery.UpstreamCall");
+        assertThat(call.getString("productId")).isEqualTo(productId.toString());
+        assertThat(call.getInt("status")).isEqualTo(200);
+        assertThat(call.getLong("bytes")).isEqualTo(8);
+        assertThat(call.getInt("page")).isEqualTo(-1);
+        RecordedEvent crawl = single(events, "com.techsolution.stockquery.CatalogCrawl");
+        assertThat(crawl.getInt("pages")).isEqualTo(3);
+        assertThat(crawl.getInt("items")).isEqualTo(250);
+        assertThat(crawl.getBoolean("completed")).isTrue();
+        assertThat(events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.techsolution.stockquery.StockCacheLookup"))
+                .map(event -> event.getBoolean("hit")))
+                .containsExactlyInAnyOrder(true, false);
+    }
+
+    @Test
+    @DisplayName("Deve recusar segunda gravação simultânea e configuração desconhecida")
+    void shouldRejectConcurrentRecordingAndUnknownSettings() throws Exception {
+        // Given
+        assertThatThrownBy(() -> jfrRecordings.start(10L, "verbose"))
+                .isInstanceOf(IllegalArgumentException.class);
+        jfrRecordings.start(10L, null);
+
+        // When / Then
+        assertThatThrownBy(() -> jfrRecordings.start(10L, "profile"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(jfrRecordings.list()).hasSize(1);
+        assertThat(jfrRecordings.list().get(0).get("state")).isEqualTo("RUNNING");
+        assertThat(jfrRecordings.dump(-1)).isEmpty();
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertThat(matching).hasSize(1);
+        return matching.get(0);
+    }
+}
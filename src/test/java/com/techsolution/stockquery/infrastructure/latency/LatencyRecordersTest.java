@@ -0,0 +1,100 @@
+package com.techsolution.stockquery.infrastructure.latency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("LatencyRecorders Tests")
+class LatencyRecordersTest {
+
+    private LatencyRecorders latencyRecorders;
+
+    @BeforeEach
+    void setUp() {
+        // Intervalos de 10s; janelas de 1 e 3 intervalos
+        latencyRecorders = new LatencyRecorders(10000, new long[]{10000, 30000}, 60000, 2);
+    }
+
+    @Test
+    @DisplayName("Deve calcular percentis e máximo dos intervalos fechados")
+    void shouldComputePercentilesOfClosedIntervals() {
+        // Given
+        for (int i = 1; i <= 1000; i++) {
+            latencyRecorders.recordStage(LatencyRecorders.Stage.UPSTREAM, TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        // When
+        LatencySnapshot beforeRotation = stage("upstream", "10s");
+        latencyRecorders.rotate();
+        LatencySnapshot afterRotation = stage("upstream", "10s");
+
+        // Then
+        assertThat(beforeRotation.getCount()).isZero();
+        assertThat(afterRotation.getCount()).isEqualTo(1000);
+        assertThat(afterRotation.getP50()).isCloseTo(500, within(5.0));
+        assertThat(afterRotation.getP90()).isCloseTo(900, within(9.0));
+        assertThat(afterRotation.getP99()).isCloseTo(990, within(10.0));
+        assertThat(afterRotation.getP999()).isCloseTo(999, within(10.0));
+        assertThat(afterRotation.getMax()).isCloseTo(1000, within(10.0));
+    }
+
+    @Test
+    @DisplayName("Deve descartar intervalos que saíram da janela")
+    void shouldSlideWindowsOverIntervals() {
+        // Given
+        latencyRecorders.recordStage(LatencyRecorders.Stage.MAPPING, TimeUnit.MILLISECONDS.toNanos(500));
+        latencyRecorders.rotate();
+        latencyRecorders.recordStage(LatencyRecorders.Stage.MAPPING, TimeUnit.MILLISECONDS.toNanos(2));
+        latencyRecorders.rotate();
+
+        // When
+        LatencySnapshot shortWindow = stage("mapping", "10s");
+        LatencySnapshot longWindow = stage("mapping", "30s");
+        latencyRecorders.rotate();
+        latencyRecorders.rotate();
+        LatencySnapshot longWindowLater = stage("mapping", "30s");
+
+        // Then
+        assertThat(shortWindow.getCount()).isEqualTo(1);
+        assertThat(shortWindow.getMax()).isCloseTo(2, within(0.1));
+        assertThat(longWindow.getCount()).isEqualTo(2);
+        assertThat(longWindow.getMax()).isCloseTo(500, within(5.0));
+        assertThat(longWindowLater.getCount()).isEqualTo(1);
+        assertThat(longWindowLater.getMax()).isCloseTo(2, within(0.1));
+    }
+
+    @Test
+    @DisplayName("Deve separar histogramas por endpoint e operação e limitar valores fora da faixa")
+    void shouldKeepHistogramPerEndpointAndOperation() throws Exception {
+        // Given
+        Method handler = LatencyRecordersTest.class.getDeclaredMethod("setUp");
+        latencyRecorders.recordEndpoint(handler, TimeUnit.MILLISECONDS.toNanos(3));
+        latencyRecorders.recordClient("ProductServiceClient#getProductById(UUID)", TimeUnit.SECONDS.toNanos(120));
+        latencyRecorders.recordClient("ProductServiceClient#getProducts(Integer,Integer)", -1);
+
+        // When
+        latencyRecorders.rotate();
+        Map<String, Map<String, Map<String, LatencySnapshot>>> snapshot = latencyRecorders.snapshot();
+
+        // Then
+        assertThat(snapshot.get("endpoints")).containsOnlyKeys("LatencyRecordersTest.setUp");
+        assertThat(snapshot.get("clients")).containsOnlyKeys(
+                "ProductServiceClient#getProductById(UUID)", "ProductServiceClient#getProducts(Integer,Integer)");
+        assertThat(snapshot.get("clients").get("ProductServiceClient#getProductById(UUID)").get("10s").getMax())
+                .isCloseTo(60000, within(600.0));
+        assertThat(snapshot.get("clients").get("ProductServiceClient#getProducts(Integer,Integer)").get("10s").getMax())
+                .isZero();
+        assertThat(snapshot.get("stages")).containsOnlyKeys("upstream", "mapping", "serialization");
+    }
+
+    private LatencySnapshot stage(String stage, String window) {
+        return latencyRecorders.snapshot().get("stages").get(stage).get(window);
+    }
+}
@@ -0,0 +1,145 @@
+package com.techsolution.stockquery.infrastructure.search;
+
+import com.techsolution.stockquery.infrastructure.catalog.CatalogEntry;
+import com.techsolution.stockquery.infrastructure.catalog.StockChangeDetector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProductNameSearchIndex Tests")
+class ProductNameSearchIndexTest {
+
+    private StockChangeDetector changeDetector;
+    private ProductNameSearchIndex index;
+    private CatalogEntry cafe;
+    private CatalogEntry acucar;
+    private CatalogEntry cafeteira;
+
+    @BeforeEach
+    void setUp() {
+        changeDetector = new StockChangeDetector();
+        index = new ProductNameSearchIndex(changeDetector);
+        cafe = entry("Café Torrado e Moído");
+        acucar = entry("Açúcar Cristal");
+        cafeteira = entry("Cafeteira Elétrica");
+        changeDetector.publish(null, cafe);
+        changeDetector.publish(null, acucar);
+        changeDetector.publish(null, cafeteira);
+    }
+
+    @Test
+    @DisplayName("Deve encontrar produtos ignorando maiúsculas e acentos")
+    void shouldFindIgnoringCaseAndAccents() {
+        // When
+        List<CatalogEntry> result = index.search("CAFE", 20);
+        List<CatalogEntry> accentResult = index.search("acúcar", 20);
+
+        // Then
+        assertThat(result).extracting(CatalogEntry::getProductName)
+                .containsExactly("Café Torrado e Moído", "Cafeteira Elétrica");
+        assertThat(accentResult).extracting(CatalogEntry::getProductName)
+                .containsExactly("Açúcar Cristal");
+    }
+
+    @Test
+    @DisplayName("Deve encontrar trecho no meio do nome")
+    void shouldFindSubstringInTheMiddleOfName() {
+        // When
+        List<CatalogEntry> result = index.search("eletri", 20);
+
+        // Then
+        assertThat(result).extracting(CatalogEntry::getProductName).containsExactly("Cafeteira Elétrica");
+    }
+
+    @Test
+    @DisplayName("Deve casar consultas de 2 caracteres apenas com início de palavras")
+    void shouldMatchTwoCharacterQueriesAtWordStart() {
+        // When
+        List<CatalogEntry> result = index.search("mo", 20);
+        List<CatalogEntry> noMatch = index.search("ru", 20);
+
+        // Then
+        assertThat(result).extracting(CatalogEntry::getProductName).containsExactly("Café Torrado e Moído");
+        assertThat(noMatch).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Não deve retornar falso positivo quando os trigramas existem fora de sequência")
+    void shouldNotReturnFalsePositiveForScatteredTrigrams() {
+        // Given - "baba" contém os trigramas "aba" e "bab", mas não o trecho "abab"
+        changeDetector.publish(null, entry("Baba de Moça"));
+
+        // When
+        List<CatalogEntry> result = index.search("abab", 20);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o índice incrementalmente quando o nome muda ou o produto é removido")
+    void shouldUpdateIncrementally() {
+        // When
+        CatalogEntry renamed = new CatalogEntry(cafe.getProductId(), "Chá Mate", 10, LocalDateTime.now());
+        changeDetector.publish(cafe, renamed);
+        changeDetector.publish(cafeteira, null);
+
+        // Then
+        assertThat(index.search("cafe", 20)).isEmpty();
+        assertThat(index.search("cha", 20)).extracting(CatalogEntry::getProductName).containsExactly("Chá Mate");
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar identificadores internos e respeitar o limite de resultados")
+    void shouldReuseDocIdsAndRespectLimit() {
+        // Given
+        changeDetector.publish(cafe, null);
+        for (int i = 0; i < 10; i++) {
+            changeDetector.publish(null, entry("Café Especial " + i));
+        }
+
+        // When
+        List<CatalogEntry> result = index.search("cafe esp", 5);
+
+        // Then
+        assertThat(result).hasSize(5);
+        assertThat(index.search("cafe esp", 50)).hasSize(10);
+        assertThat(index.search("torrado", 20)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar consultas com menos de 2 caracteres")
+    void shouldRejectShortQueries() {
+        assertThatThrownBy(() -> index.search(" a ", 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("pelo menos 2 caracteres");
+    }
+
+    @Test
+    @DisplayName("Deve substituir o documento quando ADDED chega para produto já indexado")
+    void shouldReplaceDocumentWhenAddedArrivesForIndexedProduct() {
+        // Given
+        CatalogEntry renamed = new CatalogEntry(cafe.getProductId(), "Café Especial Torrado", 7, LocalDateTime.now());
+
+        // When
+        changeDetector.publish(null, cafe);
+        changeDetector.publish(null, renamed);
+
+        // Then
+        assertThat(index.search("torrado", 20)).extracting(CatalogEntry::getProductName)
+                .containsExactly("Café Especial Torrado");
+        assertThat(index.search("moido", 20)).isEmpty();
+    }
+
+    private CatalogEntry entry(String name) {
+        return new CatalogEntry(UUID.randomUUID(), name, 10, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,58 @@
+package com.techsolution.stockquery.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InternalTokenInterceptor Tests")
+class InternalTokenInterceptorTest {
+
+    @Test
+    @DisplayName("Deve aceitar requisição interna com o token configurado")
+    void shouldAcceptRequestWithConfiguredToken() {
+        // Given
+        InternalTokenInterceptor interceptor = new InternalTokenInterceptor("segredo");
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/internal/stock-events");
+        request.addHeader(InternalTokenInterceptor.HEADER, "segredo");
+
+        // When
+        boolean proceed = interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+
+        // Then
+        assertThat(proceed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve recusar requisição interna sem o header ou com token inválido")
+    void shouldRejectRequestWithMissingOrWrongToken() {
+        // Given
+        InternalTokenInterceptor interceptor = new InternalTokenInterceptor("segredo");
+        MockHttpServletRequest missing = new MockHttpServletRequest("POST", "/internal/cache-invalidations");
+        MockHttpServletRequest wrong = new MockHttpServletRequest("POST", "/internal/cache-invalidations");
+        wrong.addHeader(InternalTokenInterceptor.HEADER, "segred0");
+
+        // When & Then
+        assertThatThrownBy(() -> interceptor.preHandle(missing, new MockHttpServletResponse(), new Object()))
+                .isInstanceOf(InternalAccessDeniedException.class);
+        assertThatThrownBy(() -> interceptor.preHandle(wrong, new MockHttpServletResponse(), new Object()))
+                .isInstanceOf(InternalAccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("Deve recusar todas as requisições internas quando nenhum token está configurado")
+    void shouldRejectEverythingWithoutConfiguredToken() {
+        // Given
+        InternalTokenInterceptor interceptor = new InternalTokenInterceptor("");
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/internal/stock-events");
+        request.addHeader(InternalTokenInterceptor.HEADER, "");
+
+        // When & Then
+        assertThatThrownBy(() -> interceptor.preHandle(request, new MockHttpServletResponse(), new Object()))
+                .isInstanceOf(InternalAccessDeniedException.class)
+                .hasMessageContaining("não configurado");
+    }
+}
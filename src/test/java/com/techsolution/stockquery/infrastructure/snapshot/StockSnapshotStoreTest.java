@@ -0,0 +1,134 @@
+package com.techsolution.stockquery.infrastructure.snapshot;
+
+import com.techsolution.stockquery.infrastructure.catalog.CatalogEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StockSnapshotStore Tests")
+class StockSnapshotStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private StockSnapshotStore store;
+    private CatalogEntry cafe;
+    private CatalogEntry semQuantidade;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("snapshots/stock-snapshot.bin");
+        store = new StockSnapshotStore(file.toString());
+        cafe = new CatalogEntry(UUID.randomUUID(), "Café Torrado", 15, 1890L, LocalDateTime.of(2024, 1, 1, 10, 0, 0));
+        semQuantidade = new CatalogEntry(UUID.randomUUID(), "Açúcar", null, null);
+    }
+
+    @Test
+    @DisplayName("Deve gravar e ler o snapshot preservando os dados")
+    void shouldWriteAndReadSnapshot() throws Exception {
+        // When
+        long bytes = store.write(List.of(cafe, semQuantidade));
+        Optional<StockSnapshot> snapshot = store.read();
+
+        // Then
+        assertThat(bytes).isEqualTo(Files.size(file));
+        assertThat(snapshot).isPresent();
+        List<CatalogEntry> entries = snapshot.get().getEntries();
+        assertThat(entries).hasSize(2);
+        assertThat(entries.get(0).getProductId()).isEqualTo(cafe.getProductId());
+        assertThat(entries.get(0).getProductName()).isEqualTo("Café Torrado");
+        assertThat(entries.get(0).getQuantityAvailable()).isEqualTo(15);
+        assertThat(entries.get(0).getPriceCents()).isEqualTo(1890L);
+        assertThat(entries.get(0).getLastUpdated()).isEqualTo(cafe.getLastUpdated());
+        assertThat(entries.get(1).getProductName()).isEqualTo("Açúcar");
+        assertThat(entries.get(1).getQuantityAvailable()).isNull();
+        assertThat(entries.get(1).getPriceCents()).isNull();
+        assertThat(entries.get(1).getLastUpdated()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve distinguir nome nulo de nome vazio na ida e volta do snapshot")
+    void shouldPreserveNullAndEmptyNames() throws Exception {
+        // Given
+        CatalogEntry semNome = new CatalogEntry(UUID.randomUUID(), null, 3, LocalDateTime.of(2024, 1, 1, 10, 0, 0));
+        CatalogEntry nomeVazio = new CatalogEntry(UUID.randomUUID(), "", 4, LocalDateTime.of(2024, 1, 1, 10, 0, 0));
+
+        // When
+        store.write(List.of(semNome, nomeVazio, cafe));
+        List<CatalogEntry> entries = store.read().orElseThrow().getEntries();
+
+        // Then
+        assertThat(entries).extracting(CatalogEntry::getProductName).containsExactly(null, "", "Café Torrado");
+        assertThat(entries.get(0).getQuantityAvailable()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve substituir o snapshot anterior sem deixar arquivos temporários")
+    void shouldReplacePreviousSnapshotAtomically() throws Exception {
+        // Given
+        store.write(List.of(cafe, semQuantidade));
+
+        // When
+        store.write(List.of(cafe));
+
+        // Then
+        assertThat(store.read().get().getEntries()).hasSize(1);
+        try (var files = Files.list(file.getParent())) {
+            assertThat(files).containsExactly(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve descartar snapshot com checksum inválido")
+    void shouldDiscardCorruptSnapshot() throws Exception {
+        // Given - altera um byte do payload
+        store.write(List.of(cafe));
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(StockSnapshotStore.HEADER_SIZE + 20);
+            raf.write(0x7F);
+        }
+
+        // When & Then
+        assertThat(store.read()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve descartar snapshot truncado ou de outra versão do formato")
+    void shouldDiscardTruncatedOrUnsupportedSnapshot() throws Exception {
+        // Given
+        store.write(List.of(cafe));
+        byte[] content = Files.readAllBytes(file);
+
+        // When - truncado
+        Files.write(file, Arrays.copyOf(content, content.length - 3));
+        Optional<StockSnapshot> truncated = store.read();
+
+        // When - versão futura do formato
+        content[7] = (byte) (StockSnapshotStore.FORMAT_VERSION + 1);
+        Files.write(file, content);
+        Optional<StockSnapshot> otherVersion = store.read();
+
+        // Then
+        assertThat(truncated).isEmpty();
+        assertThat(otherVersion).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando não há snapshot")
+    void shouldReturnEmptyWhenSnapshotIsMissing() {
+        assertThat(store.read()).isEmpty();
+    }
+}
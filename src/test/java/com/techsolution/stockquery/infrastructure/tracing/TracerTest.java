@@ -0,0 +1,103 @@
+package com.techsolution.stockquery.infrastructure.tracing;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tracer Tests")
+class TracerTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PARENT_ID = "00f067aa0ba902b7";
+
+    @Test
+    @DisplayName("Deve continuar o trace recebido e registrar spans filhos abertos em outras threads")
+    @SuppressWarnings("unchecked")
+    void shouldContinueIncomingTraceAcrossThreads() throws Exception {
+        // Given
+        Tracer tracer = new Tracer(true, 0.0, 10, 100, "");
+        Span root = tracer.startRequest("GET /stock", "00-" + TRACE_ID + "-" + PARENT_ID + "-01");
+
+        // When
+        Span crawl = Span.start("crawl");
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(Span.propagate(() -> {
+                Span.start("page").tag("page", 0).end();
+                return null;
+            })).get();
+        }
+        crawl.end();
+        root.end();
+
+        // Then
+        Map<String, Object> trace = tracer.findTrace(TRACE_ID).orElseThrow();
+        List<Map<String, Object>> spans = (List<Map<String, Object>>) trace.get("spans");
+        assertThat(spans).extracting(span -> span.get("name")).containsExactly("GET /stock", "crawl", "page");
+        assertThat(spans.get(0).get("parentSpanId")).isEqualTo(PARENT_ID);
+        assertThat(spans.get(1).get("parentSpanId")).isEqualTo(root.getSpanId());
+        assertThat(spans.get(2).get("parentSpanId")).isEqualTo(crawl.getSpanId());
+        assertThat(Span.current().isRecording()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve respeitar a amostragem da origem e ignorar traceparent inválido")
+    void shouldHonourSamplingDecisionAndRejectInvalidHeader() {
+        // Given
+        Tracer tracer = new Tracer(true, 1.0, 10, 100, "");
+
+        // When
+        Span notSampled = tracer.startRequest("GET /stocks", "00-" + TRACE_ID + "-" + PARENT_ID + "-00");
+        notSampled.end();
+        Span invalid = tracer.startRequest("GET /stocks", "00-" + TRACE_ID.toUpperCase() + "-" + PARENT_ID + "-01");
+        invalid.end();
+
+        // Then
+        assertThat(notSampled.isRecording()).isFalse();
+        assertThat(invalid.isRecording()).isTrue();
+        assertThat(invalid.getTraceId()).hasSize(32).isNotEqualTo(TRACE_ID);
+        assertThat(tracer.recentTraces()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Deve propagar traceparent nas chamadas do Feign e gravar o trace em arquivo")
+    void shouldPropagateTraceparentAndExportToFile(@TempDir Path directory) throws Exception {
+        // Given
+        Path file = directory.resolve("traces/traces.jsonl");
+        Tracer tracer = new Tracer(true, 1.0, 10, 100, file.toString());
+        AtomicReference<String> sentTraceparent = new AtomicReference<>();
+        Client client = new TracingCapability().enrich((Client) (request, options) -> {
+            sentTraceparent.set(request.headers().get(Span.TRACEPARENT).iterator().next());
+            return Response.builder().status(200).request(request).headers(Map.of()).build();
+        });
+        Request request = Request.create(Request.HttpMethod.GET, "http://product-service/products?page=0&size=20",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+
+        // When
+        Span root = tracer.startRequest("GET /stock", null);
+        client.execute(request, new Request.Options());
+        root.end();
+        tracer.export();
+
+        // Then
+        assertThat(sentTraceparent.get()).startsWith("00-" + root.getTraceId() + "-").endsWith("-01")
+                .doesNotContain(root.getSpanId());
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0)).contains(root.getTraceId(), "\"http.status_code\":200",
+                "\"http.url\":\"http://product-service/products?page=0&size=20\"");
+    }
+}
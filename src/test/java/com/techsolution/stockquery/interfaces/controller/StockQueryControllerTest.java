@@ -2,9 +2,14 @@ package com.techsolution.stockquery.interfaces.controller;
 
 import com.techsolution.stockquery.application.dto.PageResponseDTO;
 import com.techsolution.stockquery.application.dto.StockViewDTO;
+import com.techsolution.stockquery.application.service.StockCatalogService;
 import com.techsolution.stockquery.application.service.StockQueryService;
+import com.techsolution.stockquery.application.service.StockSummaryService;
+import com.techsolution.stockquery.domain.model.StockFilter;
+import com.techsolution.stockquery.domain.model.StockSort;
 import com.techsolution.stockquery.domain.model.StockView;
 import com.techsolution.stockquery.infrastructure.client.PageResponse;
+import com.techsolution.stockquery.infrastructure.latency.LatencyRecorders;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +26,10 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +39,15 @@ class StockQueryControllerTest {
     @Mock
     private StockQueryService stockQueryService;
 
+    @Mock
+    private StockCatalogService stockCatalogService;
+
+    @Mock
+    private StockSummaryService stockSummaryService;
+
+    @Mock
+    private LatencyRecorders latencyRecorders;
+
     @InjectMocks
     private StockQueryController stockQueryController;
 
@@ -127,7 +145,7 @@ class StockQueryControllerTest {
 
         // When
         ResponseEntity<PageResponseDTO<StockViewDTO>> response = 
-                stockQueryController.getAllStocksPaginated(0, 20);
+                stockQueryController.getAllStocksPaginated(0, 20, null, null, null, null, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -155,7 +173,7 @@ class StockQueryControllerTest {
 
         // When
         ResponseEntity<PageResponseDTO<StockViewDTO>> response = 
-                stockQueryController.getAllStocksPaginated(null, null);
+                stockQueryController.getAllStocksPaginated(null, null, null, null, null, null, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -174,12 +192,69 @@ class StockQueryControllerTest {
 
         // When - page negativo e size maior que 100
         ResponseEntity<PageResponseDTO<StockViewDTO>> response = 
-                stockQueryController.getAllStocksPaginated(-1, 150);
+                stockQueryController.getAllStocksPaginated(-1, 150, null, null, null, null, null);
 
         // Then - deve corrigir para valores válidos
         verify(stockQueryService, times(1)).findStocksPaginated(0, 20);
     }
 
+    @Test
+    @DisplayName("GET /stocks - Deve consultar catálogo local quando filtros são informados")
+    void shouldQueryLocalCatalogWhenFiltersProvided() {
+        // Given
+        PageResponse<StockView> pageResponse = new PageResponse<>(
+                List.of(stockView2), 0, 20, 1L, 1, true, true
+        );
+        when(stockQueryService.getMinimumStockLimit()).thenReturn(10);
+        when(stockCatalogService.findStocks(any(StockFilter.class), eq(0), eq(20))).thenReturn(pageResponse);
+
+        // When
+        ResponseEntity<PageResponseDTO<StockViewDTO>> response =
+                stockQueryController.getAllStocksPaginated(0, 20, null, null, true, "prod", "quantityAvailable,desc");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getContent()).hasSize(1);
+        assertThat(response.getBody().getTotalElements()).isEqualTo(1L);
+        verify(stockCatalogService, times(1)).findStocks(argThat(filter ->
+                filter.getMaxQuantity() == 9
+                        && "prod".equals(filter.getNamePrefix())
+                        && filter.getSort() == StockSort.QUANTITY_AVAILABLE
+                        && filter.isDescending()), eq(0), eq(20));
+        verify(stockQueryService, never()).findStocksPaginated(any(), any());
+    }
+
+    @Test
+    @DisplayName("GET /stocks - Deve rejeitar campo de ordenação inválido")
+    void shouldRejectInvalidSortField() {
+        // Given
+        when(stockQueryService.getMinimumStockLimit()).thenReturn(10);
+
+        // When/Then
+        assertThatThrownBy(() -> stockQueryController.getAllStocksPaginated(0, 20, null, null, null, null, "price"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Campo de ordenação inválido");
+        verify(stockCatalogService, never()).findStocks(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /stocks/search - Deve buscar estoques pelo nome")
+    void shouldSearchStocksByName() {
+        // Given
+        when(stockCatalogService.searchByName("prod", 20)).thenReturn(List.of(stockView1, stockView2));
+        when(stockQueryService.getMinimumStockLimit()).thenReturn(10);
+
+        // When
+        ResponseEntity<List<StockViewDTO>> response = stockQueryController.searchStocks("prod", null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).extracting(StockViewDTO::getProductName)
+                .containsExactly("Produto 1", "Produto 2");
+        verify(stockCatalogService, times(1)).searchByName("prod", 20);
+    }
+
     @Test
     @DisplayName("GET /stock - Deve retornar todos os estoques (carregamento completo)")
     void shouldGetAllStocksComplete() {